@@ -339,7 +339,7 @@ public final class BindingGraphFactory {
       checkArgument(binding.kind() == INJECTION || binding.kind() == ASSISTED_INJECTION);
       if (!rootComponent().isSubcomponent()
           || !binding.scope().isPresent()
-          || binding.scope().get().isReusable()) {
+          || binding.scope().get().isUsableInAnyComponent()) {
         return true;
       }
 
@@ -439,9 +439,10 @@ public final class BindingGraphFactory {
         }
       }
 
-      if (binding.scope().isPresent() && binding.scope().get().isReusable()) {
+      if (binding.scope().isPresent() && binding.scope().get().isUsableInAnyComponent()) {
         for (Resolver requestResolver : getResolverLineage().reverse()) {
-          // If a @Reusable binding was resolved in an ancestor, use that component.
+          // If a @Reusable or @ThreadScoped binding was resolved in an ancestor, use that
+          // component.
           ResolvedBindings resolvedBindings =
               requestResolver.resolvedContributionBindings.get(binding.key());
           if (resolvedBindings != null && resolvedBindings.bindings().contains(binding)) {
@@ -808,7 +809,7 @@ public final class BindingGraphFactory {
       }
 
       private boolean isScopedToComponent(BindingNode binding) {
-        return binding.scope().isPresent() && !binding.scope().get().isReusable();
+        return binding.scope().isPresent() && !binding.scope().get().isUsableInAnyComponent();
       }
 
       private boolean isMissingBinding(Node binding) {
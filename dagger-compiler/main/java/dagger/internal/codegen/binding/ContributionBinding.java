@@ -37,6 +37,7 @@ import dagger.internal.codegen.model.BindingKind;
 import dagger.internal.codegen.model.Key;
 import dagger.internal.codegen.model.Scope;
 import dagger.internal.codegen.xprocessing.Nullability;
+import dagger.internal.codegen.xprocessing.XTypeNames;
 import dagger.internal.codegen.xprocessing.XTypes;
 import java.util.Optional;
 
@@ -65,6 +66,37 @@ public abstract class ContributionBinding extends Binding implements HasContribu
     return bindingElement().flatMap(MapKeys::getMapKey);
   }
 
+  /**
+   * Returns the {@code maxSize} of the {@code @Pooled} annotation if this is an {@code @Inject} or
+   * {@code @Provides} binding whose instances are pooled.
+   */
+  public final Optional<Integer> poolSize() {
+    Optional<? extends XElement> annotatedElement;
+    switch (kind()) {
+      case INJECTION:
+        annotatedElement = bindingTypeElement();
+        break;
+      case PROVISION:
+        annotatedElement = bindingElement();
+        break;
+      default:
+        return Optional.empty();
+    }
+    return annotatedElement
+        .flatMap(element -> Optional.ofNullable(element.getAnnotation(XTypeNames.POOLED)))
+        .map(pooled -> pooled.getAsInt("maxSize"));
+  }
+
+  /**
+   * Returns {@code true} if this is the binding for a {@code dagger.pooling.Releaser}. Components
+   * call its constructor directly, even for {@code Provider<Releaser<T>>} requests, so it never
+   * has a generated factory.
+   */
+  public final boolean isReleaser() {
+    return kind().equals(BindingKind.INJECTION)
+        && XTypes.isTypeOf(key().type().xprocessing(), XTypeNames.RELEASER);
+  }
+
   /** If {@link #bindingElement()} is a method that returns a primitive type, returns that type. */
   public final Optional<XType> contributedPrimitiveType() {
     return bindingElement()
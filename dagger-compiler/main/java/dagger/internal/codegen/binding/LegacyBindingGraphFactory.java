@@ -453,7 +453,7 @@ public final class LegacyBindingGraphFactory {
       checkArgument(binding.kind() == INJECTION || binding.kind() == ASSISTED_INJECTION);
       if (!rootComponent().isSubcomponent()
           || !binding.scope().isPresent()
-          || binding.scope().get().isReusable()) {
+          || binding.scope().get().isUsableInAnyComponent()) {
         return true;
       }
 
@@ -589,9 +589,10 @@ public final class LegacyBindingGraphFactory {
         }
       }
 
-      if (binding.scope().isPresent() && binding.scope().get().isReusable()) {
+      if (binding.scope().isPresent() && binding.scope().get().isUsableInAnyComponent()) {
         for (Resolver requestResolver : getResolverLineage().reverse()) {
-          // If a @Reusable binding was resolved in an ancestor, use that component.
+          // If a @Reusable or @ThreadScoped binding was resolved in an ancestor, use that
+          // component.
           LegacyResolvedBindings resolvedBindings =
               requestResolver.resolvedContributionBindings.get(binding.key());
           if (resolvedBindings != null && resolvedBindings.bindings().contains(binding)) {
@@ -831,7 +832,7 @@ public final class LegacyBindingGraphFactory {
       }
 
       private boolean requiresResolutionUncached(Binding binding) {
-        if ((!binding.scope().isPresent() || binding.scope().get().isReusable())
+        if ((!binding.scope().isPresent() || binding.scope().get().isUsableInAnyComponent())
             // TODO(beder): Figure out what happens with production subcomponents.
             && !binding.kind().equals(BindingKind.PRODUCTION)) {
           for (DependencyRequest dependency : binding.dependencies()) {
@@ -76,7 +76,7 @@ final class IncompatiblyScopedBindingsValidator extends ValidationBindingGraphPl
 
   private static boolean hasIncompatibleScope(BindingGraph bindingGraph, Binding binding) {
     if (binding.scope().isEmpty()
-            || binding.scope().get().isReusable()
+            || binding.scope().get().isUsableInAnyComponent()
             // @Inject bindings in module or subcomponent binding graphs will appear at the
             // properly scoped ancestor component, so ignore them here.
             || (binding.kind() == INJECTION && isSubcomponentOrModuleRoot(bindingGraph))) {
@@ -157,4 +157,149 @@ public abstract class CompilerOptions {
    * for {@code Foo<? extends Bar>} and {@code Foo<Bar>} would result in a duplicate binding error.
    */
   public abstract boolean ignoreProvisionKeyWildcards();
+
+  /**
+   * Returns {@code true} if scoped bindings should be memoized with {@code LockFreeDoubleCheck}
+   * rather than {@code DoubleCheck}.
+   *
+   * <p>{@code LockFreeDoubleCheck} never holds a monitor while calling the delegate provider, so
+   * threads waiting for a scoped instance to be initialized do not pin virtual threads or convoy
+   * on the monitor.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean useLockFreeDoubleCheck();
+
+  /**
+   * Returns {@code true} if scoped bindings should be memoized with {@code
+   * ReentrantLockDoubleCheck} rather than {@code DoubleCheck}.
+   *
+   * <p>{@code ReentrantLockDoubleCheck} guards initialization with a {@code ReentrantLock}, so a
+   * virtual thread waiting for a slow scoped binding unmounts instead of pinning its carrier thread.
+   *
+   * <p>The default value is {@code false}. This cannot be combined with {@link
+   * #useLockFreeDoubleCheck()}.
+   */
+  public abstract boolean useReentrantLockDoubleCheck();
+
+  /**
+   * Returns {@code true} if generated components should report each {@code @Inject} constructor and
+   * {@code @Provides} method call to the installed {@code dagger.monitoring.ProvisionMonitor}.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean provisionMonitoring();
+
+  /**
+   * Returns {@code true} if generated root components should have a static {@code
+   * initializeSingletons(component, executor)} method that creates the component's scoped bindings
+   * concurrently, in dependency order.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean parallelSingletonInitialization();
+
+  /**
+   * Returns {@code true} if fast-init components should store the instances of scoped injection
+   * and provision bindings in an array per shard instead of wrapping a {@code SwitchingProvider} in
+   * a {@code DoubleCheck} for each binding.
+   *
+   * <p>This option has no effect unless {@link #fastInit(XTypeElement)} is enabled. When it is,
+   * this option takes precedence over {@link #useLockFreeDoubleCheck()} and {@link
+   * #useReentrantLockDoubleCheck()} for the bindings stored in slots; those options still apply to
+   * the other scoped bindings, such as scoped {@code @Binds}.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean scopedInstanceSlots();
+
+  /**
+   * Returns {@code true} if each component shard should be created on the first request for a
+   * binding it owns rather than in the component constructor.
+   *
+   * <p>Shards are only created when a binding they own is first requested, so cold start only loads
+   * the shard classes reached by the first entry points. This option has no effect on production
+   * components.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean lazyComponentShards();
+
+  /**
+   * Returns {@code true} if a {@code <GeneratedComponent>_Footprint.json} resource should be
+   * written next to each generated component.
+   *
+   * <p>The report lists the framework objects (e.g. {@code Provider}s, {@code DoubleCheck}s and
+   * shards) that the generated component retains for each binding, with an estimate of their
+   * shallow size. {@code dagger.monitoring.ComponentFootprint} uses it to report the instances a
+   * live component retains by key.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean componentFootprintReport();
+
+  /**
+   * Returns {@code true} if members injection should assign {@code @Inject} fields and call
+   * {@code @Inject} methods directly when they are accessible from the generated class, rather than
+   * calling the static {@code inject} method of the {@code MembersInjector} for each of them.
+   *
+   * <p>The static methods are still generated, and are called for members that are not accessible
+   * from the generated class, e.g. fields of a superclass in another package.
+   *
+   * <p>The default value is {@code false}.
+   */
+  public abstract boolean fusedMembersInjection();
+
+  /**
+   * Returns the maximum number of cases in each {@code switch} of a fast-init {@code
+   * SwitchingProvider}.
+   *
+   * <p>The default of 100 keeps methods well below the size at which some versions of Android stop
+   * AOT compiling them (b/77652521). Server JVMs can use larger switches, but HotSpot does not JIT
+   * compile methods over 8000 bytes of bytecode, so each case's construction expression counts
+   * against that budget.
+   */
+  public int switchingProviderCasesPerSwitch() {
+    return 100;
+  }
+
+  /**
+   * Returns the estimated number of bytecode bytes up to which the creation of an unscoped
+   * {@code @Inject} or {@code @Provides} binding, including the creation of the unscoped bindings
+   * it depends on, is inlined into the methods that request it instead of being wrapped in its own
+   * private method.
+   *
+   * <p>Each private method adds a frame to the call chain that creates an instance, and HotSpot
+   * stops inlining deep chains after {@code MaxInlineLevel} frames or methods larger than {@code
+   * FreqInlineSize} (325 bytes by default), so a budget around that size flattens small creation
+   * chains into a single method.
+   *
+   * <p>The default value is 0, which wraps the creation of every binding with dependencies in a
+   * method.
+   */
+  public int inlineInstanceCreationBudget() {
+    return 0;
+  }
+
+  /**
+   * Returns how fast-init {@code SwitchingProvider} classes dispatch on their switch id.
+   *
+   * <p>The default value is {@link SwitchingProviderDispatch#NESTED}.
+   */
+  public SwitchingProviderDispatch switchingProviderDispatch() {
+    return SwitchingProviderDispatch.NESTED;
+  }
+
+  /**
+   * Returns the startup profile passed with {@code -Adagger.startupProfile=<path>}.
+   *
+   * <p>Bindings listed in the profile, and the bindings they depend on, are placed in the first
+   * component shards and in their own fast-init {@code SwitchingProvider} classes, and the entry
+   * points that request them are implemented first. This groups the classes loaded during startup.
+   *
+   * <p>The default value is an empty profile.
+   */
+  public StartupProfile startupProfile() {
+    return StartupProfile.empty();
+  }
 }
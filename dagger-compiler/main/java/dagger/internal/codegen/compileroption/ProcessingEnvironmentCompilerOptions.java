@@ -22,25 +22,34 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.collect.Sets.immutableEnumSet;
 import static dagger.internal.codegen.compileroption.FeatureStatus.DISABLED;
 import static dagger.internal.codegen.compileroption.FeatureStatus.ENABLED;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.COMPONENT_FOOTPRINT_REPORT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_AHEAD_OF_TIME_SUBCOMPONENTS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_ANDROID_MODE;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.EXPERIMENTAL_DAGGER_ERROR_MESSAGES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FAST_INIT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FLOATING_BINDS_METHODS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FORMAT_GENERATED_SOURCE;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.FUSED_MEMBERS_INJECTION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.GENERATED_CLASS_EXTENDS_COMPONENT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.IGNORE_PROVISION_KEY_WILDCARDS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.INCLUDE_STACKTRACE_WITH_DEFERRED_ERROR_MESSAGES;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.LAZY_COMPONENT_SHARDS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PARALLEL_SINGLETON_INITIALIZATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PLUGINS_VISIT_FULL_BINDING_GRAPHS;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.PROVISION_MONITORING;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.SCOPED_INSTANCE_SLOTS;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_MULTIBINDING_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.STRICT_SUPERFICIAL_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_BINDING_GRAPH_FIX;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_FRAMEWORK_TYPE_IN_MAP_MULTIBINDING_CONTRIBUTION_KEY;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_LOCK_FREE_DOUBLE_CHECK;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.USE_REENTRANT_LOCK_DOUBLE_CHECK;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.WARN_IF_INJECTION_FACTORY_NOT_GENERATED_UPSTREAM;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Feature.WRITE_PRODUCER_NAME_IN_TOKEN;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.KeyOnlyOption.HEADER_COMPILATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.KeyOnlyOption.USE_GRADLE_INCREMENTAL_PROCESSING;
+import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.SwitchingProviderOption.SWITCHING_PROVIDER_DISPATCH;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Validation.DISABLE_INTER_COMPONENT_SCOPE_VALIDATION;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Validation.EXPLICIT_BINDING_CONFLICTS_WITH_INJECT;
 import static dagger.internal.codegen.compileroption.ProcessingEnvironmentCompilerOptions.Validation.FULL_BINDING_GRAPH_VALIDATION;
@@ -52,6 +61,7 @@ import static dagger.internal.codegen.compileroption.ValidationType.ERROR;
 import static dagger.internal.codegen.compileroption.ValidationType.NONE;
 import static dagger.internal.codegen.compileroption.ValidationType.WARNING;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Stream.concat;
 
@@ -62,6 +72,10 @@ import com.google.common.base.Ascii;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -74,13 +88,20 @@ import javax.tools.Diagnostic;
 
 /** {@link CompilerOptions} for the given processor. */
 public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions {
-  // EnumOption<T> doesn't support integer inputs so just doing this as a 1-off for now.
+  // EnumOption<T> doesn't support integer inputs so these are parsed as 1-offs for now.
   private static final String KEYS_PER_COMPONENT_SHARD = "dagger.keysPerComponentShard";
+  private static final String SWITCHING_PROVIDER_CASES_PER_SWITCH =
+      "dagger.switchingProviderCasesPerSwitch";
+  private static final String STARTUP_PROFILE = "dagger.startupProfile";
+  private static final String INLINE_INSTANCE_CREATION_BUDGET =
+      "dagger.inlineInstanceCreationBudget";
 
   private final XProcessingEnv processingEnv;
   private final XMessager messager;
   private final Map<String, String> options;
   private final Map<EnumOption<?>, Object> enumOptions = new HashMap<>();
+  private final Map<String, Optional<Integer>> intOptions = new HashMap<>();
+  private StartupProfile startupProfile;
   private final Map<EnumOption<?>, ImmutableMap<String, ? extends Enum<?>>> allCommandLineOptions =
       new HashMap<>();
 
@@ -209,6 +230,46 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return isEnabled(USE_BINDING_GRAPH_FIX);
   }
 
+  @Override
+  public boolean useLockFreeDoubleCheck() {
+    return isEnabled(USE_LOCK_FREE_DOUBLE_CHECK);
+  }
+
+  @Override
+  public boolean useReentrantLockDoubleCheck() {
+    return isEnabled(USE_REENTRANT_LOCK_DOUBLE_CHECK);
+  }
+
+  @Override
+  public boolean provisionMonitoring() {
+    return isEnabled(PROVISION_MONITORING);
+  }
+
+  @Override
+  public boolean parallelSingletonInitialization() {
+    return isEnabled(PARALLEL_SINGLETON_INITIALIZATION);
+  }
+
+  @Override
+  public boolean scopedInstanceSlots() {
+    return isEnabled(SCOPED_INSTANCE_SLOTS);
+  }
+
+  @Override
+  public boolean lazyComponentShards() {
+    return isEnabled(LAZY_COMPONENT_SHARDS);
+  }
+
+  @Override
+  public boolean componentFootprintReport() {
+    return isEnabled(COMPONENT_FOOTPRINT_REPORT);
+  }
+
+  @Override
+  public boolean fusedMembersInjection() {
+    return isEnabled(FUSED_MEMBERS_INJECTION);
+  }
+
   @Override
   public int keysPerComponentShard(XTypeElement component) {
     if (options.containsKey(KEYS_PER_COMPONENT_SHARD)) {
@@ -220,6 +281,47 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return super.keysPerComponentShard(component);
   }
 
+  @Override
+  public int switchingProviderCasesPerSwitch() {
+    return parsePositiveInt(SWITCHING_PROVIDER_CASES_PER_SWITCH)
+        .orElse(super.switchingProviderCasesPerSwitch());
+  }
+
+  @Override
+  public int inlineInstanceCreationBudget() {
+    return parsePositiveInt(INLINE_INSTANCE_CREATION_BUDGET)
+        .orElse(super.inlineInstanceCreationBudget());
+  }
+
+  @Override
+  public SwitchingProviderDispatch switchingProviderDispatch() {
+    return parseOption(SWITCHING_PROVIDER_DISPATCH);
+  }
+
+  @Override
+  public StartupProfile startupProfile() {
+    if (startupProfile == null) {
+      startupProfile = readStartupProfile();
+    }
+    return startupProfile;
+  }
+
+  private StartupProfile readStartupProfile() {
+    if (!options.containsKey(STARTUP_PROFILE)) {
+      return StartupProfile.empty();
+    }
+    String path = options.get(STARTUP_PROFILE);
+    try {
+      return StartupProfile.parse(Files.readAllLines(Paths.get(path), UTF_8));
+    } catch (IOException | InvalidPathException e) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          String.format(
+              "Processor option -A%s could not be read from %s: %s", STARTUP_PROFILE, path, e));
+      return StartupProfile.empty();
+    }
+  }
+
   private boolean isEnabled(KeyOnlyOption keyOnlyOption) {
     return options.containsKey(keyOnlyOption.toString());
   }
@@ -240,10 +342,30 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     for (Validation validation : Validation.values()) {
       parseOption(validation);
     }
+    parseOption(SWITCHING_PROVIDER_DISPATCH);
+    parsePositiveInt(SWITCHING_PROVIDER_CASES_PER_SWITCH);
+    parsePositiveInt(INLINE_INSTANCE_CREATION_BUDGET);
+    startupProfile();
     noLongerRecognized(EXPERIMENTAL_ANDROID_MODE);
     noLongerRecognized(FLOATING_BINDS_METHODS);
     noLongerRecognized(EXPERIMENTAL_AHEAD_OF_TIME_SUBCOMPONENTS);
     noLongerRecognized(USE_GRADLE_INCREMENTAL_PROCESSING);
+    if (isEnabled(USE_LOCK_FREE_DOUBLE_CHECK) && isEnabled(USE_REENTRANT_LOCK_DOUBLE_CHECK)) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR,
+          String.format(
+              "Only one of -A%s and -A%s may be enabled.",
+              USE_LOCK_FREE_DOUBLE_CHECK, USE_REENTRANT_LOCK_DOUBLE_CHECK));
+    }
+    if (isEnabled(SCOPED_INSTANCE_SLOTS)
+        && (isEnabled(USE_LOCK_FREE_DOUBLE_CHECK) || isEnabled(USE_REENTRANT_LOCK_DOUBLE_CHECK))) {
+      messager.printMessage(
+          Diagnostic.Kind.WARNING,
+          String.format(
+              "-A%s takes precedence over -A%s and -A%s in fast-init components: scoped injection "
+                  + "and provision bindings are stored in slots rather than in a double check.",
+              SCOPED_INSTANCE_SLOTS, USE_LOCK_FREE_DOUBLE_CHECK, USE_REENTRANT_LOCK_DOUBLE_CHECK));
+    }
     if (processingEnv.getBackend() == XProcessingEnv.Backend.KSP
         && !isEnabled(IGNORE_PROVISION_KEY_WILDCARDS)) {
       processingEnv.getMessager().printMessage(
@@ -348,7 +470,23 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
 
     IGNORE_PROVISION_KEY_WILDCARDS(ENABLED),
 
-    VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED)
+    VALIDATE_TRANSITIVE_COMPONENT_DEPENDENCIES(ENABLED),
+
+    USE_LOCK_FREE_DOUBLE_CHECK,
+
+    USE_REENTRANT_LOCK_DOUBLE_CHECK,
+
+    PROVISION_MONITORING,
+
+    PARALLEL_SINGLETON_INITIALIZATION,
+
+    SCOPED_INSTANCE_SLOTS,
+
+    LAZY_COMPONENT_SHARDS,
+
+    COMPONENT_FOOTPRINT_REPORT,
+
+    FUSED_MEMBERS_INJECTION,
     ;
 
     final FeatureStatus defaultValue;
@@ -436,6 +574,27 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     }
   }
 
+  /** How fast-init {@code SwitchingProvider} classes are laid out. */
+  enum SwitchingProviderOption implements EnumOption<SwitchingProviderDispatch> {
+    SWITCHING_PROVIDER_DISPATCH,
+    ;
+
+    @Override
+    public SwitchingProviderDispatch defaultValue() {
+      return SwitchingProviderDispatch.NESTED;
+    }
+
+    @Override
+    public Set<SwitchingProviderDispatch> validValues() {
+      return EnumSet.allOf(SwitchingProviderDispatch.class);
+    }
+
+    @Override
+    public String toString() {
+      return optionName(this);
+    }
+  }
+
   private static String optionName(Enum<? extends EnumOption<?>> option) {
     return "dagger." + UPPER_UNDERSCORE.to(LOWER_CAMEL, option.name());
   }
@@ -446,11 +605,17 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return ImmutableSet.<String>builder()
         .addAll(
             Stream.<CommandLineOption[]>of(
-                KeyOnlyOption.values(), Feature.values(), Validation.values())
+                KeyOnlyOption.values(),
+                Feature.values(),
+                Validation.values(),
+                SwitchingProviderOption.values())
             .flatMap(Arrays::stream)
             .flatMap(CommandLineOption::allNames)
             .collect(toImmutableSet()))
         .add(KEYS_PER_COMPONENT_SHARD)
+        .add(SWITCHING_PROVIDER_CASES_PER_SWITCH)
+        .add(STARTUP_PROFILE)
+        .add(INLINE_INSTANCE_CREATION_BUDGET)
         .build();
   }
 
@@ -549,6 +714,34 @@ public final class ProcessingEnvironmentCompilerOptions extends CompilerOptions
     return Optional.empty();
   }
 
+  /**
+   * Returns the positive integer value of the option, or empty if it is not set. Reports an error
+   * if the value is not a positive integer.
+   */
+  private Optional<Integer> parsePositiveInt(String key) {
+    return intOptions.computeIfAbsent(key, this::parsePositiveIntUncached);
+  }
+
+  private Optional<Integer> parsePositiveIntUncached(String key) {
+    if (!options.containsKey(key)) {
+      return Optional.empty();
+    }
+    String stringValue = options.get(key);
+    try {
+      int value = Integer.parseInt(String.valueOf(stringValue));
+      if (value > 0) {
+        return Optional.of(value);
+      }
+    } catch (NumberFormatException e) {
+      // handled below
+    }
+    messager.printMessage(
+        Diagnostic.Kind.ERROR,
+        String.format(
+            "Processor option -A%s must be a positive integer, found: %s", key, stringValue));
+    return Optional.empty();
+  }
+
   private Stream<String> getUsedNames(CommandLineOption option) {
     return option.allNames().filter(options::containsKey);
   }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.compileroption;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The binding keys that a startup profile lists as used during startup, in the order they were
+ * first provisioned.
+ *
+ * <p>A profile is a text file with one key per line, in the form of {@code Key#toString()}, e.g.
+ * {@code @javax.inject.Named("foo") java.lang.String}. Blank lines and lines starting with {@code
+ * #} are ignored. {@code dagger.monitoring.StartupProfileRecorder} writes this format.
+ */
+public final class StartupProfile {
+  private static final StartupProfile EMPTY = new StartupProfile(ImmutableMap.of());
+
+  /** Returns a profile that lists no keys. */
+  public static StartupProfile empty() {
+    return EMPTY;
+  }
+
+  /** Parses the lines of a startup profile. */
+  static StartupProfile parse(Iterable<String> lines) {
+    Map<String, Integer> ranks = new HashMap<>();
+    for (String line : lines) {
+      String key = line.trim();
+      if (!key.isEmpty() && !key.startsWith("#")) {
+        ranks.putIfAbsent(key, ranks.size());
+      }
+    }
+    return new StartupProfile(ImmutableMap.copyOf(ranks));
+  }
+
+  private final ImmutableMap<String, Integer> ranks;
+
+  private StartupProfile(ImmutableMap<String, Integer> ranks) {
+    this.ranks = ranks;
+  }
+
+  /** Returns {@code true} if this profile lists no keys. */
+  public boolean isEmpty() {
+    return ranks.isEmpty();
+  }
+
+  /** Returns {@code true} if {@code key} was used during startup. */
+  public boolean contains(String key) {
+    return ranks.containsKey(key);
+  }
+
+  /**
+   * Returns the position of {@code key} in this profile, or {@link Integer#MAX_VALUE} if it was not
+   * used during startup.
+   */
+  public int rank(String key) {
+    return ranks.getOrDefault(key, Integer.MAX_VALUE);
+  }
+}
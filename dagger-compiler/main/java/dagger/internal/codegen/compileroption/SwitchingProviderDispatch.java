@@ -0,0 +1,34 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.compileroption;
+
+/** How a generated {@code SwitchingProvider} dispatches on its switch id in fast-init mode. */
+public enum SwitchingProviderDispatch {
+  /**
+   * Each {@code SwitchingProvider} routes {@code id / casesPerSwitch} to a private {@code getN()}
+   * method that holds a single switch. This keeps every method small, which matters on Android
+   * where very large methods are not AOT compiled.
+   */
+  NESTED,
+
+  /**
+   * Each {@code SwitchingProvider} holds a single switch in its {@code get()} method, and a new
+   * {@code SwitchingProvider} class is started whenever that switch is full. With a large enough
+   * case count this is a single {@code tableswitch} per shard.
+   */
+  FLAT;
+}
@@ -16,6 +16,10 @@
 
 package dagger.internal.codegen.componentgenerator;
 
+import static dagger.internal.codegen.writing.ComponentNames.getTopLevelClassName;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import androidx.room3.compiler.codegen.XClassName;
 import androidx.room3.compiler.codegen.XTypeSpec;
 import androidx.room3.compiler.processing.XElement;
 import androidx.room3.compiler.processing.XFiler;
@@ -24,20 +28,30 @@ import com.google.common.collect.ImmutableList;
 import dagger.Component;
 import dagger.internal.codegen.base.SourceFileGenerator;
 import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.writing.ComponentImplementation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import javax.inject.Inject;
 
 /** Generates the implementation of the abstract types annotated with {@link Component}. */
 final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
+  private final XFiler filer;
+  private final CompilerOptions compilerOptions;
   private final TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory;
 
   @Inject
   ComponentGenerator(
       XFiler filer,
       XProcessingEnv processingEnv,
+      CompilerOptions compilerOptions,
       TopLevelImplementationComponent.Factory topLevelImplementationComponentFactory) {
     super(filer, processingEnv);
+    this.filer = filer;
+    this.compilerOptions = compilerOptions;
     this.topLevelImplementationComponentFactory = topLevelImplementationComponentFactory;
   }
 
@@ -58,6 +72,26 @@ final class ComponentGenerator extends SourceFileGenerator<BindingGraph> {
             .parentRequirementExpressions(Optional.empty())
             .build()
             .componentImplementation();
-    return ImmutableList.of(componentImplementation.generate());
+    XTypeSpec component = componentImplementation.generate();
+    if (compilerOptions.componentFootprintReport()) {
+      writeFootprintReport(bindingGraph, componentImplementation);
+    }
+    return ImmutableList.of(component);
+  }
+
+  /** Writes the {@code dagger.componentFootprintReport} next to the generated component. */
+  private void writeFootprintReport(
+      BindingGraph bindingGraph, ComponentImplementation componentImplementation) {
+    XClassName name = getTopLevelClassName(bindingGraph.componentDescriptor());
+    Path path =
+        Paths.get(
+            name.getPackageName().replace('.', '/'), name.getSimpleName() + "_Footprint.json");
+    try (OutputStream outputStream =
+        filer.writeResource(
+            path, ImmutableList.of(originatingElement(bindingGraph)), XFiler.Mode.Isolating)) {
+      outputStream.write(componentImplementation.footprintReport().toJson(name).getBytes(UTF_8));
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
   }
 }
@@ -140,4 +140,44 @@ final class JavacPluginCompilerOptions extends CompilerOptions {
   public boolean ignoreProvisionKeyWildcards() {
     return false;
   }
+
+  @Override
+  public boolean useLockFreeDoubleCheck() {
+    return false;
+  }
+
+  @Override
+  public boolean useReentrantLockDoubleCheck() {
+    return false;
+  }
+
+  @Override
+  public boolean provisionMonitoring() {
+    return false;
+  }
+
+  @Override
+  public boolean parallelSingletonInitialization() {
+    return false;
+  }
+
+  @Override
+  public boolean scopedInstanceSlots() {
+    return false;
+  }
+
+  @Override
+  public boolean lazyComponentShards() {
+    return false;
+  }
+
+  @Override
+  public boolean componentFootprintReport() {
+    return false;
+  }
+
+  @Override
+  public boolean fusedMembersInjection() {
+    return false;
+  }
 }
@@ -53,6 +53,7 @@ public abstract class Scope {
   private static final XClassName SINGLETON = XClassName.get("jakarta.inject", "Singleton");
   private static final XClassName SINGLETON_JAVAX = XClassName.get("javax.inject", "Singleton");
   private static final XClassName REUSABLE = XClassName.get("dagger", "Reusable");
+  private static final XClassName THREAD_SCOPED = XClassName.get("dagger", "ThreadScoped");
   private static final XClassName SCOPE = XClassName.get("jakarta.inject", "Scope");
   private static final XClassName SCOPE_JAVAX = XClassName.get("javax.inject", "Scope");
 
@@ -70,6 +71,20 @@ public abstract class Scope {
     return isScope(REUSABLE);
   }
 
+  /** Returns {@code true} if this scope is the {@link dagger.ThreadScoped @ThreadScoped} scope. */
+  public final boolean isThreadScoped() {
+    return isScope(THREAD_SCOPED);
+  }
+
+  /**
+   * Returns {@code true} if bindings with this scope can be used in any component rather than only
+   * in components annotated with it, i.e. if this is {@link #isReusable() @Reusable} or {@link
+   * #isThreadScoped() @ThreadScoped}.
+   */
+  public final boolean isUsableInAnyComponent() {
+    return isReusable() || isThreadScoped();
+  }
+
   /**
    * Returns {@code true} if this scope is the {@link
    * dagger.producers.ProductionScope @ProductionScope} scope.
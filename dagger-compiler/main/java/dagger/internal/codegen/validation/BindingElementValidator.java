@@ -146,6 +146,9 @@ public abstract class BindingElementValidator<E extends XElement> {
       checkMapKeys();
       checkMultibindingAnnotations();
       checkScopes();
+      checkPooled();
+      checkDirectExecution();
+      checkTimeout();
       checkAdditionalProperties();
       checkNoJavaKeywords();
       // TODO(emjich): Add check for Kotlin keywords if useKotlinCodegen flag is true
@@ -375,6 +378,53 @@ public abstract class BindingElementValidator<E extends XElement> {
       }
     }
 
+    /**
+     * Adds an error if the element is annotated with {@code @Pooled} but is not an unscoped
+     * {@code @Provides} method, or if its {@code maxSize} is not positive.
+     */
+    private void checkPooled() {
+      XAnnotation pooled = element.getAnnotation(XTypeNames.POOLED);
+      if (pooled == null) {
+        return;
+      }
+      if (!element.hasAnnotation(XTypeNames.PROVIDES)) {
+        report.addError(bindingElements("cannot be @Pooled"), element, pooled);
+      } else if (!injectionAnnotations.getScopes(element).isEmpty()) {
+        report.addError(bindingElements("cannot be both scoped and @Pooled"), element, pooled);
+      }
+      if (pooled.getAsInt("maxSize") < 1) {
+        report.addError("@Pooled maxSize must be positive", element, pooled);
+      }
+    }
+
+    /**
+     * Adds an error if the element is annotated with {@code @DirectExecution} but is not a {@code
+     * @Produces} method.
+     */
+    private void checkDirectExecution() {
+      XAnnotation directExecution = element.getAnnotation(XTypeNames.DIRECT_EXECUTION);
+      if (directExecution != null && !element.hasAnnotation(XTypeNames.PRODUCES)) {
+        report.addError(bindingElements("cannot be @DirectExecution"), element, directExecution);
+      }
+    }
+
+    /**
+     * Adds an error if the element is annotated with {@code @Timeout} but is not a {@code
+     * @Produces} method, or if its value is not positive.
+     */
+    private void checkTimeout() {
+      XAnnotation timeout = element.getAnnotation(XTypeNames.TIMEOUT);
+      if (timeout == null) {
+        return;
+      }
+      if (!element.hasAnnotation(XTypeNames.PRODUCES)) {
+        report.addError(bindingElements("cannot be @Timeout"), element, timeout);
+      }
+      if (timeout.getAsLong("value") < 1) {
+        report.addError("@Timeout value must be positive", element, timeout);
+      }
+    }
+
     /**
      * Adds an error if the {@link #bindingElementType() type} is a {@linkplain FrameworkTypes
      * framework type}.
@@ -272,7 +272,7 @@ final class ComponentHierarchyValidator {
   private ImmutableSet<Scope> moduleScopes(ModuleDescriptor module) {
     return module.allBindingDeclarations().stream()
         .map(declaration -> injectionAnnotations.getScope(declaration.bindingElement().get()))
-        .filter(scope -> scope.isPresent() && !scope.get().isReusable())
+        .filter(scope -> scope.isPresent() && !scope.get().isUsableInAnyComponent())
         .map(Optional::get)
         .collect(toImmutableSet());
   }
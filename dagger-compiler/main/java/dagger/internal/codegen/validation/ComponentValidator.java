@@ -245,6 +245,12 @@ public final class ComponentValidator implements ClearableCache {
             component,
             component.getAnnotation(XTypeNames.REUSABLE));
       }
+      if (component.hasAnnotation(XTypeNames.THREAD_SCOPED)) {
+        report.addError(
+            "@ThreadScoped cannot be applied to components or subcomponents",
+            component,
+            component.getAnnotation(XTypeNames.THREAD_SCOPED));
+      }
     }
 
     private void validateComponentMethods() {
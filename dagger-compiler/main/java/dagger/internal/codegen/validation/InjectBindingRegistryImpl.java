@@ -184,6 +184,10 @@ final class InjectBindingRegistryImpl implements InjectBindingRegistry {
           return false;
         }
       }
+      // Components create Releasers directly, so the runtime doesn't ship a factory for them.
+      if (binding instanceof ContributionBinding && ((ContributionBinding) binding).isReleaser()) {
+        return false;
+      }
       return !binding.unresolved().isPresent()
           && !materializedBindingKeys.contains(binding.key())
           && !bindingsRequiringGeneration.contains(binding)
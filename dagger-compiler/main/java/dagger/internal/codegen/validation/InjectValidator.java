@@ -318,6 +318,21 @@ public final class InjectValidator implements ClearableCache {
         }
       }
 
+      XAnnotation pooled = enclosingElement.getAnnotation(XTypeNames.POOLED);
+      if (pooled != null) {
+        if (InjectionAnnotations.hasAssistedInjectAnnotation(constructorElement)) {
+          builder.addError(
+              "A type with an @AssistedInject-annotated constructor cannot be @Pooled",
+              enclosingElement,
+              pooled);
+        } else if (!scopes.isEmpty()) {
+          builder.addError("A @Pooled type cannot be scoped", enclosingElement, pooled);
+        }
+        if (pooled.getAsInt("maxSize") < 1) {
+          builder.addError("@Pooled maxSize must be positive", enclosingElement, pooled);
+        }
+      }
+
       return builder.build();
     }
 
@@ -16,25 +16,62 @@
 
 package dagger.internal.codegen.writing;
 
+import androidx.room3.compiler.codegen.XClassName;
 import androidx.room3.compiler.codegen.XCodeBlock;
 import dagger.internal.codegen.binding.Binding;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.model.Scope;
 import dagger.internal.codegen.writing.FrameworkFieldInitializer.FrameworkInstanceCreationExpression;
 import dagger.internal.codegen.xprocessing.XTypeNames;
 import javax.inject.Inject;
 
 /** Holds common methods for BindingRepresentations. */
 final class BindingRepresentations {
+  private final CompilerOptions compilerOptions;
 
-  @Inject BindingRepresentations() {}
+  @Inject
+  BindingRepresentations(CompilerOptions compilerOptions) {
+    this.compilerOptions = compilerOptions;
+  }
 
   FrameworkInstanceCreationExpression scope(
       Binding binding, FrameworkInstanceCreationExpression unscoped) {
     return () ->
         XCodeBlock.of(
             "%T.provider(%L)",
-            binding.scope().get().isReusable()
-                ? XTypeNames.SINGLE_CHECK
-                : XTypeNames.DOUBLE_CHECK,
+            scopeClassName(binding.scope().get()),
             unscoped.creationExpression());
   }
+
+  /** Returns the class used to memoize bindings with the given scope. */
+  XClassName scopeClassName(Scope scope) {
+    if (scope.isReusable()) {
+      return XTypeNames.SINGLE_CHECK;
+    } else if (scope.isThreadScoped()) {
+      return XTypeNames.THREAD_LOCAL_CHECK;
+    }
+    return doubleCheckClassName();
+  }
+
+  /** Wraps the framework instance of a {@code @Pooled} binding in a {@code PooledProvider}. */
+  FrameworkInstanceCreationExpression pool(
+      ContributionBinding binding, FrameworkInstanceCreationExpression unpooled) {
+    return () ->
+        XCodeBlock.of(
+            "%T.provider(%L, %L)",
+            XTypeNames.POOLED_PROVIDER,
+            unpooled.creationExpression(),
+            binding.poolSize().get());
+  }
+
+  /** Returns the class used to memoize bindings with a component scope. */
+  private XClassName doubleCheckClassName() {
+    if (compilerOptions.useLockFreeDoubleCheck()) {
+      return XTypeNames.LOCK_FREE_DOUBLE_CHECK;
+    } else if (compilerOptions.useReentrantLockDoubleCheck()) {
+      return XTypeNames.REENTRANT_LOCK_DOUBLE_CHECK;
+    }
+    return XTypeNames.DOUBLE_CHECK;
+  }
 }
@@ -0,0 +1,476 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import static dagger.internal.codegen.binding.SourceFiles.generatedClassNameForBinding;
+import static dagger.internal.codegen.binding.SourceFiles.mapFactoryClassName;
+
+import androidx.room3.compiler.codegen.XClassName;
+import com.google.common.collect.ImmutableList;
+import dagger.internal.codegen.base.MapType;
+import dagger.internal.codegen.binding.BindingType;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.binding.MapKeys;
+import dagger.internal.codegen.binding.MultiboundMapBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.model.BindingKind;
+import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
+import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
+import dagger.internal.codegen.xprocessing.XTypeNames;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.inject.Inject;
+
+/**
+ * Collects the framework objects retained by a generated component and its subcomponents, and
+ * writes them as the report enabled by {@code dagger.componentFootprintReport}.
+ *
+ * <p>Sizes are estimated shallow sizes on a 64-bit JVM with compressed references: a 12 byte object
+ * header, 4 bytes for each reference or {@code int} field, and 8 byte alignment. Each binding is
+ * written on its own line so that {@code dagger.monitoring.ComponentFootprint} can read the keys of
+ * a live component's fields without a JSON parser.
+ */
+@PerGeneratedFile
+public final class ComponentFootprintReport {
+  private static final int OBJECT_HEADER_BYTES = 12;
+  private static final int ARRAY_HEADER_BYTES = 16;
+  private static final int FIELD_BYTES = 4;
+  // The value of ImmutableArrayMap.MAX_LINEAR_SCAN_SIZE in the runtime.
+  private static final int IMMUTABLE_ARRAY_MAP_MAX_LINEAR_SCAN_SIZE = 8;
+
+  private final CompilerOptions compilerOptions;
+  private final List<ShardEntry> shards = new ArrayList<>();
+  private final List<BindingEntry> bindings = new ArrayList<>();
+
+  @Inject
+  ComponentFootprintReport(CompilerOptions compilerOptions) {
+    this.compilerOptions = compilerOptions;
+  }
+
+  /** Returns {@code true} if the report is written for this compilation. */
+  boolean isEnabled() {
+    return compilerOptions.componentFootprintReport();
+  }
+
+  /**
+   * Records the objects created for the framework field {@code fieldName} of {@code binding}.
+   *
+   * @param alternativeFrameworkClass the framework class of the field, if it adapts the binding's
+   *     own framework type (e.g. a {@code Producer} for a provision binding)
+   * @param delegated {@code true} if the field is a {@code DelegateFactory} to break a cycle
+   */
+  void recordFrameworkField(
+      ShardImplementation shard,
+      String fieldName,
+      ContributionBinding binding,
+      Optional<XClassName> alternativeFrameworkClass,
+      boolean delegated) {
+    ImmutableList.Builder<FrameworkObject> objects = ImmutableList.builder();
+    if (delegated) {
+      objects.add(
+          new FrameworkObject(
+              isProvision(binding)
+                  ? XTypeNames.DELEGATE_FACTORY.getSimpleName()
+                  : XTypeNames.DELEGATE_PRODUCER.getSimpleName(),
+              shallowSize(1)));
+    }
+    if (alternativeFrameworkClass.isPresent()) {
+      objects.add(
+          isProvision(binding)
+              ? new FrameworkObject("Producers.producerFromProvider", shallowSize(1))
+              : new FrameworkObject("Producer.newEntryPointView", shallowSize(2)));
+    } else {
+      addFrameworkObjects(objects, shard, binding);
+    }
+    bindings.add(
+        new BindingEntry(
+            binding.key().toString(), shard.name(), fieldName, -1, objects.build(), 0));
+  }
+
+  /** Records that the scoped instance of {@code binding} is stored in {@code slot}. */
+  void recordScopedInstanceSlot(
+      ShardImplementation shard, String fieldName, int slot, ContributionBinding binding) {
+    bindings.add(
+        new BindingEntry(
+            binding.key().toString(),
+            shard.name(),
+            fieldName,
+            slot,
+            ImmutableList.of(),
+            FIELD_BYTES));
+  }
+
+  /**
+   * Records a generated shard (or component) class.
+   *
+   * @param fieldCount the number of fields of the class
+   * @param scopedInstanceSlots the number of slots in its {@code ScopedInstances}, if it has one
+   */
+  void recordShard(ShardImplementation shard, int fieldCount, int scopedInstanceSlots) {
+    ImmutableList.Builder<FrameworkObject> objects = ImmutableList.builder();
+    if (scopedInstanceSlots > 0) {
+      // The slots themselves are counted by the bindings stored in them.
+      objects.add(
+          new FrameworkObject(
+              "ScopedInstances", shallowSize(shard.componentFieldsByImplementation().size() + 1)),
+          new FrameworkObject("AtomicReferenceArray", shallowSize(1)),
+          new FrameworkObject("Object[]", ARRAY_HEADER_BYTES));
+    }
+    shards.add(new ShardEntry(shard.name(), fieldCount, objects.build()));
+  }
+
+  /** Returns the report for the component generated as {@code component}. */
+  public String toJson(XClassName component) {
+    int total =
+        shards.stream().mapToInt(ShardEntry::shallowBytes).sum()
+            + bindings.stream().mapToInt(BindingEntry::shallowBytes).sum();
+    StringBuilder json = new StringBuilder();
+    json.append("{\n");
+    json.append("  \"component\": ").append(quote(component.getCanonicalName())).append(",\n");
+    json.append("  \"estimatedShallowBytes\": ").append(total).append(",\n");
+    json.append("  \"shards\": [");
+    appendLines(json, shards);
+    json.append("],\n");
+    json.append("  \"bindings\": [");
+    appendLines(json, bindings);
+    json.append("]\n");
+    json.append("}\n");
+    return json.toString();
+  }
+
+  private static void appendLines(StringBuilder json, List<?> entries) {
+    for (int i = 0; i < entries.size(); i++) {
+      json.append(i == 0 ? "\n    " : ",\n    ").append(entries.get(i));
+    }
+    if (!entries.isEmpty()) {
+      json.append("\n  ");
+    }
+  }
+
+  private void addFrameworkObjects(
+      ImmutableList.Builder<FrameworkObject> objects,
+      ShardImplementation shard,
+      ContributionBinding binding) {
+    CompilerMode compilerMode = shard.getComponentImplementation().compilerMode();
+    if (ScopedInstances.usesSlot(binding, compilerMode, compilerOptions)) {
+      // The instance is stored in a slot, so the provider only holds the slots and the slot index.
+      objects.add(new FrameworkObject("ScopedInstanceSlots.SlotProvider", shallowSize(2)));
+      return;
+    }
+    boolean usesSwitchingProvider =
+        isProvision(binding)
+            && FrameworkInstanceKind.from(binding, compilerMode, compilerOptions)
+                == FrameworkInstanceKind.SWITCHING_PROVIDER;
+    if (binding.scope().isPresent() && binding.scope().get().isThreadScoped()) {
+      // Each thread's instance is held in the thread's ThreadLocal map, which is not counted.
+      objects.add(
+          new FrameworkObject(XTypeNames.THREAD_LOCAL_CHECK.getSimpleName(), shallowSize(2)),
+          new FrameworkObject("ThreadLocal", shallowSize(2)));
+    } else if (binding.scope().isPresent()) {
+      addScopeObjects(objects, binding.scope().get().isReusable());
+    } else if (usesSwitchingProvider && binding.kind().equals(BindingKind.ASSISTED_FACTORY)) {
+      addScopeObjects(objects, /* isReusable= */ true);
+    } else if (binding.poolSize().isPresent()) {
+      // The pool's idle instances are not counted; they are released by the caller.
+      objects.add(
+          new FrameworkObject(XTypeNames.POOLED_PROVIDER.getSimpleName(), shallowSize(5)),
+          new FrameworkObject("ThreadLocal", shallowSize(1)),
+          new FrameworkObject(
+              "AtomicReferenceArray",
+              shallowSize(1) + arraySize(binding.poolSize().get())),
+          new FrameworkObject("AtomicInteger", shallowSize(1)));
+    }
+    if (usesSwitchingProvider) {
+      objects.add(
+          new FrameworkObject(
+              "SwitchingProvider",
+              shallowSize(shard.componentFieldsByImplementation().size() + 1)));
+      return;
+    }
+    int dependencies = binding.dependencies().size();
+    switch (binding.kind()) {
+      case COMPONENT:
+      case BOUND_INSTANCE:
+      case COMPONENT_DEPENDENCY:
+        objects.add(instanceFactory());
+        break;
+      case DELEGATE:
+        // The field holds the framework instance of the delegate binding.
+        break;
+      case INJECTION:
+        if (binding.isReleaser()) {
+          // The anonymous provider holds the component.
+          objects.add(new FrameworkObject("Provider", shallowSize(1)));
+          break;
+        }
+        objects.add(generatedFactory(binding, dependencies));
+        break;
+      case PROVISION:
+      case ASSISTED_INJECTION:
+        objects.add(generatedFactory(binding, dependencies));
+        break;
+      case PRODUCTION:
+        // Producers also hold their token and their future.
+        objects.add(generatedFactory(binding, dependencies + 2));
+        break;
+      case ASSISTED_FACTORY:
+        objects.add(instanceFactory(), generatedFactory(binding, 1));
+        break;
+      case MEMBERS_INJECTOR:
+        objects.add(instanceFactory(), new FrameworkObject("MembersInjector", shallowSize(1)));
+        break;
+      case MULTIBOUND_SET:
+        objects.add(
+            new FrameworkObject(
+                isProvision(binding)
+                    ? XTypeNames.SET_FACTORY.getSimpleName()
+                    : XTypeNames.SET_PRODUCER.getSimpleName(),
+                shallowSize(2)),
+            new FrameworkObject("Object[]", arraySize(dependencies)));
+        break;
+      case MULTIBOUND_MAP:
+        objects.add(
+            new FrameworkObject(
+                mapFactoryClassName((MultiboundMapBinding) binding).getSimpleName(),
+                shallowSize(1)));
+        if (isProvision(binding)) {
+          addMapFactoryObjects(objects, shard, binding);
+        } else {
+          objects.add(
+              // A RegularImmutableMap has 7 fields, an array of entries, a hash table and an entry
+              // with 2 fields per contribution.
+              new FrameworkObject(
+                  "ImmutableMap",
+                  shallowSize(7)
+                      + arraySize(dependencies)
+                      + arraySize(closedTableSize(dependencies))
+                      + dependencies * shallowSize(2)));
+        }
+        break;
+      case OPTIONAL:
+        if (dependencies > 0) {
+          objects.add(new FrameworkObject("PresentFactory", shallowSize(1)));
+        }
+        break;
+      default:
+        // Component provisions, productions and subcomponent creators hold the component or
+        // dependency they are called on.
+        objects.add(
+            new FrameworkObject(isProvision(binding) ? "Provider" : "Producer", shallowSize(1)));
+    }
+  }
+
+  private static void addMapFactoryObjects(
+      ImmutableList.Builder<FrameworkObject> objects,
+      ShardImplementation shard,
+      ContributionBinding binding) {
+    int size = binding.dependencies().size();
+    objects.add(new FrameworkObject("ImmutableArrayMap", immutableArrayMapSize(size)));
+    if (MapKeys.useLazyClassKey(binding, shard.graph())) {
+      if (MapType.from(binding.key()).valuesAreProvider()) {
+        // The factory keeps the one LazyClassKeyMap it returns, which loads no classes until its
+        // keys are iterated.
+        objects.add(
+            new FrameworkObject("LazyClassKeyMap.MapProviderFactory", shallowSize(2)),
+            new FrameworkObject("LazyClassKeyMap", shallowSize(2)));
+      } else {
+        // The factory keeps the key classes shared by the maps it returns.
+        objects.add(
+            new FrameworkObject("LazyClassKeyMap.MapFactory", shallowSize(2)),
+            new FrameworkObject("Class[]", arraySize(size)));
+      }
+    }
+  }
+
+  /**
+   * Returns the size of an {@code ImmutableArrayMap} with {@code size} entries, including its
+   * arrays of keys, hash codes and values, and the slots of its keys if it has a hash table.
+   */
+  private static int immutableArrayMapSize(int size) {
+    if (size <= IMMUTABLE_ARRAY_MAP_MAX_LINEAR_SCAN_SIZE) {
+      return shallowSize(5) + 3 * arraySize(size);
+    }
+    int tableSize = Integer.highestOneBit(size - 1) << 2;
+    return shallowSize(5) + 3 * arraySize(tableSize) + arraySize(size);
+  }
+
+  /** Returns the length of the hash table of a Guava {@code ImmutableMap} of {@code size}. */
+  private static int closedTableSize(int size) {
+    size = Math.max(size, 2);
+    int tableSize = Integer.highestOneBit(size);
+    return size > (int) (1.2 * tableSize) ? tableSize << 1 : tableSize;
+  }
+
+  private void addScopeObjects(ImmutableList.Builder<FrameworkObject> objects, boolean isReusable) {
+    if (isReusable) {
+      objects.add(new FrameworkObject(XTypeNames.SINGLE_CHECK.getSimpleName(), shallowSize(2)));
+    } else if (compilerOptions.useLockFreeDoubleCheck()) {
+      objects.add(
+          new FrameworkObject(XTypeNames.LOCK_FREE_DOUBLE_CHECK.getSimpleName(), shallowSize(2)));
+    } else if (compilerOptions.useReentrantLockDoubleCheck()) {
+      objects.add(
+          new FrameworkObject(
+              XTypeNames.REENTRANT_LOCK_DOUBLE_CHECK.getSimpleName(), shallowSize(3)),
+          new FrameworkObject("ReentrantLock", shallowSize(1)),
+          new FrameworkObject("ReentrantLock.NonfairSync", shallowSize(4)));
+    } else {
+      objects.add(new FrameworkObject(XTypeNames.DOUBLE_CHECK.getSimpleName(), shallowSize(2)));
+    }
+  }
+
+  private static FrameworkObject instanceFactory() {
+    return new FrameworkObject(XTypeNames.INSTANCE_FACTORY.getSimpleName(), shallowSize(1));
+  }
+
+  private static FrameworkObject generatedFactory(ContributionBinding binding, int fields) {
+    int factoryFields = fields + (binding.requiresModuleInstance() ? 1 : 0);
+    return new FrameworkObject(
+        generatedClassNameForBinding(binding).getSimpleName(),
+        // A factory without fields is a singleton shared by all components.
+        factoryFields == 0 ? 0 : shallowSize(factoryFields));
+  }
+
+  private static boolean isProvision(ContributionBinding binding) {
+    return binding.bindingType().equals(BindingType.PROVISION);
+  }
+
+  private static int shallowSize(int fields) {
+    return align(OBJECT_HEADER_BYTES + fields * FIELD_BYTES);
+  }
+
+  private static int arraySize(int length) {
+    return align(ARRAY_HEADER_BYTES + length * FIELD_BYTES);
+  }
+
+  private static int align(int bytes) {
+    return (bytes + 7) & ~7;
+  }
+
+  private static String quote(String string) {
+    StringBuilder quoted = new StringBuilder("\"");
+    for (char c : string.toCharArray()) {
+      switch (c) {
+        case '"':
+          quoted.append("\\\"");
+          break;
+        case '\\':
+          quoted.append("\\\\");
+          break;
+        default:
+          if (c < ' ') {
+            quoted.append(String.format("\\u%04x", (int) c));
+          } else {
+            quoted.append(c);
+          }
+      }
+    }
+    return quoted.append('"').toString();
+  }
+
+  private static String objectsToJson(ImmutableList<FrameworkObject> objects) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < objects.size(); i++) {
+      json.append(i == 0 ? "" : ", ").append(objects.get(i));
+    }
+    return json.append(']').toString();
+  }
+
+  /** An object allocated for a binding or shard. */
+  private static final class FrameworkObject {
+    private final String type;
+    private final int shallowBytes;
+
+    FrameworkObject(String type, int shallowBytes) {
+      this.type = type;
+      this.shallowBytes = shallowBytes;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "{\"type\": %s, \"estimatedShallowBytes\": %d}", quote(type), shallowBytes);
+    }
+  }
+
+  /** A generated class that holds framework fields. */
+  private static final class ShardEntry {
+    private final XClassName name;
+    private final int fieldCount;
+    private final ImmutableList<FrameworkObject> objects;
+
+    ShardEntry(XClassName name, int fieldCount, ImmutableList<FrameworkObject> objects) {
+      this.name = name;
+      this.fieldCount = fieldCount;
+      this.objects = objects;
+    }
+
+    int shallowBytes() {
+      return shallowSize(fieldCount)
+          + objects.stream().mapToInt(object -> object.shallowBytes).sum();
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "{\"class\": %s, \"fields\": %d, \"objects\": %s, \"estimatedShallowBytes\": %d}",
+          quote(name.getSimpleName()), fieldCount, objectsToJson(objects), shallowBytes());
+    }
+  }
+
+  /** A field, or a scoped instance slot, that retains objects for a binding. */
+  private static final class BindingEntry {
+    private final String key;
+    private final XClassName owner;
+    private final String field;
+    private final int slot;
+    private final ImmutableList<FrameworkObject> objects;
+    private final int slotBytes;
+
+    BindingEntry(
+        String key,
+        XClassName owner,
+        String field,
+        int slot,
+        ImmutableList<FrameworkObject> objects,
+        int slotBytes) {
+      this.key = key;
+      this.owner = owner;
+      this.field = field;
+      this.slot = slot;
+      this.objects = objects;
+      this.slotBytes = slotBytes;
+    }
+
+    int shallowBytes() {
+      return slotBytes + objects.stream().mapToInt(object -> object.shallowBytes).sum();
+    }
+
+    @Override
+    public String toString() {
+      return String.format(
+          "{\"key\": %s, \"owner\": %s, \"field\": %s%s, \"objects\": %s,"
+              + " \"estimatedShallowBytes\": %d}",
+          quote(key),
+          quote(owner.getSimpleName()),
+          quote(field),
+          slot < 0 ? "" : ", \"slot\": " + slot,
+          objectsToJson(objects),
+          shallowBytes());
+    }
+  }
+}
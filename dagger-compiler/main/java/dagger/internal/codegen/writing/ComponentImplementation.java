@@ -40,10 +40,12 @@ import static dagger.internal.codegen.xprocessing.XElements.getSimpleName;
 import static dagger.internal.codegen.xprocessing.XFunSpecs.constructorBuilder;
 import static dagger.internal.codegen.xprocessing.XFunSpecs.methodBuilder;
 import static dagger.internal.codegen.xprocessing.XFunSpecs.overriding;
+import static java.util.Comparator.comparing;
 import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.VOLATILE;
 import static javax.tools.Diagnostic.Kind.ERROR;
 
 import androidx.room3.compiler.codegen.XClassName;
@@ -80,10 +82,12 @@ import dagger.internal.codegen.binding.ComponentCreatorDescriptor;
 import dagger.internal.codegen.binding.ComponentDescriptor;
 import dagger.internal.codegen.binding.ComponentDescriptor.ComponentMethodDescriptor;
 import dagger.internal.codegen.binding.ComponentRequirement;
+import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.KeyVariableNamer;
 import dagger.internal.codegen.binding.MethodSignature;
 import dagger.internal.codegen.binding.ModuleDescriptor;
 import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.compileroption.StartupProfile;
 import dagger.internal.codegen.model.BindingGraph.Node;
 import dagger.internal.codegen.model.Key;
 import dagger.internal.codegen.model.RequestKind;
@@ -94,8 +98,10 @@ import dagger.internal.codegen.xprocessing.XPropertySpecs;
 import dagger.internal.codegen.xprocessing.XTypeElements;
 import dagger.internal.codegen.xprocessing.XTypeNames;
 import dagger.internal.codegen.xprocessing.XTypeSpecs;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -103,6 +109,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -204,10 +211,18 @@ public final class ComponentImplementation {
    * things: 1) bindings are put in shards in reverse topological order (i.e., bindings in Shard{i}
    * do not depend on bindings in Shard{i+j}) and 2) bindings belonging to the same cycle are put in
    * the same shard. These two guarantees allow us to initialize each shard in a well defined order.
+   *
+   * <p>If a {@link CompilerOptions#startupProfile()} is given, the bindings it lists and their
+   * transitive dependencies are partitioned first, so they share the first shards. Since that set
+   * includes all of its dependencies, the order above still holds.
    */
   private static ImmutableMap<Binding, ShardImplementation> createShardsByBinding(
-      ShardImplementation componentShard, BindingGraph graph, CompilerOptions compilerOptions) {
-    ImmutableList<ImmutableList<Binding>> partitions = bindingPartitions(graph, compilerOptions);
+      ShardImplementation componentShard,
+      BindingGraph graph,
+      CompilerOptions compilerOptions,
+      ImmutableSet<Binding> startupBindings) {
+    ImmutableList<ImmutableList<Binding>> partitions =
+        bindingPartitions(graph, compilerOptions, startupBindings);
     ImmutableMap.Builder<Binding, ShardImplementation> builder = ImmutableMap.builder();
     for (int i = 0; i < partitions.size(); i++) {
       ShardImplementation shard = i == 0 ? componentShard : componentShard.createShard();
@@ -217,7 +232,7 @@ public final class ComponentImplementation {
   }
 
   private static ImmutableList<ImmutableList<Binding>> bindingPartitions(
-      BindingGraph graph, CompilerOptions compilerOptions) {
+      BindingGraph graph, CompilerOptions compilerOptions, ImmutableSet<Binding> startupBindings) {
     int bindingsPerShard = compilerOptions.keysPerComponentShard(graph.componentTypeElement());
     int maxPartitions = (graph.localBindingNodes().size() / bindingsPerShard) + 1;
     if (maxPartitions <= 1) {
@@ -229,7 +244,7 @@ public final class ComponentImplementation {
     List<Binding> currPartition = new ArrayList<>(bindingsPerShard);
     ImmutableList.Builder<ImmutableList<Binding>> partitions =
         ImmutableList.builderWithExpectedSize(maxPartitions);
-    for (ImmutableSet<Node> nodes : graph.topLevelBindingGraph().stronglyConnectedNodes()) {
+    for (ImmutableSet<Node> nodes : startupNodesFirst(graph, startupBindings)) {
       nodes.stream()
           .flatMap(instancesOf(BindingNode.class))
           .filter(bindingNode -> bindingNode.componentPath().equals(graph.componentPath()))
@@ -246,6 +261,53 @@ public final class ComponentImplementation {
     return partitions.build();
   }
 
+  /**
+   * Returns the bindings listed in the {@code profile} and all of the bindings they depend on,
+   * directly or not.
+   */
+  private static ImmutableSet<Binding> startupBindings(BindingGraph graph, StartupProfile profile) {
+    if (profile.isEmpty()) {
+      return ImmutableSet.of();
+    }
+    Set<Binding> startupBindings = new HashSet<>();
+    Deque<BindingNode> queue = new ArrayDeque<>();
+    graph.localBindingNodes().stream()
+        .filter(bindingNode -> profile.contains(bindingNode.key().toString()))
+        .forEach(queue::add);
+    while (!queue.isEmpty()) {
+      BindingNode bindingNode = queue.remove();
+      if (startupBindings.add(bindingNode.delegate())) {
+        graph.topLevelBindingGraph().network().successors(bindingNode).stream()
+            .flatMap(instancesOf(BindingNode.class))
+            .forEach(queue::add);
+      }
+    }
+    return ImmutableSet.copyOf(startupBindings);
+  }
+
+  /**
+   * Returns the strongly connected nodes of the graph, with those that contain one of the {@code
+   * startupBindings} moved to the front. Both groups keep their order.
+   */
+  private static ImmutableList<ImmutableSet<Node>> startupNodesFirst(
+      BindingGraph graph, ImmutableSet<Binding> startupBindings) {
+    ImmutableList<ImmutableSet<Node>> stronglyConnectedNodes =
+        graph.topLevelBindingGraph().stronglyConnectedNodes();
+    if (startupBindings.isEmpty()) {
+      return stronglyConnectedNodes;
+    }
+    Predicate<ImmutableSet<Node>> containsStartupBinding =
+        nodes ->
+            nodes.stream()
+                .flatMap(instancesOf(BindingNode.class))
+                .map(BindingNode::delegate)
+                .anyMatch(startupBindings::contains);
+    return Stream.concat(
+            stronglyConnectedNodes.stream().filter(containsStartupBinding),
+            stronglyConnectedNodes.stream().filter(containsStartupBinding.negate()))
+        .collect(toImmutableList());
+  }
+
   /** The boolean parameter of the onProducerFutureCancelled method. */
   public static final XParameterSpec MAY_INTERRUPT_IF_RUNNING_PARAM =
       XParameterSpecs.of("mayInterruptIfRunning", XTypeName.PRIMITIVE_BOOLEAN);
@@ -264,19 +326,24 @@ public final class ComponentImplementation {
 
   private final ShardImplementation componentShard;
   private final Supplier<ImmutableMap<Binding, ShardImplementation>> shardsByBinding;
+  private final Supplier<ImmutableSet<Binding>> startupBindings;
   private final Map<ShardImplementation, XPropertySpec> shardFieldsByImplementation =
       new HashMap<>();
+  private final Map<ShardImplementation, String> shardAccessorNamesByImplementation =
+      new HashMap<>();
   private final List<XCodeBlock> shardInitializations = new ArrayList<>();
   private final List<XCodeBlock> shardCancellations = new ArrayList<>();
   private final Optional<ComponentImplementation> parent;
   private final ChildComponentImplementationFactory childComponentImplementationFactory;
   private final Provider<GeneratedImplementation> topLevelImplementationProvider;
   private final Provider<ComponentRequestRepresentations> componentRequestRepresentationsProvider;
+  private final Provider<ComponentRequirementExpressions> componentRequirementExpressionsProvider;
   private final Provider<ComponentCreatorImplementationFactory>
       componentCreatorImplementationFactoryProvider;
   private final BindingGraph graph;
   private final ComponentNames componentNames;
   private final CompilerOptions compilerOptions;
+  private final ComponentFootprintReport footprintReport;
   private final ImmutableMap<ComponentImplementation, XPropertySpec>
       componentFieldsByImplementation;
   private final XMessager messager;
@@ -290,21 +357,25 @@ public final class ComponentImplementation {
       // Inject as Provider<> to prevent a cycle.
       @TopLevel Provider<GeneratedImplementation> topLevelImplementationProvider,
       Provider<ComponentRequestRepresentations> componentRequestRepresentationsProvider,
+      Provider<ComponentRequirementExpressions> componentRequirementExpressionsProvider,
       Provider<ComponentCreatorImplementationFactory> componentCreatorImplementationFactoryProvider,
       BindingGraph graph,
       ComponentNames componentNames,
       CompilerOptions compilerOptions,
+      ComponentFootprintReport footprintReport,
       XMessager messager,
       XProcessingEnv processingEnv) {
     this.parent = parent;
     this.childComponentImplementationFactory = childComponentImplementationFactory;
     this.topLevelImplementationProvider = topLevelImplementationProvider;
     this.componentRequestRepresentationsProvider = componentRequestRepresentationsProvider;
+    this.componentRequirementExpressionsProvider = componentRequirementExpressionsProvider;
     this.componentCreatorImplementationFactoryProvider =
         componentCreatorImplementationFactoryProvider;
     this.graph = graph;
     this.componentNames = componentNames;
     this.compilerOptions = compilerOptions;
+    this.footprintReport = footprintReport;
     this.processingEnv = processingEnv;
 
     // The first group of keys belong to the component itself. We call this the componentShard.
@@ -315,8 +386,13 @@ public final class ComponentImplementation {
         .forEach(method -> componentShard.componentMethodNames.claim(getSimpleName(method)));
 
     // Create the shards for this component, indexed by binding.
+    this.startupBindings =
+        memoize(() -> startupBindings(graph, compilerOptions.startupProfile()));
     this.shardsByBinding =
-        memoize(() -> createShardsByBinding(componentShard, graph, compilerOptions));
+        memoize(
+            () ->
+                createShardsByBinding(
+                    componentShard, graph, compilerOptions, startupBindings.get()));
 
     // Create and claim the fields for this and all ancestor components stored as fields.
     this.componentFieldsByImplementation =
@@ -341,6 +417,30 @@ public final class ComponentImplementation {
     return shardsByBinding.get().get(binding);
   }
 
+  /**
+   * Returns {@code true} if {@code binding} is listed in the {@link
+   * CompilerOptions#startupProfile()} or is a dependency of a binding that is.
+   */
+  public boolean isStartupBinding(Binding binding) {
+    return startupBindings.get().contains(binding);
+  }
+
+  /**
+   * Returns {@code true} if the shards of this component are created on first use rather than in
+   * the component constructor.
+   */
+  private boolean createsShardsLazily() {
+    return compilerOptions.lazyComponentShards() && !graph.componentDescriptor().isProduction();
+  }
+
+  /**
+   * Returns the {@link ComponentFootprintReport} shared by this component and the other components
+   * generated in the same file.
+   */
+  public ComponentFootprintReport footprintReport() {
+    return footprintReport;
+  }
+
   /** Returns the {@link GeneratedImplementation} for the top-level generated class. */
   private GeneratedImplementation topLevelImplementation() {
     return topLevelImplementationProvider.get();
@@ -481,6 +581,7 @@ public final class ComponentImplementation {
     private final UniqueNameSet assistedParamNames = new UniqueNameSet();
     private final List<XCodeBlock> initializations = new ArrayList<>();
     private final SwitchingProviders switchingProviders;
+    private final ScopedInstances scopedInstances;
     private final Map<Key, XCodeBlock> cancellations = new LinkedHashMap<>();
     private final Map<XVariableElement, String> uniqueAssistedName = new LinkedHashMap<>();
     private final List<XCodeBlock> componentRequirementInitializations = new ArrayList<>();
@@ -497,6 +598,7 @@ public final class ComponentImplementation {
     private ShardImplementation(XClassName name) {
       this.name = name;
       this.switchingProviders = new SwitchingProviders(this, compilerOptions, processingEnv);
+      this.scopedInstances = new ScopedInstances(this, compilerOptions, processingEnv);
       if (graph.componentDescriptor().isProduction()) {
         claimMethodName(CANCELLATION_LISTENER_METHOD_NAME);
       }
@@ -535,6 +637,11 @@ public final class ComponentImplementation {
       return switchingProviders;
     }
 
+    /** Returns the {@link ScopedInstances} class for this shard. */
+    public ScopedInstances getScopedInstances() {
+      return scopedInstances;
+    }
+
     /** Returns the {@link ComponentImplementation} that owns this shard. */
     public ComponentImplementation getComponentImplementation() {
       return ComponentImplementation.this;
@@ -559,15 +666,26 @@ public final class ComponentImplementation {
         // Add the shard if this is the first time it's requested by something.
         String shardFieldName =
             componentShard.getUniqueFieldName(UPPER_CAMEL.to(LOWER_CAMEL, name.getSimpleName()));
-        XPropertySpec shardField = XPropertySpecs.builder(shardFieldName, name).build();
+        XPropertySpec shardField =
+            createsShardsLazily()
+                ? XPropertySpecs.builder(shardFieldName, name, PRIVATE, VOLATILE).build()
+                : XPropertySpecs.builder(shardFieldName, name).build();
 
         shardFieldsByImplementation.put(this, shardField);
+        if (createsShardsLazily()) {
+          shardAccessorNamesByImplementation.put(
+              this, componentShard.getUniqueMethodName(shardFieldName));
+        }
       }
       // TODO(bcorso): This currently relies on all requesting classes having a reference to the
       // component with the same name, which is kind of sketchy. Try to think of a better way that
       // can accomodate the component missing in some classes if it's not used.
-      return isComponentShard()
-          ? componentFieldReference()
+      if (isComponentShard()) {
+        return componentFieldReference();
+      }
+      return createsShardsLazily()
+          ? XCodeBlock.of(
+              "%L.%N()", componentFieldReference(), shardAccessorNamesByImplementation.get(this))
           : XCodeBlock.of(
               "%L.%N", componentFieldReference(), shardFieldsByImplementation.get(this));
     }
@@ -750,6 +868,11 @@ public final class ComponentImplementation {
         addCreator();
         addFactoryMethods();
         addInterfaceMethods();
+        if (compilerOptions.parallelSingletonInitialization()
+            && !parent.isPresent()
+            && !graph.componentDescriptor().isProduction()) {
+          addSingletonInitializationMethods();
+        }
         addChildComponents();
         addShards();
       }
@@ -763,6 +886,9 @@ public final class ComponentImplementation {
         }
       }
 
+      if (footprintReport.isEnabled()) {
+        footprintReport.recordShard(this, fieldSpecsMap.size(), scopedInstances.size());
+      }
       modifiers().forEach(builder::addModifiers);
       fieldSpecsMap.asMap().values().forEach(builder::addProperties);
       methodSpecsMap.asMap().values().forEach(builder::addFunctions);
@@ -919,7 +1045,7 @@ public final class ComponentImplementation {
       // only one method for each distinct signature.
       XType componentType = graph.componentTypeElement().getType();
       Set<MethodSignature> methodDescriptors = new HashSet<>();
-      for (ComponentMethodDescriptor method : graph.entryPointMethods()) {
+      for (ComponentMethodDescriptor method : entryPointMethodsInStartupOrder()) {
         MethodSignature signature =
             MethodSignature.forComponentMethod(method, componentType, processingEnv);
         if (methodDescriptors.add(signature)) {
@@ -930,6 +1056,92 @@ public final class ComponentImplementation {
       }
     }
 
+    /**
+     * Returns the entry point methods, with those that request a binding listed in the {@link
+     * CompilerOptions#startupProfile()} first, in profile order. Since the framework fields are
+     * initialized in the order in which they are first requested, this also initializes the fields
+     * used during startup first.
+     */
+    private ImmutableList<ComponentMethodDescriptor> entryPointMethodsInStartupOrder() {
+      StartupProfile profile = compilerOptions.startupProfile();
+      if (profile.isEmpty()) {
+        return graph.entryPointMethods().asList();
+      }
+      return graph.entryPointMethods().stream()
+          .sorted(
+              comparing(
+                  method ->
+                      method
+                          .dependencyRequest()
+                          .map(request -> profile.rank(request.key().toString()))
+                          .orElse(Integer.MAX_VALUE)))
+          .collect(toImmutableList());
+    }
+
+    /**
+     * Adds a method that creates the component's scoped bindings on an executor, and a static
+     * method to the top-level class that calls it, so that callers don't need the implementation
+     * type.
+     */
+    private void addSingletonInitializationMethods() {
+      ImmutableMap<ContributionBinding, ImmutableSet<ContributionBinding>> dependencies =
+          SingletonInitializationOrder.create(graph);
+      ImmutableList<ContributionBinding> singletons = dependencies.keySet().asList();
+      XCodeBlock providers =
+          singletons.stream()
+              .map(
+                  binding ->
+                      componentRequestRepresentationsProvider
+                          .get()
+                          .getDependencyExpression(
+                              BindingRequest.bindingRequest(binding.key(), RequestKind.PROVIDER),
+                              name)
+                          .codeBlock())
+              .collect(toParametersCodeBlock());
+      Map<ContributionBinding, Integer> indices = new HashMap<>();
+      singletons.forEach(binding -> indices.put(binding, indices.size()));
+      XCodeBlock dependencyIndices =
+          singletons.stream()
+              .map(
+                  binding ->
+                      XCodeBlock.of(
+                          "{%L}",
+                          dependencies.get(binding).stream()
+                              .map(dependency -> XCodeBlock.of("%L", indices.get(dependency)))
+                              .collect(toParametersCodeBlock())))
+              .collect(toParametersCodeBlock());
+      XTypeName returnType =
+          XTypeNames.COMPLETABLE_FUTURE.parametrizedBy(XTypeNames.UNIT_VOID_CLASS);
+      XParameterSpec executor = XParameterSpecs.of("executor", XTypeNames.EXECUTOR);
+      String methodName = getUniqueMethodName("initializeSingletons");
+      addMethod(
+          COMPONENT_METHOD,
+          methodBuilder(methodName)
+              .returns(returnType)
+              .addParameter(executor)
+              .addStatement(
+                  "return %T.initialize(%N, new %T[] {%L}, new int[][] {%L})",
+                  XTypeNames.PARALLEL_INITIALIZER,
+                  executor,
+                  XTypeNames.DAGGER_PROVIDER.parametrizedBy(XTypeName.ANY_WILDCARD),
+                  providers,
+                  dependencyIndices)
+              .build());
+
+      XParameterSpec component =
+          XParameterSpecs.of("component", graph.componentTypeElement().asClassName());
+      topLevelImplementation()
+          .addMethod(
+              MethodSpecKind.BUILDER_METHOD,
+              methodBuilder("initializeSingletons")
+                  .addModifiers(PUBLIC, STATIC)
+                  .returns(returnType)
+                  .addParameter(component)
+                  .addParameter(executor)
+                  .addStatement("return ((%T) %N).%N(%N)", name, component, methodName, executor)
+                  .build());
+    }
+
     private void addChildComponents() {
       for (BindingGraph subgraph : graph.subgraphs()) {
         topLevelImplementation()
@@ -1019,28 +1231,66 @@ public final class ComponentImplementation {
         constructor.addCode(concat(shardInitializations));
       } else {
         // This initialization is called from the componentShard, so we need to use those args.
+        // Shards created lazily are created after the constructor returns, so they read the
+        // component requirement fields instead, adding any that don't exist yet.
         XCodeBlock componentArgs =
-            parameterNames(componentShard.constructorParameters.values().asList());
+            createsShardsLazily()
+                ? componentShard.constructorParameters.keySet().stream()
+                    .map(
+                        requirement ->
+                            componentRequirementExpressionsProvider
+                                .get()
+                                .getExpression(requirement, componentShard.name()))
+                    .collect(toParametersCodeBlock())
+                : parameterNames(componentShard.constructorParameters.values().asList());
         XCodeBlock componentFields =
             componentFieldsByImplementation().values().stream()
                 .map(field -> XCodeBlock.of("%N", field))
                 .collect(toParametersCodeBlock());
-        shardInitializations.add(
-            XCodeBlock.of(
-                "%N = %L;",
-                shardFieldsByImplementation.get(this),
-                XCodeBlock.ofNewInstance(
-                    name,
-                    "%L",
-                    isEmpty(componentArgs)
-                        ? componentFields
-                        : makeParametersCodeBlock(
-                            ImmutableList.of(componentFields, componentArgs)))));
+        XCodeBlock shardInstance =
+            XCodeBlock.ofNewInstance(
+                name,
+                "%L",
+                isEmpty(componentArgs)
+                    ? componentFields
+                    : makeParametersCodeBlock(ImmutableList.of(componentFields, componentArgs)));
+        if (createsShardsLazily()) {
+          addShardAccessor(shardInstance);
+        } else {
+          shardInitializations.add(
+              XCodeBlock.of("%N = %L;", shardFieldsByImplementation.get(this), shardInstance));
+        }
       }
 
       addMethod(MethodSpecKind.CONSTRUCTOR, constructor.build());
     }
 
+    /**
+     * Adds a method to the component shard that creates this shard on its first call, using
+     * double-checked locking so that each shard, and therefore each scoped binding it owns, is
+     * only created once.
+     */
+    private void addShardAccessor(XCodeBlock shardInstance) {
+      XPropertySpec shardField = shardFieldsByImplementation.get(this);
+      componentShard.addMethod(
+          MethodSpecKind.PRIVATE_METHOD,
+          methodBuilder(shardAccessorNamesByImplementation.get(this))
+              .addModifiers(PRIVATE)
+              .returns(name)
+              .addStatement("%T local = %N", name, shardField)
+              .beginControlFlow("if (local == null)")
+              .beginControlFlow("synchronized (this)")
+              .addStatement("local = %N", shardField)
+              .beginControlFlow("if (local == null)")
+              .addStatement("local = %L", shardInstance)
+              .addStatement("%N = local", shardField)
+              .endControlFlow()
+              .endControlFlow()
+              .endControlFlow()
+              .addStatement("return local")
+              .build());
+    }
+
     private void addCancellationListenerImplementation() {
       XFunSpecs.Builder methodBuilder =
           methodBuilder(CANCELLATION_LISTENER_METHOD_NAME)
@@ -142,13 +142,18 @@ final class DelegateRequestRepresentation extends RequestRepresentation {
   private enum ScopeKind {
     UNSCOPED,
     SINGLE_CHECK,
+    THREAD_LOCAL_CHECK,
     DOUBLE_CHECK,
     ;
 
     static ScopeKind get(Binding binding) {
       return binding
           .scope()
-          .map(scope -> scope.isReusable() ? SINGLE_CHECK : DOUBLE_CHECK)
+          .map(
+              scope ->
+                  scope.isReusable()
+                      ? SINGLE_CHECK
+                      : scope.isThreadScoped() ? THREAD_LOCAL_CHECK : DOUBLE_CHECK)
           .orElse(UNSCOPED);
     }
 
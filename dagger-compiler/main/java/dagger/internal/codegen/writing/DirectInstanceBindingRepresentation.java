@@ -41,6 +41,7 @@ final class DirectInstanceBindingRepresentation {
       componentMethodRequestRepresentationFactory;
   private final ImmediateFutureRequestRepresentation.Factory
       immediateFutureRequestRepresentationFactory;
+  private final InstanceCreationInlining instanceCreationInlining;
   private final PrivateMethodRequestRepresentation.Factory
       privateMethodRequestRepresentationFactory;
   private final UnscopedDirectInstanceRequestRepresentationFactory
@@ -54,6 +55,7 @@ final class DirectInstanceBindingRepresentation {
       ComponentImplementation componentImplementation,
       ComponentMethodRequestRepresentation.Factory componentMethodRequestRepresentationFactory,
       ImmediateFutureRequestRepresentation.Factory immediateFutureRequestRepresentationFactory,
+      InstanceCreationInlining instanceCreationInlining,
       PrivateMethodRequestRepresentation.Factory privateMethodRequestRepresentationFactory,
       UnscopedDirectInstanceRequestRepresentationFactory
           unscopedDirectInstanceRequestRepresentationFactory) {
@@ -62,6 +64,7 @@ final class DirectInstanceBindingRepresentation {
     this.componentImplementation = componentImplementation;
     this.componentMethodRequestRepresentationFactory = componentMethodRequestRepresentationFactory;
     this.immediateFutureRequestRepresentationFactory = immediateFutureRequestRepresentationFactory;
+    this.instanceCreationInlining = instanceCreationInlining;
     this.privateMethodRequestRepresentationFactory = privateMethodRequestRepresentationFactory;
     this.unscopedDirectInstanceRequestRepresentationFactory =
         unscopedDirectInstanceRequestRepresentationFactory;
@@ -76,6 +79,7 @@ final class DirectInstanceBindingRepresentation {
     switch (request.requestKind()) {
       case INSTANCE:
         return requiresMethodEncapsulation(binding)
+                && !instanceCreationInlining.inlinesInstanceCreation(binding)
             ? wrapInMethod(unscopedDirectInstanceRequestRepresentationFactory.create(binding))
             : unscopedDirectInstanceRequestRepresentationFactory.create(binding);
 
@@ -120,6 +120,7 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
           codeBuilder.add(initCode);
         }
         shardImplementation.addInitialization(codeBuilder.build());
+        recordFootprint();
 
         fieldInitializationState = InitializationState.INITIALIZED;
         break;
@@ -146,6 +147,19 @@ class FrameworkFieldInitializer implements FrameworkInstanceSupplier {
     }
   }
 
+  private void recordFootprint() {
+    ComponentFootprintReport footprintReport =
+        shardImplementation.getComponentImplementation().footprintReport();
+    if (footprintReport.isEnabled()) {
+      footprintReport.recordFrameworkField(
+          shardImplementation,
+          toJavaPoet(propertySpec).name,
+          binding,
+          frameworkInstanceCreationExpression.alternativeFrameworkClass(),
+          fieldInitializationState == InitializationState.DELEGATED);
+    }
+  }
+
   /**
    * Adds a field representing the resolved bindings, optionally forcing it to use a particular
    * binding type (instead of the type the resolved bindings would typically use).
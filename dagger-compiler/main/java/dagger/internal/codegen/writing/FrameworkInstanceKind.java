@@ -19,6 +19,7 @@ package dagger.internal.codegen.writing;
 import static dagger.internal.codegen.model.BindingKind.DELEGATE;
 
 import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
 
 /** Generation mode for satisfying framework request to Provision Binding. */
@@ -27,7 +28,8 @@ enum FrameworkInstanceKind {
   STATIC_FACTORY,
   PROVIDER_FIELD;
 
-  public static FrameworkInstanceKind from(ContributionBinding binding, CompilerMode compilerMode) {
+  public static FrameworkInstanceKind from(
+      ContributionBinding binding, CompilerMode compilerMode, CompilerOptions compilerOptions) {
     if (usesSwitchingProvider(binding, compilerMode)) {
       if (compilerMode.isFastInit()) {
         return SWITCHING_PROVIDER;
@@ -35,7 +37,7 @@ enum FrameworkInstanceKind {
         throw new IllegalStateException(
             "Compiler mode " + compilerMode + " cannot use Switching Provider.");
       }
-    } else if (usesStaticFactoryCreation(binding, compilerMode)) {
+    } else if (usesStaticFactoryCreation(binding, compilerMode, compilerOptions)) {
       return STATIC_FACTORY;
     } else {
       return PROVIDER_FIELD;
@@ -77,23 +79,27 @@ enum FrameworkInstanceKind {
   }
 
   private static boolean usesStaticFactoryCreation(
-      ContributionBinding binding, CompilerMode compilerMode) {
+      ContributionBinding binding, CompilerMode compilerMode, CompilerOptions compilerOptions) {
     // If {@code binding} is an unscoped provision binding with no factory arguments, then
     // we don't need a field to hold its factory. In that case, this method returns the static
     // select that returns the factory.
     // member
-    if (!binding.dependencies().isEmpty() || binding.scope().isPresent()) {
+    if (!binding.dependencies().isEmpty()
+        || binding.scope().isPresent()
+        || binding.poolSize().isPresent()) {
       return false;
     }
+    // A monitored or pooled factory is wrapped when it is created, so it always needs a field.
     switch (binding.kind()) {
       case MULTIBOUND_MAP:
       case MULTIBOUND_SET:
         return true;
       case PROVISION:
         return !compilerMode.isFastInit()
-            && !binding.requiresModuleInstance();
+            && !binding.requiresModuleInstance()
+            && !compilerOptions.provisionMonitoring();
       case INJECTION:
-        return !compilerMode.isFastInit();
+        return !compilerMode.isFastInit() && !compilerOptions.provisionMonitoring();
       default:
         return false;
     }
@@ -20,6 +20,7 @@ import static androidx.room3.compiler.codegen.compat.XConverters.toJavaPoet;
 import static androidx.room3.compiler.codegen.compat.XConverters.toKotlinPoet;
 import static androidx.room3.compiler.codegen.compat.XConverters.toXPoet;
 import static androidx.room3.compiler.processing.XElementKt.isMethodParameter;
+import static com.google.common.collect.Iterables.getOnlyElement;
 import static dagger.internal.codegen.binding.AssistedInjectionAnnotations.isAssistedParameter;
 import static dagger.internal.codegen.binding.SourceFiles.generatedClassNameForBinding;
 import static dagger.internal.codegen.binding.SourceFiles.generatedProxyMethodName;
@@ -27,15 +28,19 @@ import static dagger.internal.codegen.binding.SourceFiles.membersInjectorMethodN
 import static dagger.internal.codegen.binding.SourceFiles.membersInjectorNameForType;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableMap;
+import static dagger.internal.codegen.xprocessing.Accessibility.isElementAccessibleFrom;
 import static dagger.internal.codegen.xprocessing.Accessibility.isRawTypeAccessible;
 import static dagger.internal.codegen.xprocessing.Accessibility.isRawTypePubliclyAccessible;
+import static dagger.internal.codegen.xprocessing.Accessibility.isTypeAccessibleFrom;
 import static dagger.internal.codegen.xprocessing.Accessibility.isTypePubliclyAccessible;
 import static dagger.internal.codegen.xprocessing.XCodeBlocks.makeParametersCodeBlock;
 import static dagger.internal.codegen.xprocessing.XCodeBlocks.toConcatenatedCodeBlock;
 import static dagger.internal.codegen.xprocessing.XCodeBlocks.toParametersCodeBlock;
 import static dagger.internal.codegen.xprocessing.XElements.asExecutable;
+import static dagger.internal.codegen.xprocessing.XElements.asMethod;
 import static dagger.internal.codegen.xprocessing.XElements.asMethodParameter;
 import static dagger.internal.codegen.xprocessing.XElements.getSimpleName;
+import static dagger.internal.codegen.xprocessing.XTypeElements.getAllMethodsIncludingPrivate;
 import static dagger.internal.codegen.xprocessing.XTypeNames.asClassName;
 import static dagger.internal.codegen.xprocessing.XTypeNames.replaceTypeVariablesWithBounds;
 import static dagger.internal.codegen.xprocessing.XTypes.asMemberOf;
@@ -191,6 +196,9 @@ final class InjectionMethods {
      * Invokes each of the injection methods for {@code injectionSites}, with the dependencies
      * transformed using the {@code dependencyUsage} function.
      *
+     * <p>If {@link CompilerOptions#fusedMembersInjection()} is enabled, the fields and methods that
+     * are accessible from {@code generatedTypeName} are injected directly instead.
+     *
      * @param instanceType the type of the {@code instance} parameter
      */
     static XCodeBlock invokeAll(
@@ -205,6 +213,22 @@ final class InjectionMethods {
               injectionSite -> {
                 XType injectSiteType = injectionSite.enclosingTypeElement().getType();
 
+                if (compilerOptions.fusedMembersInjection()
+                    && !instanceType.asTypeName().equals(XTypeName.ANY_OBJECT)
+                    && isDirectlyAccessible(injectionSite, generatedTypeName.getPackageName())) {
+                  // Members of a superclass are accessed through a cast, as the static injection
+                  // method would, in case a subclass hides the field or doesn't inherit the member.
+                  XCodeBlock instance =
+                      injectionSite.enclosingTypeElement().equals(instanceType.getTypeElement())
+                          ? instanceCodeBlock
+                          : XCodeBlock.of(
+                              "((%T) %L)",
+                              toXPoet(erasedTypeName(injectSiteType)),
+                              instanceCodeBlock);
+                  return XCodeBlock.of(
+                      "%L;", invokeDirectly(injectionSite, instance, dependencyUsage));
+                }
+
                 // If instance has been declared as Object because it is not accessible from the
                 // component, but the injectionSite is in a supertype of instanceType that is
                 // publicly accessible, the InjectionSiteMethod will request the actual type and not
@@ -260,6 +284,64 @@ final class InjectionMethods {
           generatedTypeName);
     }
 
+    /**
+     * Returns {@code true} if the field or method of {@code injectionSite}, and the types of its
+     * dependencies, are accessible from {@code packageName}, so that it can be injected without
+     * calling its static injection method.
+     */
+    private static boolean isDirectlyAccessible(InjectionSite injectionSite, String packageName) {
+      return isElementAccessibleFrom(injectionSite.element(), packageName)
+          && isRawTypeAccessible(injectionSite.enclosingTypeElement().getType(), packageName)
+          && injectionSite.dependencies().stream()
+              .allMatch(
+                  dependency ->
+                      isTypeAccessibleFrom(dependency.key().type().xprocessing(), packageName))
+          && !isOverloaded(injectionSite);
+    }
+
+    /**
+     * Returns {@code true} if {@code injectionSite} is a method with overloads, in which case the
+     * arguments may resolve to another overload unless they are passed through the parameters of
+     * the static injection method.
+     */
+    private static boolean isOverloaded(InjectionSite injectionSite) {
+      if (injectionSite.kind() != InjectionSite.Kind.METHOD) {
+        return false;
+      }
+      String name = asMethod(injectionSite.element()).getJvmName();
+      return getAllMethodsIncludingPrivate(injectionSite.enclosingTypeElement()).stream()
+              .filter(method -> method.getJvmName().equals(name))
+              .count()
+          > 1;
+    }
+
+    // Example:
+    //
+    // instance.foo = foo;
+    // instance.injectMethod(foo, bar);
+    private static XCodeBlock invokeDirectly(
+        InjectionSite injectionSite,
+        XCodeBlock instanceCodeBlock,
+        Function<DependencyRequest, XCodeBlock> dependencyUsage) {
+      switch (injectionSite.kind()) {
+        case FIELD:
+          return XCodeBlock.of(
+              "%L.%N = %L",
+              instanceCodeBlock,
+              getSimpleName(injectionSite.element()),
+              dependencyUsage.apply(getOnlyElement(injectionSite.dependencies())));
+        case METHOD:
+          return XCodeBlock.of(
+              "%L.%N(%L)",
+              instanceCodeBlock,
+              asMethod(injectionSite.element()).getJvmName(),
+              injectionSite.dependencies().stream()
+                  .map(dependencyUsage)
+                  .collect(toParametersCodeBlock()));
+      }
+      throw new AssertionError(injectionSite);
+    }
+
     private static ImmutableSortedSet<InjectionSite> injectionSites(Binding binding) {
       switch (binding.kind()) {
         case INJECTION:
@@ -21,6 +21,7 @@ import static dagger.internal.codegen.binding.SourceFiles.generatedClassNameForB
 import static dagger.internal.codegen.extension.DaggerCollectors.toOptional;
 import static dagger.internal.codegen.model.BindingKind.ASSISTED_FACTORY;
 import static dagger.internal.codegen.model.BindingKind.INJECTION;
+import static dagger.internal.codegen.writing.ProvisionMonitoringExpressions.monitoredProvider;
 import static dagger.internal.codegen.xprocessing.XElements.getSimpleName;
 
 import androidx.room3.compiler.codegen.XClassName;
@@ -32,6 +33,7 @@ import dagger.assisted.Assisted;
 import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
 import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
 import dagger.internal.codegen.writing.FrameworkFieldInitializer.FrameworkInstanceCreationExpression;
 import dagger.internal.codegen.xprocessing.XCodeBlocks;
@@ -50,17 +52,20 @@ final class InjectionOrProvisionProviderCreationExpression
   private final ShardImplementation shardImplementation;
   private final ComponentRequestRepresentations componentRequestRepresentations;
   private final XProcessingEnv processingEnv;
+  private final CompilerOptions compilerOptions;
 
   @AssistedInject
   InjectionOrProvisionProviderCreationExpression(
       @Assisted ContributionBinding binding,
       ComponentImplementation componentImplementation,
       ComponentRequestRepresentations componentRequestRepresentations,
-      XProcessingEnv processingEnv) {
+      XProcessingEnv processingEnv,
+      CompilerOptions compilerOptions) {
     this.binding = checkNotNull(binding);
     this.shardImplementation = componentImplementation.shardImplementation(binding);
     this.componentRequestRepresentations = componentRequestRepresentations;
     this.processingEnv = processingEnv;
+    this.compilerOptions = compilerOptions;
   }
 
   @Override
@@ -102,6 +107,10 @@ final class InjectionOrProvisionProviderCreationExpression
       }
     }
 
+    if (compilerOptions.provisionMonitoring() && !binding.kind().equals(ASSISTED_FACTORY)) {
+      createFactory = monitoredProvider(binding, createFactory);
+    }
+
     // When scoping a parameterized factory for an @Inject class, Java 7 cannot always infer the
     // type properly, so cast to a raw framework type before scoping.
     if (binding.kind().equals(INJECTION)
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import static dagger.internal.codegen.base.Util.reentrantComputeIfAbsent;
+import static dagger.internal.codegen.writing.ProvisionBindingRepresentation.needsCaching;
+
+import dagger.internal.codegen.binding.Binding;
+import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.binding.InjectionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.model.DependencyRequest;
+import dagger.internal.codegen.model.RequestKind;
+import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.inject.Inject;
+
+/**
+ * Decides which unscoped bindings of a component have their creation inlined into the methods that
+ * request them rather than wrapped in a private method, within {@link
+ * CompilerOptions#inlineInstanceCreationBudget()}.
+ *
+ * <p>The cost of creating a binding is an estimate of the bytecode of its creation expression: the
+ * constructor or {@code @Provides} method call, plus the expressions for its dependencies. An
+ * inlined dependency costs its own creation expression, and any other dependency costs a method
+ * call or a framework field read.
+ */
+@PerComponentImplementation
+final class InstanceCreationInlining {
+  // new, dup and invokespecial, or aload, invokevirtual and a cast for a @Provides method.
+  private static final int CREATION_BYTES = 7;
+  // Loading the module instance from its field.
+  private static final int MODULE_INSTANCE_BYTES = 4;
+  // Calling the component's members injection method with the new instance.
+  private static final int MEMBERS_INJECTION_BYTES = 4;
+  // Calling a private method or reading a framework field and calling get() on it.
+  private static final int DEPENDENCY_CALL_BYTES = 8;
+
+  private final BindingGraph graph;
+  private final CompilerMode compilerMode;
+  private final CompilerOptions compilerOptions;
+  private final int budget;
+  private final Map<ContributionBinding, Integer> creationBytes = new HashMap<>();
+
+  @Inject
+  InstanceCreationInlining(
+      BindingGraph graph,
+      ComponentImplementation componentImplementation,
+      CompilerOptions compilerOptions) {
+    this.graph = graph;
+    this.compilerMode = componentImplementation.compilerMode();
+    this.compilerOptions = compilerOptions;
+    this.budget = compilerOptions.inlineInstanceCreationBudget();
+  }
+
+  /**
+   * Returns {@code true} if the creation of {@code binding} and of the dependencies it inlines fits
+   * in the budget, so that it can be inlined into the methods that request it.
+   */
+  boolean inlinesInstanceCreation(ContributionBinding binding) {
+    return budget > 0 && isInlinable(binding) && creationBytes(binding) <= budget;
+  }
+
+  private int creationBytes(ContributionBinding binding) {
+    return reentrantComputeIfAbsent(creationBytes, binding, this::creationBytesUncached);
+  }
+
+  private int creationBytesUncached(ContributionBinding binding) {
+    int bytes = CREATION_BYTES;
+    if (binding.requiresModuleInstance()) {
+      bytes += MODULE_INSTANCE_BYTES;
+    }
+    if (binding instanceof InjectionBinding
+        && !((InjectionBinding) binding).injectionSites().isEmpty()) {
+      bytes += MEMBERS_INJECTION_BYTES;
+    }
+    for (DependencyRequest dependency : binding.dependencies()) {
+      bytes += dependencyBytes(dependency);
+      if (bytes > budget) {
+        // No need to look any further, this binding won't be inlined.
+        break;
+      }
+    }
+    return bytes;
+  }
+
+  private int dependencyBytes(DependencyRequest dependency) {
+    if (!dependency.kind().equals(RequestKind.INSTANCE)) {
+      return DEPENDENCY_CALL_BYTES;
+    }
+    Optional<Binding> localBinding = graph.localContributionBinding(dependency.key());
+    if (!localBinding.isPresent()) {
+      // Bindings owned by an ancestor component are created by the ancestor.
+      return DEPENDENCY_CALL_BYTES;
+    }
+    ContributionBinding binding = (ContributionBinding) localBinding.get();
+    if (!isInlinable(binding)
+        || (compilerMode.isFastInit() && graph.topLevelBindingGraph().hasFrameworkRequest(binding))) {
+      return DEPENDENCY_CALL_BYTES;
+    }
+    // Bindings without dependencies are always created inline.
+    return binding.dependencies().isEmpty() || creationBytes(binding) <= budget
+        ? creationBytes(binding)
+        : DEPENDENCY_CALL_BYTES;
+  }
+
+  private boolean isInlinable(ContributionBinding binding) {
+    switch (binding.kind()) {
+      case INJECTION:
+      case PROVISION:
+        return !needsCaching(binding, graph)
+            && !binding.poolSize().isPresent()
+            && !ScopedInstances.usesSlot(binding, compilerMode, compilerOptions);
+      default:
+        return false;
+    }
+  }
+}
@@ -52,6 +52,7 @@ import androidx.room3.compiler.codegen.XParameterSpec;
 import androidx.room3.compiler.codegen.XPropertySpec;
 import androidx.room3.compiler.codegen.XTypeName;
 import androidx.room3.compiler.codegen.XTypeSpec;
+import androidx.room3.compiler.processing.XAnnotation;
 import androidx.room3.compiler.processing.XElement;
 import androidx.room3.compiler.processing.XFiler;
 import androidx.room3.compiler.processing.XMethodElement;
@@ -128,6 +129,12 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
             .addFunction(collectDependenciesMethod(binding, factoryFields))
             .addFunction(callProducesMethod(binding, factoryFields));
 
+    if (binding.bindingElement().get().hasAnnotation(XTypeNames.DIRECT_EXECUTION)) {
+      factoryBuilder.addFunction(executesDirectlyMethod());
+    }
+    Optional.ofNullable(binding.bindingElement().get().getAnnotation(XTypeNames.TIMEOUT))
+        .ifPresent(timeout -> factoryBuilder.addFunction(timeoutNanosMethod(timeout)));
+
     gwtIncompatibleAnnotation(binding).ifPresent(factoryBuilder::addAnnotation);
 
     return ImmutableList.of(factoryBuilder.build());
@@ -386,6 +393,36 @@ public final class ProducerFactoryGenerator extends SourceFileGenerator<Producti
     return methodBuilder.build();
   }
 
+  // @Override
+  // protected boolean executesDirectly() {
+  //   return true;
+  // }
+  private XFunSpec executesDirectlyMethod() {
+    return methodBuilder("executesDirectly")
+        .isOverride(true)
+        .addModifiers(PROTECTED)
+        .returns(XTypeName.PRIMITIVE_BOOLEAN)
+        .addStatement("return true")
+        .build();
+  }
+
+  // @Override
+  // protected long timeoutNanos() {
+  //   return TimeUnit.SECONDS.toNanos(5L);
+  // }
+  private XFunSpec timeoutNanosMethod(XAnnotation timeout) {
+    return methodBuilder("timeoutNanos")
+        .isOverride(true)
+        .addModifiers(PROTECTED)
+        .returns(XTypeName.PRIMITIVE_LONG)
+        .addStatement(
+            "return %T.%N.toNanos(%LL)",
+            XTypeNames.TIME_UNIT,
+            timeout.getAsEnum("unit").getName(),
+            timeout.getAsLong("value"))
+        .build();
+  }
+
   private XParameterSpec callProducesMethodParameter(ProductionBinding binding) {
     ImmutableList<DependencyRequest> asyncDependencies = asyncDependencies(binding);
     switch (asyncDependencies.size()) {
@@ -22,6 +22,7 @@ import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.FrameworkType;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 
 /** Binding expression for provider instances. */
 final class ProviderInstanceRequestRepresentation extends FrameworkInstanceRequestRepresentation {
@@ -33,6 +34,7 @@ final class ProviderInstanceRequestRepresentation extends FrameworkInstanceReque
       StaticFactoryInstanceSupplier.Factory staticFactoryInstanceSupplierFactory,
       ProviderInstanceSupplier.Factory providerInstanceSupplierFactory,
       ComponentImplementation componentImplementation,
+      CompilerOptions compilerOptions,
       XProcessingEnv processingEnv) {
     super(
         binding,
@@ -41,7 +43,8 @@ final class ProviderInstanceRequestRepresentation extends FrameworkInstanceReque
             switchingProviderInstanceSupplierFactory,
             staticFactoryInstanceSupplierFactory,
             providerInstanceSupplierFactory,
-            componentImplementation),
+            componentImplementation,
+            compilerOptions),
         processingEnv);
   }
 
@@ -55,9 +58,10 @@ final class ProviderInstanceRequestRepresentation extends FrameworkInstanceReque
       SwitchingProviderInstanceSupplier.Factory switchingProviderInstanceSupplierFactory,
       StaticFactoryInstanceSupplier.Factory staticFactoryInstanceSupplierFactory,
       ProviderInstanceSupplier.Factory providerInstanceSupplierFactory,
-      ComponentImplementation componentImplementation) {
+      ComponentImplementation componentImplementation,
+      CompilerOptions compilerOptions) {
     FrameworkInstanceKind frameworkInstanceKind =
-        FrameworkInstanceKind.from(binding, componentImplementation.compilerMode());
+        FrameworkInstanceKind.from(binding, componentImplementation.compilerMode(), compilerOptions);
     switch (frameworkInstanceKind) {
       case SWITCHING_PROVIDER:
         return switchingProviderInstanceSupplierFactory.create(binding);
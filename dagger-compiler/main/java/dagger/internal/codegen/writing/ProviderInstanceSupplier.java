@@ -44,7 +44,9 @@ final class ProviderInstanceSupplier implements FrameworkInstanceSupplier {
             binding,
             binding.scope().isPresent()
                 ? bindingRepresentations.scope(binding, frameworkInstanceCreationExpression)
-                : frameworkInstanceCreationExpression);
+                : binding.poolSize().isPresent()
+                    ? bindingRepresentations.pool(binding, frameworkInstanceCreationExpression)
+                    : frameworkInstanceCreationExpression);
   }
 
   @Override
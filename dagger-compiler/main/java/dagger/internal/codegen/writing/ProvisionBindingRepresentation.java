@@ -26,6 +26,7 @@ import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.BindingRequest;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.binding.DelegateBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
 import dagger.internal.codegen.model.RequestKind;
 import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
 
@@ -36,20 +37,27 @@ import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
 final class ProvisionBindingRepresentation implements BindingRepresentation {
   private final BindingGraph graph;
   private final CompilerMode compilerMode;
+  private final CompilerOptions compilerOptions;
   private final ContributionBinding binding;
   private final DirectInstanceBindingRepresentation directInstanceBindingRepresentation;
   private final FrameworkInstanceBindingRepresentation frameworkInstanceBindingRepresentation;
+  private final ScopedInstanceRequestRepresentation.Factory
+      scopedInstanceRequestRepresentationFactory;
 
   @AssistedInject
   ProvisionBindingRepresentation(
       @Assisted ContributionBinding binding,
       DirectInstanceBindingRepresentation.Factory directInstanceBindingRepresentationFactory,
       FrameworkInstanceBindingRepresentation.Factory frameworkInstanceBindingRepresentationFactory,
+      ScopedInstanceRequestRepresentation.Factory scopedInstanceRequestRepresentationFactory,
       BindingGraph graph,
-      ComponentImplementation componentImplementation) {
+      ComponentImplementation componentImplementation,
+      CompilerOptions compilerOptions) {
     this.binding = binding;
     this.graph = graph;
     this.compilerMode = componentImplementation.compilerMode();
+    this.compilerOptions = compilerOptions;
+    this.scopedInstanceRequestRepresentationFactory = scopedInstanceRequestRepresentationFactory;
     this.directInstanceBindingRepresentation =
         directInstanceBindingRepresentationFactory.create(binding);
     this.frameworkInstanceBindingRepresentation =
@@ -58,6 +66,10 @@ final class ProvisionBindingRepresentation implements BindingRepresentation {
 
   @Override
   public RequestRepresentation getRequestRepresentation(BindingRequest request) {
+    if (request.requestKind() == RequestKind.INSTANCE
+        && ScopedInstances.usesSlot(binding, compilerMode, compilerOptions)) {
+      return scopedInstanceRequestRepresentationFactory.create(binding);
+    }
     return usesDirectInstanceExpression(request.requestKind())
         ? directInstanceBindingRepresentation.getRequestRepresentation(request)
         : frameworkInstanceBindingRepresentation.getRequestRepresentation(request);
@@ -94,9 +106,10 @@ final class ProvisionBindingRepresentation implements BindingRepresentation {
             "Assisted injection binding shouldn't be requested with an instance request.");
       default:
         // We don't need to use Provider#get() if there's no caching, so use a direct instance.
+        // Pooled bindings always use Provider#get() so that released instances are reused.
         // TODO(bcorso): This can be optimized in cases where we know a Provider field already
         // exists, in which case even if it's not scoped we might as well call Provider#get().
-        return !needsCaching(binding, graph);
+        return !needsCaching(binding, graph) && !binding.poolSize().isPresent();
     }
   }
 
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import static dagger.internal.codegen.xprocessing.Accessibility.accessibleTypeName;
+import static dagger.internal.codegen.xprocessing.Accessibility.isTypeAccessibleFrom;
+
+import androidx.room3.compiler.codegen.XClassName;
+import androidx.room3.compiler.codegen.XCodeBlock;
+import androidx.room3.compiler.processing.XProcessingEnv;
+import androidx.room3.compiler.processing.XType;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.model.Scope;
+import dagger.internal.codegen.xprocessing.XTypeNames;
+
+/**
+ * Helper class for wrapping provisions with calls to {@code dagger.internal.ProvisionMonitoring}
+ * when {@link dagger.internal.codegen.compileroption.CompilerOptions#provisionMonitoring()} is
+ * enabled.
+ */
+final class ProvisionMonitoringExpressions {
+  /**
+   * Returns an expression that evaluates {@code instance} and reports the time taken to the
+   * installed monitor, e.g. {@code ProvisionMonitoring.finish("Foo", null,
+   * ProvisionMonitoring.start(), new Foo())}.
+   */
+  static XCodeBlock monitoredInstance(
+      ContributionBinding binding,
+      XCodeBlock instance,
+      XClassName requestingClass,
+      XProcessingEnv processingEnv) {
+    XType type = binding.contributedType();
+    // javac won't infer a type argument that is inaccessible from the requesting class when the
+    // result is passed on to another generic method, so name an accessible supertype instead.
+    XCodeBlock typeArgument =
+        isTypeAccessibleFrom(type, requestingClass.getPackageName())
+            ? XCodeBlock.of("")
+            : XCodeBlock.of("<%T>", accessibleTypeName(type, requestingClass, processingEnv));
+    return XCodeBlock.of(
+        "%T.%Lfinish(%L, %T.start(), %L)",
+        XTypeNames.PROVISION_MONITORING,
+        typeArgument,
+        keyAndScope(binding),
+        XTypeNames.PROVISION_MONITORING,
+        instance);
+  }
+
+  /**
+   * Returns an expression that wraps {@code provider} so that each call to {@code get()} is
+   * reported to the installed monitor.
+   */
+  static XCodeBlock monitoredProvider(ContributionBinding binding, XCodeBlock provider) {
+    return XCodeBlock.of(
+        "%T.monitor(%L, %L)", XTypeNames.PROVISION_MONITORING, provider, keyAndScope(binding));
+  }
+
+  private static XCodeBlock keyAndScope(ContributionBinding binding) {
+    return binding.scope().isPresent()
+        ? XCodeBlock.of(
+            "%S, %S", binding.key().toString(), binding.scope().map(Scope::toString).get())
+        : XCodeBlock.of("%S, null", binding.key().toString());
+  }
+
+  private ProvisionMonitoringExpressions() {}
+}
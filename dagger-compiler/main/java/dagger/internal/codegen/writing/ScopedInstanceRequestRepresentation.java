@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import androidx.room3.compiler.codegen.XClassName;
+import dagger.assisted.Assisted;
+import dagger.assisted.AssistedFactory;
+import dagger.assisted.AssistedInject;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
+import dagger.internal.codegen.xprocessing.XExpression;
+
+/**
+ * A binding expression for an instance request of a scoped binding whose instance is stored in a
+ * {@link ScopedInstances} slot.
+ */
+final class ScopedInstanceRequestRepresentation extends RequestRepresentation {
+  private final ContributionBinding binding;
+  private final ShardImplementation shardImplementation;
+  private final RequestRepresentation unscopedInstanceRequestRepresentation;
+
+  @AssistedInject
+  ScopedInstanceRequestRepresentation(
+      @Assisted ContributionBinding binding,
+      ComponentImplementation componentImplementation,
+      UnscopedDirectInstanceRequestRepresentationFactory
+          unscopedDirectInstanceRequestRepresentationFactory) {
+    this.binding = binding;
+    this.shardImplementation = componentImplementation.shardImplementation(binding);
+    this.unscopedInstanceRequestRepresentation =
+        unscopedDirectInstanceRequestRepresentationFactory.create(binding);
+  }
+
+  @Override
+  XExpression getDependencyExpression(XClassName requestingClass) {
+    return shardImplementation
+        .getScopedInstances()
+        .instanceExpression(binding, unscopedInstanceRequestRepresentation, requestingClass);
+  }
+
+  @AssistedFactory
+  static interface Factory {
+    ScopedInstanceRequestRepresentation create(ContributionBinding binding);
+  }
+}
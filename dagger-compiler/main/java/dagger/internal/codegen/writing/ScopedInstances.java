@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
+import static dagger.internal.codegen.xprocessing.Accessibility.isTypeAccessibleFrom;
+import static dagger.internal.codegen.xprocessing.XCodeBlocks.concat;
+import static dagger.internal.codegen.xprocessing.XCodeBlocks.toParametersCodeBlock;
+import static dagger.internal.codegen.xprocessing.XFunSpecs.constructorBuilder;
+import static dagger.internal.codegen.xprocessing.XFunSpecs.methodBuilder;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import androidx.room3.compiler.codegen.XClassName;
+import androidx.room3.compiler.codegen.XCodeBlock;
+import androidx.room3.compiler.codegen.XFunSpec;
+import androidx.room3.compiler.codegen.XTypeName;
+import androidx.room3.compiler.codegen.XTypeSpec;
+import androidx.room3.compiler.processing.XProcessingEnv;
+import androidx.room3.compiler.processing.XType;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.model.Key;
+import dagger.internal.codegen.writing.ComponentImplementation.CompilerMode;
+import dagger.internal.codegen.writing.ComponentImplementation.FieldSpecKind;
+import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
+import dagger.internal.codegen.xprocessing.XExpression;
+import dagger.internal.codegen.xprocessing.XFunSpecs;
+import dagger.internal.codegen.xprocessing.XPropertySpecs;
+import dagger.internal.codegen.xprocessing.XTypeNames;
+import dagger.internal.codegen.xprocessing.XTypeSpecs;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of the scoped instances stored in slots for a shard.
+ *
+ * <p>When {@code dagger.scopedInstanceSlots} is enabled in fast-init mode, each shard gets a single
+ * {@code ScopedInstances} class that extends {@code dagger.internal.ScopedInstanceSlots} and
+ * creates the instance for a slot by switching on it. Instance requests call {@code
+ * scopedInstances.get(slot)} and framework requests use {@code scopedInstances.provider(slot)}, so
+ * a scoped binding that is only requested as an instance needs no field or object of its own.
+ */
+final class ScopedInstances {
+  private final ShardImplementation shardImplementation;
+  private final CompilerOptions compilerOptions;
+  private final XProcessingEnv processingEnv;
+
+  // Keep the cases ordered by slot. The slots are assigned in pre-order traversal, but the cases
+  // are assigned in post-order traversal of the binding graph.
+  private final Map<Integer, XCodeBlock> cases = new TreeMap<>();
+  private final Map<Key, Integer> slots = new HashMap<>();
+  // The class and field are only added to the shard once it has a slot.
+  private final Supplier<XClassName> scopedInstancesType =
+      memoize(this::createScopedInstancesType);
+  private final Supplier<String> fieldName = memoize(this::addScopedInstancesField);
+
+  ScopedInstances(
+      ShardImplementation shardImplementation,
+      CompilerOptions compilerOptions,
+      XProcessingEnv processingEnv) {
+    this.shardImplementation = checkNotNull(shardImplementation);
+    this.compilerOptions = checkNotNull(compilerOptions);
+    this.processingEnv = checkNotNull(processingEnv);
+  }
+
+  /** Returns {@code true} if the instance of {@code binding} is stored in a slot. */
+  static boolean usesSlot(
+      ContributionBinding binding, CompilerMode compilerMode, CompilerOptions compilerOptions) {
+    if (!compilerMode.isFastInit()
+        || !compilerOptions.scopedInstanceSlots()
+        || !binding.scope().isPresent()
+        || binding.scope().get().isUsableInAnyComponent()) {
+      return false;
+    }
+    switch (binding.kind()) {
+      case INJECTION:
+      case PROVISION:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /** Returns an expression that evaluates to the scoped instance of {@code binding}. */
+  XExpression instanceExpression(
+      ContributionBinding binding,
+      RequestRepresentation unscopedInstanceRequestRepresentation,
+      XClassName requestingClass) {
+    int slot = slot(binding, unscopedInstanceRequestRepresentation);
+    XCodeBlock get = XCodeBlock.of("%L.get(%L)", fieldReference(requestingClass), slot);
+    XType type = binding.contributedType().boxed();
+    return isTypeAccessibleFrom(type, requestingClass.getPackageName())
+        ? XExpression.create(type, XCodeBlock.of("(%T) %L", type.asTypeName(), get))
+        : XExpression.create(processingEnv.requireType(XTypeName.ANY_OBJECT), get);
+  }
+
+  /** Returns an expression that creates a {@code Provider} for the instance of {@code binding}. */
+  XCodeBlock providerCreationExpression(
+      ContributionBinding binding, RequestRepresentation unscopedInstanceRequestRepresentation) {
+    int slot = slot(binding, unscopedInstanceRequestRepresentation);
+    XType type = binding.contributedType().boxed();
+    return XCodeBlock.of(
+        "%L.%Lprovider(%L)",
+        fieldReference(shardImplementation.name()),
+        shardImplementation.isTypeAccessible(type)
+            ? XCodeBlock.of("<%T>", type.asTypeName())
+            : XCodeBlock.of(""),
+        slot);
+  }
+
+  /** Returns the number of slots. */
+  int size() {
+    return slots.size();
+  }
+
+  private XCodeBlock fieldReference(XClassName requestingClass) {
+    return MemberSelect.localField(shardImplementation, fieldName.get())
+        .getExpressionFor(requestingClass);
+  }
+
+  private int slot(
+      ContributionBinding binding, RequestRepresentation unscopedInstanceRequestRepresentation) {
+    Key key = binding.key();
+    if (!slots.containsKey(key)) {
+      // Add the field before creating the case, which may add fields for its dependencies.
+      String fieldName = this.fieldName.get();
+      int slot = slots.size();
+      slots.put(key, slot);
+      ComponentFootprintReport footprintReport =
+          shardImplementation.getComponentImplementation().footprintReport();
+      if (footprintReport.isEnabled()) {
+        footprintReport.recordScopedInstanceSlot(shardImplementation, fieldName, slot, binding);
+      }
+      cases.put(slot, createCaseCodeBlock(key, slot, unscopedInstanceRequestRepresentation));
+    }
+    return slots.get(key);
+  }
+
+  private XClassName createScopedInstancesType() {
+    return shardImplementation
+        .name()
+        .nestedClass(shardImplementation.getUniqueClassName("ScopedInstances"));
+  }
+
+  private String addScopedInstancesField() {
+    XClassName scopedInstancesType = this.scopedInstancesType.get();
+    String fieldName = shardImplementation.getUniqueFieldName("scopedInstances");
+    XPropertySpecs.Builder field = XPropertySpecs.builder(fieldName, scopedInstancesType);
+    // TODO(bcorso): remove once dagger.generatedClassExtendsComponent flag is removed.
+    if (!shardImplementation.isShardClassPrivate()) {
+      field.addModifiers(PRIVATE);
+    }
+    shardImplementation.addField(FieldSpecKind.FRAMEWORK_FIELD, field.build());
+    shardImplementation.addInitialization(
+        XCodeBlock.of(
+            "this.%N = %L;",
+            fieldName,
+            XCodeBlock.ofNewInstance(
+                scopedInstancesType,
+                "%L",
+                shardImplementation.componentFieldsByImplementation().values().stream()
+                    .map(componentField -> XCodeBlock.of("%N", componentField))
+                    .collect(toParametersCodeBlock()))));
+    shardImplementation.addTypeSupplier(this::build);
+    return fieldName;
+  }
+
+  private XCodeBlock createCaseCodeBlock(
+      Key key, int slot, RequestRepresentation unscopedInstanceRequestRepresentation) {
+    XCodeBlock instanceCodeBlock =
+        unscopedInstanceRequestRepresentation
+            .getDependencyExpression(scopedInstancesType.get())
+            .box()
+            .codeBlock();
+    return XCodeBlock.builder()
+        .add("case %L: // %L\n", slot, key)
+        .addStatement("return %L", instanceCodeBlock)
+        .build();
+  }
+
+  private XTypeSpec build() {
+    XTypeSpecs.Builder builder =
+        XTypeSpecs.classBuilder(scopedInstancesType.get())
+            .addModifiers(PRIVATE, FINAL, STATIC)
+            .superclass(XTypeNames.SCOPED_INSTANCE_SLOTS)
+            .addFunctions(createMethods());
+
+    XFunSpecs.Builder constructor = constructorBuilder().addStatement("super(%L)", slots.size());
+    shardImplementation
+        .componentFieldsByImplementation()
+        .values()
+        .forEach(
+            field -> {
+              builder.addProperty(field);
+              constructor.addParameter(field.getName(), field.getType()); // SUPPRESS_GET_NAME_CHECK
+              constructor.addStatement("this.%1N = %1N", field);
+            });
+    return builder.addFunction(constructor.build()).build();
+  }
+
+  private ImmutableList<XFunSpec> createMethods() {
+    int maxCasesPerSwitch = compilerOptions.switchingProviderCasesPerSwitch();
+    ImmutableList<XCodeBlock> partitions =
+        Lists.partition(ImmutableList.copyOf(cases.values()), maxCasesPerSwitch).stream()
+            .map(
+                partitionCases ->
+                    XCodeBlock.builder()
+                        .beginControlFlow("switch (slot)")
+                        .add(concat(partitionCases))
+                        .addStatement(
+                            "default: throw %L",
+                            XCodeBlock.ofNewInstance(XTypeNames.ASSERTION_ERROR, "slot"))
+                        .endControlFlow()
+                        .build())
+            .collect(toImmutableList());
+    XFunSpecs.Builder createMethod =
+        methodBuilder("create")
+            .isOverride(true)
+            .addModifiers(PROTECTED)
+            .returns(XTypeName.ANY_OBJECT)
+            .addParameter("slot", XTypeName.PRIMITIVE_INT);
+    if (partitions.size() == 1) {
+      return ImmutableList.of(createMethod.addCode(getOnlyElement(partitions)).build());
+    }
+
+    // Route to private methods that each hold one switch, as SwitchingProviders does.
+    createMethod.beginControlFlow("switch (slot / %L)", maxCasesPerSwitch);
+    ImmutableList.Builder<XFunSpec> methods = ImmutableList.builder();
+    for (int i = 0; i < partitions.size(); i++) {
+      XFunSpec method =
+          methodBuilder("create" + i)
+              .addModifiers(PRIVATE)
+              .returns(XTypeName.ANY_OBJECT)
+              .addParameter("slot", XTypeName.PRIMITIVE_INT)
+              .addCode(partitions.get(i))
+              .build();
+      methods.add(method);
+      createMethod.addStatement("case %L: return %N(slot)", i, method);
+    }
+    createMethod
+        .addStatement(
+            "default: throw %L", XCodeBlock.ofNewInstance(XTypeNames.ASSERTION_ERROR, "slot"))
+        .endControlFlow();
+    return methods.add(createMethod.build()).build();
+  }
+}
@@ -104,6 +104,23 @@ final class SetRequestRepresentation extends RequestRepresentation {
         }
         // fall through
       default:
+        if (!isImmutableSetAvailable
+            && isTypeAccessibleFrom(
+                SetType.from(binding.key()).elementType(), requestingClass.getPackageName())
+            && binding.dependencies().stream().allMatch(this::isSingleValue)) {
+          // The size is known up front, so skip the intermediate list that SetBuilder collects.
+          return XExpression.create(
+              binding.key().type().xprocessing(),
+              XCodeBlock.builder()
+                  .add("%T.", XTypeNames.SET_BUILDER)
+                  .add(maybeTypeParameter(requestingClass))
+                  .add(
+                      "setOf(%L)",
+                      binding.dependencies().stream()
+                          .map(dependency -> getContributionExpression(dependency, requestingClass))
+                          .collect(toParametersCodeBlock()))
+                  .build());
+        }
         XCodeBlock.Builder instantiation = XCodeBlock.builder();
         instantiation
             .add("%T.", isImmutableSetAvailable ? XTypeNames.IMMUTABLE_SET : XTypeNames.SET_BUILDER)
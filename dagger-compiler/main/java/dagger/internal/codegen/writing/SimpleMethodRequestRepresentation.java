@@ -20,6 +20,7 @@ import static androidx.room3.compiler.codegen.compat.XConverters.toJavaPoet;
 import static androidx.room3.compiler.processing.XElementKt.isConstructor;
 import static androidx.room3.compiler.processing.XElementKt.isMethod;
 import static com.google.common.base.Preconditions.checkArgument;
+import static dagger.internal.codegen.writing.ProvisionMonitoringExpressions.monitoredInstance;
 import static dagger.internal.codegen.xprocessing.Accessibility.isElementAccessibleFrom;
 import static dagger.internal.codegen.xprocessing.Accessibility.isRawTypeAccessible;
 import static dagger.internal.codegen.xprocessing.Accessibility.isTypeAccessibleFrom;
@@ -92,9 +93,16 @@ final class SimpleMethodRequestRepresentation extends RequestRepresentation {
 
   @Override
   XExpression getDependencyExpression(XClassName requestingClass) {
-    return requiresProxyMethod(requestingClass)
-        ? invokeProxyMethod(requestingClass)
-        : invokeMethod(requestingClass);
+    XExpression expression =
+        requiresProxyMethod(requestingClass)
+            ? invokeProxyMethod(requestingClass)
+            : invokeMethod(requestingClass);
+    // Primitive provisions are left unmonitored rather than boxing them.
+    return compilerOptions.provisionMonitoring() && !binding.contributedPrimitiveType().isPresent()
+        ? XExpression.create(
+            expression.type(),
+            monitoredInstance(binding, expression.codeBlock(), requestingClass, processingEnv))
+        : expression;
   }
 
   private XExpression invokeMethod(XClassName requestingClass) {
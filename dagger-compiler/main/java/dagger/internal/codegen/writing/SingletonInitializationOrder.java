@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen.writing;
+
+import static dagger.internal.codegen.extension.DaggerStreams.instancesOf;
+import static dagger.internal.codegen.extension.DaggerStreams.toImmutableSet;
+import static dagger.internal.codegen.writing.ProvisionBindingRepresentation.needsCaching;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import dagger.internal.codegen.binding.Binding;
+import dagger.internal.codegen.binding.BindingGraph;
+import dagger.internal.codegen.binding.BindingNode;
+import dagger.internal.codegen.binding.BindingType;
+import dagger.internal.codegen.binding.ContributionBinding;
+import dagger.internal.codegen.model.BindingGraph.Node;
+import dagger.internal.codegen.model.DependencyRequest;
+import dagger.internal.codegen.model.RequestKind;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes the scoped bindings that a root component creates in its {@code initializeSingletons}
+ * method, and the order in which they can be created.
+ */
+final class SingletonInitializationOrder {
+  /**
+   * Returns the scoped bindings owned by the component of {@code graph}, each mapped to the other
+   * scoped bindings that must be created before it.
+   *
+   * <p>The bindings are iterated in the order of {@link
+   * dagger.internal.codegen.binding.BindingGraph.TopLevelBindingGraph#stronglyConnectedNodes()},
+   * so each binding comes after the bindings it depends on. A dependency on a scoped binding
+   * reached through unscoped bindings counts, because creating the unscoped bindings creates it.
+   * Only instance requests count; {@code Provider} and {@code Lazy} requests do not create
+   * anything. Bindings in a cycle only depend on those that come before them.
+   */
+  static ImmutableMap<ContributionBinding, ImmutableSet<ContributionBinding>> create(
+      BindingGraph graph) {
+    SingletonInitializationOrder order = new SingletonInitializationOrder(graph);
+    Map<ContributionBinding, ImmutableSet<ContributionBinding>> dependencies =
+        new LinkedHashMap<>();
+    for (ImmutableSet<Node> nodes : graph.topLevelBindingGraph().stronglyConnectedNodes()) {
+      nodes.stream()
+          .flatMap(instancesOf(BindingNode.class))
+          .filter(bindingNode -> bindingNode.componentPath().equals(graph.componentPath()))
+          .map(BindingNode::delegate)
+          .filter(order::isSingleton)
+          .map(ContributionBinding.class::cast)
+          .forEach(
+              binding ->
+                  dependencies.put(
+                      binding,
+                      order.singletonsCreatedBy(binding).stream()
+                          .filter(dependencies::containsKey)
+                          .collect(toImmutableSet())));
+    }
+    return ImmutableMap.copyOf(dependencies);
+  }
+
+  private final BindingGraph graph;
+  private final Map<ContributionBinding, ImmutableSet<ContributionBinding>> unscopedCache =
+      new HashMap<>();
+
+  private SingletonInitializationOrder(BindingGraph graph) {
+    this.graph = graph;
+  }
+
+  private boolean isSingleton(Binding binding) {
+    return binding instanceof ContributionBinding
+        && binding.bindingType().equals(BindingType.PROVISION)
+        && binding.scope().isPresent()
+        && !binding.scope().get().isUsableInAnyComponent()
+        && needsCaching((ContributionBinding) binding, graph);
+  }
+
+  /** Returns the scoped bindings that are created, directly or not, by creating {@code binding}. */
+  private ImmutableSet<ContributionBinding> singletonsCreatedBy(ContributionBinding binding) {
+    Set<ContributionBinding> singletons = new LinkedHashSet<>();
+    for (DependencyRequest dependency : binding.dependencies()) {
+      if (!dependency.kind().equals(RequestKind.INSTANCE)) {
+        continue;
+      }
+      ContributionBinding dependencyBinding = graph.contributionBinding(dependency.key());
+      if (isSingleton(dependencyBinding)) {
+        singletons.add(dependencyBinding);
+      } else {
+        singletons.addAll(unscopedSingletonsCreatedBy(dependencyBinding));
+      }
+    }
+    return ImmutableSet.copyOf(singletons);
+  }
+
+  private ImmutableSet<ContributionBinding> unscopedSingletonsCreatedBy(
+      ContributionBinding binding) {
+    // Instance requests can't form a cycle, so this doesn't recurse into itself.
+    ImmutableSet<ContributionBinding> singletons = unscopedCache.get(binding);
+    if (singletons == null) {
+      singletons = singletonsCreatedBy(binding);
+      unscopedCache.put(binding, singletons);
+    }
+    return singletons;
+  }
+}
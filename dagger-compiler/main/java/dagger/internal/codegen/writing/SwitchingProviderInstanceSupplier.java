@@ -20,7 +20,6 @@ import androidx.room3.compiler.codegen.XCodeBlock;
 import dagger.assisted.Assisted;
 import dagger.assisted.AssistedFactory;
 import dagger.assisted.AssistedInject;
-import dagger.internal.codegen.binding.Binding;
 import dagger.internal.codegen.binding.BindingGraph;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.compileroption.CompilerOptions;
@@ -36,6 +35,7 @@ import dagger.internal.codegen.xprocessing.XTypeNames;
 final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSupplier {
   private final FrameworkInstanceSupplier frameworkInstanceSupplier;
   private final CompilerOptions compilerOptions;
+  private final BindingRepresentations bindingRepresentations;
 
   @AssistedInject
   SwitchingProviderInstanceSupplier(
@@ -44,19 +44,27 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
       ComponentImplementation componentImplementation,
       CompilerOptions compilerOptions,
       UnscopedDirectInstanceRequestRepresentationFactory
-          unscopedDirectInstanceRequestRepresentationFactory) {
+          unscopedDirectInstanceRequestRepresentationFactory,
+      BindingRepresentations bindingRepresentations) {
+    this.bindingRepresentations = bindingRepresentations;
     ShardImplementation shardImplementation = componentImplementation.shardImplementation(binding);
+    RequestRepresentation unscopedInstanceRequestRepresentation =
+        unscopedDirectInstanceRequestRepresentationFactory.create(binding);
     FrameworkInstanceCreationExpression frameworkInstanceCreationExpression =
-        shardImplementation
-            .getSwitchingProviders()
-            .newFrameworkInstanceCreationExpression(
-                binding, unscopedDirectInstanceRequestRepresentationFactory.create(binding));
+        ScopedInstances.usesSlot(binding, componentImplementation.compilerMode(), compilerOptions)
+            ? () ->
+                shardImplementation
+                    .getScopedInstances()
+                    .providerCreationExpression(binding, unscopedInstanceRequestRepresentation)
+            : scope(
+                binding,
+                shardImplementation
+                    .getSwitchingProviders()
+                    .newFrameworkInstanceCreationExpression(
+                        binding, unscopedInstanceRequestRepresentation));
     this.frameworkInstanceSupplier =
         new FrameworkFieldInitializer(
-            compilerOptions,
-            componentImplementation,
-            binding,
-            scope(binding, frameworkInstanceCreationExpression));
+            compilerOptions, componentImplementation, binding, frameworkInstanceCreationExpression);
     this.compilerOptions = compilerOptions;
   }
 
@@ -66,7 +74,10 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
   }
 
   private FrameworkInstanceCreationExpression scope(
-      Binding binding, FrameworkInstanceCreationExpression unscoped) {
+      ContributionBinding binding, FrameworkInstanceCreationExpression unscoped) {
+    if (binding.poolSize().isPresent()) {
+      return bindingRepresentations.pool(binding, unscoped);
+    }
     // Caching assisted factory provider, so that there won't be new factory created for each
     // provider.get() call.
     if (!binding.scope().isPresent() && !binding.kind().equals(BindingKind.ASSISTED_FACTORY)) {
@@ -76,9 +87,7 @@ final class SwitchingProviderInstanceSupplier implements FrameworkInstanceSuppli
         XCodeBlock.of(
             "%T.provider(%L)",
             binding.scope().isPresent()
-                ? (binding.scope().get().isReusable()
-                    ? XTypeNames.SINGLE_CHECK
-                    : XTypeNames.DOUBLE_CHECK)
+                ? bindingRepresentations.scopeClassName(binding.scope().get())
                 : XTypeNames.SINGLE_CHECK,
             unscoped.creationExpression());
   }
@@ -17,7 +17,6 @@
 package dagger.internal.codegen.writing;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Iterables.getLast;
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static dagger.internal.codegen.extension.DaggerStreams.toImmutableList;
 import static dagger.internal.codegen.xprocessing.XAnnotationSpecs.Suppression.UNCHECKED;
@@ -42,6 +41,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import dagger.internal.codegen.binding.ContributionBinding;
 import dagger.internal.codegen.compileroption.CompilerOptions;
+import dagger.internal.codegen.compileroption.SwitchingProviderDispatch;
 import dagger.internal.codegen.model.BindingKind;
 import dagger.internal.codegen.model.Key;
 import dagger.internal.codegen.writing.ComponentImplementation.ShardImplementation;
@@ -64,30 +64,46 @@ import java.util.stream.Stream;
  * that can provide instances for all types by switching on an id.
  */
 final class SwitchingProviders {
-  /**
-   * Each switch size is fixed at 100 cases each and put in its own method. This is to limit the
-   * size of the methods so that we don't reach the "huge" method size limit for Android that will
-   * prevent it from being AOT compiled in some versions of Android (b/77652521). This generally
-   * starts to happen around 1500 cases, but we are choosing 100 to be safe.
-   */
-  // TODO(bcorso): Include a proguard_spec in the Dagger library to prevent inlining these methods?
-  // TODO(ronshapiro): Consider making this configurable via a flag.
-  private static final int MAX_CASES_PER_SWITCH = 100;
-
-  private static final long MAX_CASES_PER_CLASS = MAX_CASES_PER_SWITCH * MAX_CASES_PER_SWITCH;
   private static final XTypeName typeVariable = XTypeNames.getTypeVariableName("T");
 
   /**
-   * Maps a {@link Key} to an instance of a {@link SwitchingProviderBuilder}. Each group of {@code
-   * MAX_CASES_PER_CLASS} keys will share the same instance.
+   * Maps a {@link Key} to an instance of a {@link SwitchingProviderBuilder}. Each group of {@link
+   * #maxCasesPerClass} keys will share the same instance.
    */
   private final Map<Key, SwitchingProviderBuilder> switchingProviderBuilders =
       new LinkedHashMap<>();
 
+  /**
+   * The {@code SwitchingProvider} classes for the bindings used during startup according to the
+   * {@link CompilerOptions#startupProfile()}, which are kept apart from the other bindings so that
+   * startup only loads these classes.
+   */
+  private final SwitchingProviderGroup startupGroup = new SwitchingProviderGroup();
+
+  /** The {@code SwitchingProvider} classes for all other keys. */
+  private final SwitchingProviderGroup defaultGroup = new SwitchingProviderGroup();
+
   private final ShardImplementation shardImplementation;
   private final CompilerOptions compilerOptions;
   private final XProcessingEnv processingEnv;
 
+  /**
+   * The number of cases in each switch. By default each switch is limited to 100 cases and put in
+   * its own method. This is to limit the size of the methods so that we don't reach the "huge"
+   * method size limit for Android that will prevent it from being AOT compiled in some versions of
+   * Android (b/77652521). This generally starts to happen around 1500 cases, but we are choosing
+   * 100 to be safe.
+   */
+  // TODO(bcorso): Include a proguard_spec in the Dagger library to prevent inlining these methods?
+  private final int maxCasesPerSwitch;
+
+  /**
+   * The number of cases in each {@code SwitchingProvider} class. With {@link
+   * SwitchingProviderDispatch#NESTED} a class routes to up to {@link #maxCasesPerSwitch} switch
+   * methods; with {@link SwitchingProviderDispatch#FLAT} it holds a single switch.
+   */
+  private final long maxCasesPerClass;
+
   SwitchingProviders(
       ShardImplementation shardImplementation,
       CompilerOptions compilerOptions,
@@ -95,6 +111,11 @@ final class SwitchingProviders {
     this.shardImplementation = checkNotNull(shardImplementation);
     this.compilerOptions = checkNotNull(compilerOptions);
     this.processingEnv = checkNotNull(processingEnv);
+    this.maxCasesPerSwitch = compilerOptions.switchingProviderCasesPerSwitch();
+    this.maxCasesPerClass =
+        compilerOptions.switchingProviderDispatch().equals(SwitchingProviderDispatch.FLAT)
+            ? maxCasesPerSwitch
+            : (long) maxCasesPerSwitch * maxCasesPerSwitch;
   }
 
   /** Returns the framework instance creation expression for an inner switching provider class. */
@@ -104,21 +125,31 @@ final class SwitchingProviders {
       @Override
       public XCodeBlock creationExpression() {
         return switchingProviderBuilders
-            .computeIfAbsent(binding.key(), key -> getSwitchingProviderBuilder())
+            .computeIfAbsent(
+                binding.key(),
+                key ->
+                    shardImplementation.getComponentImplementation().isStartupBinding(binding)
+                        ? startupGroup.nextSwitchingProviderBuilder()
+                        : defaultGroup.nextSwitchingProviderBuilder())
             .getNewInstanceCodeBlock(binding, unscopedInstanceRequestRepresentation);
       }
     };
   }
 
-  private SwitchingProviderBuilder getSwitchingProviderBuilder() {
-    if (switchingProviderBuilders.size() % MAX_CASES_PER_CLASS == 0) {
-      String name = shardImplementation.getUniqueClassName("SwitchingProvider");
-      SwitchingProviderBuilder switchingProviderBuilder =
-          new SwitchingProviderBuilder(shardImplementation.name().nestedClass(name));
-      shardImplementation.addTypeSupplier(switchingProviderBuilder::build);
-      return switchingProviderBuilder;
+  /** A sequence of {@code SwitchingProvider} classes that are filled one after the other. */
+  private final class SwitchingProviderGroup {
+    private long size = 0;
+    private SwitchingProviderBuilder current;
+
+    /** Returns the builder for the next key added to this group. */
+    SwitchingProviderBuilder nextSwitchingProviderBuilder() {
+      if (size++ % maxCasesPerClass == 0) {
+        String name = shardImplementation.getUniqueClassName("SwitchingProvider");
+        current = new SwitchingProviderBuilder(shardImplementation.name().nestedClass(name));
+        shardImplementation.addTypeSupplier(current::build);
+      }
+      return current;
     }
-    return getLast(switchingProviderBuilders.values());
   }
 
   // TODO(bcorso): Consider just merging this class with SwitchingProviders.
@@ -207,7 +238,7 @@ final class SwitchingProviders {
     private ImmutableList<XFunSpec> getMethods() {
       ImmutableList<XCodeBlock> switchCodeBlockPartitions = switchCodeBlockPartitions();
       if (switchCodeBlockPartitions.size() == 1) {
-        // The case amount does not exceed MAX_CASES_PER_SWITCH, so no need for extra get methods.
+        // The case amount does not exceed maxCasesPerSwitch, so no need for extra get methods.
         return ImmutableList.of(
             methodBuilder("get")
                 .isOverride(true)
@@ -224,7 +255,7 @@ final class SwitchingProviders {
               .isOverride(true)
               .addModifiers(PUBLIC)
               .returns(typeVariable)
-              .beginControlFlow("switch (id / %L)", MAX_CASES_PER_SWITCH);
+              .beginControlFlow("switch (id / %L)", maxCasesPerSwitch);
 
       ImmutableList.Builder<XFunSpec> getMethods = ImmutableList.builder();
       for (int i = 0; i < switchCodeBlockPartitions.size(); i++) {
@@ -248,7 +279,7 @@ final class SwitchingProviders {
     }
 
     private ImmutableList<XCodeBlock> switchCodeBlockPartitions() {
-      return Lists.partition(ImmutableList.copyOf(switchCases.values()), MAX_CASES_PER_SWITCH)
+      return Lists.partition(ImmutableList.copyOf(switchCases.values()), maxCasesPerSwitch)
           .stream()
           .map(
               partitionCases ->
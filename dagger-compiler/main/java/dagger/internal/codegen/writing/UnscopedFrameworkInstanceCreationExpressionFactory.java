@@ -132,9 +132,14 @@ final class UnscopedFrameworkInstanceCreationExpressionFactory {
       case SUBCOMPONENT_CREATOR:
         return anonymousProviderCreationExpressionFactory.create(binding);
 
+      case INJECTION:
+        // A Releaser has no generated factory, so its provider calls the constructor directly.
+        return binding.isReleaser()
+            ? anonymousProviderCreationExpressionFactory.create(binding)
+            : injectionOrProvisionProviderCreationExpressionFactory.create(binding);
+
       case ASSISTED_FACTORY:
       case ASSISTED_INJECTION:
-      case INJECTION:
       case PROVISION:
         return injectionOrProvisionProviderCreationExpressionFactory.create(binding);
 
@@ -61,6 +61,7 @@ public final class XPropertySpecs {
     private final String name;
     private final XTypeName typeName;
     private boolean isStatic = false;
+    private boolean isVolatile = false;
     private boolean isMutable = true; // The default in JavaPoet is true, i.e. non-final.
     private VisibilityModifier visibility = null;
     private XCodeBlock initializer = null;
@@ -94,6 +95,13 @@ public final class XPropertySpecs {
       return this;
     }
 
+    /** Sets the volatile modifier of the field. */
+    @CanIgnoreReturnValue
+    public Builder isVolatile(boolean isVolatile) {
+      this.isVolatile = isVolatile;
+      return this;
+    }
+
     /** Sets the final/open modifier of the method. */
     @CanIgnoreReturnValue
     public Builder isMutable(boolean isMutable) {
@@ -134,6 +142,9 @@ public final class XPropertySpecs {
           case FINAL:
             isMutable(false);
             break;
+          case VOLATILE:
+            isVolatile(true);
+            break;
           default:
             throw new AssertionError("Unexpected modifier: " + modifier);
         }
@@ -218,6 +229,11 @@ public final class XPropertySpecs {
         toJavaPoet(builder).addModifiers(Modifier.STATIC);
       }
 
+      if (isVolatile) {
+        // TODO(bcorso): Handle the KotlinPoet side of this implementation.
+        toJavaPoet(builder).addModifiers(Modifier.VOLATILE);
+      }
+
       annotations.forEach(builder::addAnnotation);
       return builder.build();
     }
@@ -58,11 +58,14 @@ object XTypeNames {
   @JvmField val MAP_KEY = XClassName.get("dagger", "MapKey")
   @JvmField val MODULE = XClassName.get("dagger", "Module")
   @JvmField val MULTIBINDS = XClassName.get("dagger.multibindings", "Multibinds")
+  @JvmField val POOLED = XClassName.get("dagger.pooling", "Pooled")
+  @JvmField val RELEASER = XClassName.get("dagger.pooling", "Releaser")
   @JvmField val PROVIDES = XClassName.get("dagger", "Provides")
   @JvmField val REUSABLE = XClassName.get("dagger", "Reusable")
   @JvmField val SUBCOMPONENT = XClassName.get("dagger", "Subcomponent")
   @JvmField val SUBCOMPONENT_BUILDER = XClassName.get("dagger", "Subcomponent", "Builder")
   @JvmField val SUBCOMPONENT_FACTORY = XClassName.get("dagger", "Subcomponent", "Factory")
+  @JvmField val THREAD_SCOPED = XClassName.get("dagger", "ThreadScoped")
 
   // Dagger Internal classnames
   @JvmField val DAGGER_GENERATED = XClassName.get("dagger.internal", "DaggerGenerated")
@@ -102,15 +105,25 @@ object XTypeNames {
   @JvmField val MAP_FACTORY = XClassName.get("dagger.internal", "MapFactory")
   @JvmField val MAP_PROVIDER_FACTORY = XClassName.get("dagger.internal", "MapProviderFactory")
   @JvmField val MEMBERS_INJECTOR = XClassName.get("dagger", "MembersInjector")
+  @JvmField val LOCK_FREE_DOUBLE_CHECK = XClassName.get("dagger.internal", "LockFreeDoubleCheck")
   @JvmField val MEMBERS_INJECTORS = XClassName.get("dagger.internal", "MembersInjectors")
   @JvmField val DAGGER_PROVIDER = XClassName.get("dagger.internal", "Provider")
   @JvmField val DAGGER_PROVIDERS = XClassName.get("dagger.internal", "Providers")
+  @JvmField
+  val PARALLEL_INITIALIZER = XClassName.get("dagger.internal", "ParallelInitializer")
+  @JvmField val POOLED_PROVIDER = XClassName.get("dagger.internal", "PooledProvider")
   @JvmField val PROVIDER_OF_LAZY = XClassName.get("dagger.internal", "ProviderOfLazy")
+  @JvmField
+  val PROVISION_MONITORING = XClassName.get("dagger.internal", "ProvisionMonitoring")
   @JvmField val SCOPE_METADATA = XClassName.get("dagger.internal", "ScopeMetadata")
+  @JvmField
+  val REENTRANT_LOCK_DOUBLE_CHECK = XClassName.get("dagger.internal", "ReentrantLockDoubleCheck")
   @JvmField val QUALIFIER_METADATA = XClassName.get("dagger.internal", "QualifierMetadata")
+  @JvmField val SCOPED_INSTANCE_SLOTS = XClassName.get("dagger.internal", "ScopedInstanceSlots")
   @JvmField val SET_BUILDER = XClassName.get("dagger.internal", "SetBuilder")
   @JvmField val SET_FACTORY = XClassName.get("dagger.internal", "SetFactory")
   @JvmField val SINGLE_CHECK = XClassName.get("dagger.internal", "SingleCheck")
+  @JvmField val THREAD_LOCAL_CHECK = XClassName.get("dagger.internal", "ThreadLocalCheck")
   @JvmField val WEAK = XClassName.get("dagger.internal", "Weak")
   @JvmField val LAZY = XClassName.get("dagger", "Lazy")
 
@@ -126,6 +139,7 @@ object XTypeNames {
   @JvmField
   val DEPENDENCY_METHOD_PRODUCER =
     XClassName.get("dagger.producers.internal", "DependencyMethodProducer")
+  @JvmField val DIRECT_EXECUTION = XClassName.get("dagger.producers", "DirectExecution")
   @JvmField
   val MAP_OF_PRODUCED_PRODUCER =
     XClassName.get("dagger.producers.internal", "MapOfProducedProducer")
@@ -173,9 +187,13 @@ object XTypeNames {
     XClassName.get("dagger.producers.internal", "SetOfProducedProducer")
   @JvmField val SET_PRODUCER = XClassName.get("dagger.producers.internal", "SetProducer")
   @JvmField val PRODUCTION_SCOPE = XClassName.get("dagger.producers", "ProductionScope")
+  @JvmField val TIMEOUT = XClassName.get("dagger.producers", "Timeout")
 
   // Other classnames
   @JvmField val EXECUTOR = XClassName.get("java.util.concurrent", "Executor")
+  @JvmField val TIME_UNIT = XClassName.get("java.util.concurrent", "TimeUnit")
+  @JvmField
+  val COMPLETABLE_FUTURE = XClassName.get("java.util.concurrent", "CompletableFuture")
   @JvmField val ASSERTION_ERROR = XClassName.get("java.lang", "AssertionError")
   @JvmField val ERROR = XClassName.get("java.lang", "Error")
   @JvmField val EXCEPTION = XClassName.get("java.lang", "Exception")
@@ -1,4 +1,5 @@
 import dagger.gradle.build.SoftwareType
+import dagger.gradle.build.findBootstrapCompilerJar
 
 plugins {
   alias(libs.plugins.daggerBuild)
@@ -9,6 +10,8 @@ dependencies {
   api(project(":dagger"))
   implementation(libs.checkerFramework)
   implementation(libs.guava.jre)
+
+  annotationProcessor(files(project.findBootstrapCompilerJar()))
 }
 
 daggerBuild {
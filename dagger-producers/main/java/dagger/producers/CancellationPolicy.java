@@ -37,6 +37,9 @@ import java.lang.annotation.Target;
  * that parent component has a parent (the grandparent of the cancelled child component), it will
  * not be cancelled unless it also has a {@code @CancellationPolicy} annotation allowing
  * cancellation to propagate to it from subcomponents.
+ *
+ * <p>Cancellation only cancels the futures of producers. To also stop the {@link Produces} methods
+ * that are already running, install {@link CancellationScopeModule}.
  */
 @Documented
 @Target(TYPE)
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import dagger.internal.Beta;
+import dagger.producers.internal.CancellationListener;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The cancellation state of one production component, bound by {@link CancellationScopeModule}.
+ *
+ * <p>Cancelling a production component cancels the futures of its producers, but a {@link
+ * Produces @Produces} method that is already running keeps running until it returns. A {@code
+ * CancellationScope} lets those methods stop early: the scope is cancelled when the component is
+ * cancelled or when {@link #cancel()} is called. Methods can then stop cooperatively by injecting
+ * the scope and checking {@link #isCancelled()}, or, if the module was created with {@link
+ * CancellationScopeModule#interruptingRunningMethods()}, are interrupted.
+ *
+ * <p>A producer that fails does not cancel the scope, since its consumers may handle the failure,
+ * for example by taking it as a {@link Produced}, or a {@link Timeout @Timeout} may be meant to
+ * skip only that one producer. If the module was created with {@link
+ * CancellationScopeModule#cancellingOnAnyFailure()}, any failure cancels the scope instead. The
+ * futures of the other producers are still not cancelled then, so entry points fail with the
+ * original exception.
+ *
+ * <p>Methods that start after the scope is cancelled still run, but see a cancelled scope
+ * immediately, and are interrupted as soon as they start if interruption is enabled.
+ *
+ * @since 2.58
+ */
+@Beta
+public final class CancellationScope {
+  private final boolean interruptRunningMethods;
+  private final boolean cancelOnAnyFailure;
+  private final Set<RunningMethod> runningMethods =
+      Collections.newSetFromMap(new ConcurrentHashMap<RunningMethod, Boolean>());
+  private volatile boolean cancelled;
+
+  CancellationScope(boolean interruptRunningMethods, boolean cancelOnAnyFailure) {
+    this.interruptRunningMethods = interruptRunningMethods;
+    this.cancelOnAnyFailure = cancelOnAnyFailure;
+  }
+
+  /** Returns {@code true} if this scope has been cancelled. */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /** Throws a {@link CancellationException} if this scope has been cancelled. */
+  public void throwIfCancelled() {
+    if (cancelled) {
+      throw new CancellationException("The production component was cancelled or failed");
+    }
+  }
+
+  /**
+   * Cancels this scope, interrupting the {@code @Produces} methods of the component that are
+   * running if interruption is enabled. This does not cancel the component's futures.
+   */
+  public void cancel() {
+    cancelled = true;
+    for (RunningMethod runningMethod : runningMethods) {
+      runningMethod.interrupt();
+    }
+  }
+
+  /**
+   * Returns a factory of monitors that track the component's running methods and failures, and
+   * that are told by the component's producers when the component is cancelled.
+   */
+  ProductionComponentMonitor.Factory monitorFactory() {
+    return new ProductionComponentMonitor.Factory() {
+      @Override
+      public ProductionComponentMonitor create(Object component) {
+        return new ScopeComponentMonitor();
+      }
+    };
+  }
+
+  private final class ScopeComponentMonitor extends ProductionComponentMonitor
+      implements CancellationListener {
+    @Override
+    public ProducerMonitor producerMonitorFor(ProducerToken token) {
+      return new ScopeProducerMonitor();
+    }
+
+    @Override
+    public void onProducerFutureCancelled(boolean mayInterruptIfRunning) {
+      cancel();
+    }
+  }
+
+  private final class ScopeProducerMonitor extends ProducerMonitor {
+    // methodStarting() and methodFinished() are called on the thread that runs the method.
+    private RunningMethod runningMethod;
+
+    @Override
+    public void methodStarting() {
+      if (interruptRunningMethods) {
+        runningMethod = new RunningMethod(Thread.currentThread());
+        runningMethods.add(runningMethod);
+        if (cancelled) {
+          runningMethod.interrupt();
+        }
+      }
+    }
+
+    @Override
+    public void methodFinished() {
+      if (runningMethod != null) {
+        runningMethods.remove(runningMethod);
+        runningMethod.finish();
+        runningMethod = null;
+      }
+    }
+
+    @Override
+    public void failed(Throwable t) {
+      // Cancelling the component is seen by ScopeComponentMonitor instead: a CancellationException
+      // here may also come from a single method that returned a cancelled future.
+      if (cancelOnAnyFailure) {
+        cancel();
+      }
+    }
+  }
+
+  /**
+   * A method running on a thread, which makes sure that the thread is only interrupted while the
+   * method is running.
+   */
+  private static final class RunningMethod {
+    private static final int RUNNING = 0;
+    private static final int INTERRUPTING = 1;
+    private static final int INTERRUPTED = 2;
+    private static final int FINISHED = 3;
+
+    private final Thread thread;
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+    RunningMethod(Thread thread) {
+      this.thread = thread;
+    }
+
+    void interrupt() {
+      if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+        thread.interrupt();
+        state.set(INTERRUPTED);
+      }
+    }
+
+    /** Called on the method's thread once it returns. */
+    void finish() {
+      if (!state.compareAndSet(RUNNING, FINISHED)) {
+        while (state.get() == INTERRUPTING) {
+          Thread.yield();
+        }
+        // Don't leak the interrupt to the next task of the executor's thread.
+        Thread.interrupted();
+      }
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.Beta;
+import dagger.multibindings.IntoSet;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+
+/**
+ * A module that gives each instance of a production component a {@link CancellationScope}, so
+ * that cancelling the component stops the {@link Produces @Produces} methods that are already
+ * running.
+ *
+ * <p>Install the module on the production component whose invocation should own the scope.
+ * Its production subcomponents share the scope. {@code @Produces} and {@code @Provides} methods
+ * can inject the {@link CancellationScope} to check whether they should stop:
+ *
+ * <pre><code>
+ *   {@literal @}Produces
+ *   static Ranking rank(List&lt;Candidate&gt; candidates, CancellationScope cancellation) {
+ *     Ranking.Builder ranking = Ranking.builder();
+ *     for (Candidate candidate : candidates) {
+ *       cancellation.throwIfCancelled();
+ *       ranking.add(score(candidate));
+ *     }
+ *     return ranking.build();
+ *   }
+ * </code></pre>
+ *
+ * <p>The scope follows the component through a {@link ProductionComponentMonitor}, which sees
+ * when each method starts and finishes and when each producer fails. To also stop the running
+ * methods as soon as any producer fails, use {@link #cancellingOnAnyFailure()}:
+ *
+ * <pre><code>
+ *   DaggerSearchComponent.builder()
+ *       .cancellationScopeModule(
+ *           CancellationScopeModule.interruptingRunningMethods().cancellingOnAnyFailure())
+ *       .build();
+ * </code></pre>
+ *
+ * @since 2.58
+ */
+@Beta
+@Module
+public final class CancellationScopeModule {
+  /**
+   * Returns a module whose scope also interrupts the threads that are running the component's
+   * {@code @Produces} methods when it is cancelled, so that blocking calls in them throw {@link
+   * InterruptedException}.
+   *
+   * <p>A thread is only interrupted while it runs one of the component's methods, and the
+   * interrupt is cleared when the method returns, so this is safe to use with shared executors.
+   */
+  public static CancellationScopeModule interruptingRunningMethods() {
+    return new CancellationScopeModule(true, false);
+  }
+
+  private final boolean interruptRunningMethods;
+  private final boolean cancelOnAnyFailure;
+
+  /** Creates a module whose scope only stops methods that check it cooperatively. */
+  public CancellationScopeModule() {
+    this(false, false);
+  }
+
+  private CancellationScopeModule(boolean interruptRunningMethods, boolean cancelOnAnyFailure) {
+    this.interruptRunningMethods = interruptRunningMethods;
+    this.cancelOnAnyFailure = cancelOnAnyFailure;
+  }
+
+  /**
+   * Returns a module like this one whose scope is also cancelled as soon as any of the
+   * component's producers fails, including producers whose failure is handled by their consumers
+   * and producers that exceed their {@link Timeout @Timeout}.
+   *
+   * <p>Use this when any failure fails the whole invocation, so that the remaining methods stop
+   * instead of computing values that will not be used.
+   */
+  public CancellationScopeModule cancellingOnAnyFailure() {
+    return new CancellationScopeModule(interruptRunningMethods, true);
+  }
+
+  @Provides
+  @ProductionScope
+  CancellationScope cancellationScope() {
+    return new CancellationScope(interruptRunningMethods, cancelOnAnyFailure);
+  }
+
+  @Provides
+  @IntoSet
+  static ProductionComponentMonitor.Factory cancellationScopeMonitor(CancellationScope scope) {
+    return scope.monitorFactory();
+  }
+}
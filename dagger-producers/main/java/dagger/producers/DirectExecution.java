@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Annotates a {@link Produces} method that should be called on the thread that completes its last
+ * asynchronous dependency, instead of being submitted to the component's {@link Production}
+ * executor.
+ *
+ * <p>By default, every {@code @Produces} method is called on the production executor after its
+ * dependencies complete, so each node of a production graph costs a hop through the executor's
+ * queue. For methods that only combine or reshape values that are already computed, that hop can
+ * cost more than the method itself. Calling them inline removes the hop, at the cost of running
+ * the method on whichever thread completed the dependency, which may be an I/O callback thread or
+ * the thread that requested the entry point.
+ *
+ * <p>Only use this for methods that are cheap and never block. {@link
+ * dagger.producers.monitoring.ProducerMonitor#ready()} is still called before the method starts.
+ *
+ * @since 2.58
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface DirectExecution {}
@@ -28,7 +28,8 @@ import javax.inject.Qualifier;
  *
  * <p>The only type that may be so qualified is {@link java.util.concurrent.Executor}. In this case,
  * the resulting executor is used to schedule {@linkplain Produces producer methods} in a
- * {@link ProductionComponent} or {@link ProductionSubcomponent}.
+ * {@link ProductionComponent} or {@link ProductionSubcomponent}. {@link
+ * VirtualThreadExecutorModule} binds one that runs each producer method on a virtual thread.
  */
 @Documented
 @Retention(RUNTIME)
@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import dagger.internal.Beta;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time by which the producers of a production component must complete, installed with
+ * {@link ProductionDeadlineModule}.
+ *
+ * <p>Once a component has a deadline, each of its producers that has not completed when the
+ * deadline passes fails with a {@link java.util.concurrent.TimeoutException}, and producers that
+ * are first requested after it has passed fail without calling their {@link Produces @Produces}
+ * method. As with {@link Timeout}, consumers that depend on {@link Produced Produced&lt;T&gt;} see
+ * the {@code TimeoutException} as the failure, and {@link
+ * dagger.producers.monitoring.ProducerMonitor#failed(Throwable)} is called with it.
+ *
+ * <p>Deadlines are measured with {@link System#nanoTime()}, so they are only meaningful within one
+ * JVM.
+ *
+ * @since 2.58
+ */
+@Beta
+public final class ProductionDeadline {
+  /**
+   * Returns a deadline that passes {@code duration} from now.
+   *
+   * @throws IllegalArgumentException if {@code duration} is negative
+   */
+  public static ProductionDeadline after(long duration, TimeUnit unit) {
+    if (duration < 0) {
+      throw new IllegalArgumentException("duration must not be negative: " + duration);
+    }
+    return new ProductionDeadline(System.nanoTime() + unit.toNanos(duration));
+  }
+
+  private final long nanoTime;
+
+  private ProductionDeadline(long nanoTime) {
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Returns the time left until this deadline passes, in the given unit. This is zero or negative
+   * if it has passed.
+   */
+  public long remaining(TimeUnit unit) {
+    return unit.convert(nanoTime - System.nanoTime(), NANOSECONDS);
+  }
+
+  /** Returns {@code true} if this deadline has passed. */
+  public boolean isExpired() {
+    return nanoTime - System.nanoTime() <= 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ProductionDeadline[remaining=" + remaining(NANOSECONDS) + "ns]";
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.Beta;
+import dagger.multibindings.IntoSet;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import dagger.producers.monitoring.internal.Monitors;
+
+/**
+ * A module that gives an instance of a production component a {@link ProductionDeadline}.
+ *
+ * <p>Pass a new module to the component's builder or factory each time the component is created,
+ * so that each invocation has its own deadline:
+ *
+ * <pre><code>
+ *   SearchComponent component =
+ *       DaggerSearchComponent.builder()
+ *           .productionDeadlineModule(
+ *               new ProductionDeadlineModule(ProductionDeadline.after(200, MILLISECONDS)))
+ *           .build();
+ * </code></pre>
+ *
+ * <p>The deadline applies to the component's production subcomponents as well. {@code @Produces}
+ * and {@code @Provides} methods can inject the {@link ProductionDeadline}, for example to pass the
+ * remaining time on to a remote call.
+ *
+ * <p>The deadline reaches the component's producers through a {@link ProductionComponentMonitor}.
+ * A timeout is a failure like any other. If {@link CancellationScopeModule} is also installed and
+ * was created with {@link CancellationScopeModule#cancellingOnAnyFailure()}, a producer that misses
+ * the deadline cancels the component's {@link CancellationScope}, which stops the methods that are
+ * still running.
+ *
+ * @since 2.58
+ */
+@Beta
+@Module
+public final class ProductionDeadlineModule {
+  private final ProductionDeadline deadline;
+
+  /** Creates a module that binds {@code deadline} for the component it is passed to. */
+  public ProductionDeadlineModule(ProductionDeadline deadline) {
+    this.deadline = checkNotNull(deadline);
+  }
+
+  @Provides
+  ProductionDeadline deadline() {
+    return deadline;
+  }
+
+  @Provides
+  @IntoSet
+  static ProductionComponentMonitor.Factory deadlineMonitor(ProductionDeadline deadline) {
+    return Monitors.deadlineMonitorFactory(deadline);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotates a {@link Produces} method whose producer should fail with a {@link
+ * java.util.concurrent.TimeoutException} if it has not completed within the given time.
+ *
+ * <p>The time is measured from when the producer is first requested, so it includes the time spent
+ * waiting for the method's asynchronous dependencies as well as the method itself. When it
+ * elapses, the producer's future fails: consumers that depend on the value fail as well, and
+ * consumers that depend on {@link Produced Produced&lt;T&gt;} see the {@code TimeoutException} as
+ * the failure. {@link dagger.producers.monitoring.ProducerMonitor#failed(Throwable)} is called with
+ * the {@code TimeoutException}, and the future returned by the method, if it is still running, is
+ * cancelled.
+ *
+ * <p>If the component has a {@link ProductionDeadline}, the producer fails at whichever comes
+ * first.
+ *
+ * @since 2.58
+ */
+@Documented
+@Target(METHOD)
+@Retention(RUNTIME)
+@Beta
+public @interface Timeout {
+  /** The maximum time the producer may take, in {@link #unit()}s. This must be positive. */
+  long value();
+
+  /** The unit of {@link #value()}. */
+  TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
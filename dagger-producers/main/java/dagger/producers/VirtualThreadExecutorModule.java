@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers;
+
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.Beta;
+import dagger.producers.internal.BoundedExecutor;
+import dagger.producers.internal.ThreadPerTaskExecutor;
+import java.util.concurrent.Executor;
+
+/**
+ * A module that binds the {@link Production @Production} {@link Executor} of a production
+ * component to one that runs each {@link Produces @Produces} method on its own virtual thread.
+ *
+ * <p>A fixed thread pool caps the number of {@code @Produces} methods that can block on I/O at
+ * once to the size of the pool. Virtual threads unmount from their carrier thread while they
+ * block, so a graph of blocking methods is limited by the services it calls rather than by the
+ * executor. On JVMs without virtual threads (before Java 21), each method runs on a thread from a
+ * shared, unbounded pool of platform threads instead; set a {@linkplain #withMaxConcurrency
+ * maximum concurrency} there to keep the number of threads in check.
+ *
+ * <p>Install the module on the root production component. Dagger creates it if the module is not
+ * passed to the component's builder or factory, in which case concurrency is unbounded:
+ *
+ * <pre><code>
+ *   {@literal @}ProductionComponent(modules = {VirtualThreadExecutorModule.class, ...})
+ *   interface RequestComponent { ... }
+ *
+ *   DaggerRequestComponent.builder()
+ *       .virtualThreadExecutorModule(VirtualThreadExecutorModule.withMaxConcurrency(64))
+ *       .build();
+ * </code></pre>
+ *
+ * <h3>Monitoring</h3>
+ *
+ * <p>{@link dagger.producers.monitoring.ProducerMonitor#ready()} is called on the thread that
+ * completed the method's last input, just before the method is submitted to this executor. {@link
+ * dagger.producers.monitoring.ProducerMonitor#methodStarting()} and {@link
+ * dagger.producers.monitoring.ProducerMonitor#methodFinished()} are called on the virtual thread
+ * that runs the method. The time between {@code ready()} and {@code methodStarting()} is therefore
+ * the time to start a virtual thread and schedule it on a carrier thread, plus, with a maximum
+ * concurrency, the time the method waited for one of the running methods to finish. Thread-based
+ * monitors must not assume that consecutive methods run on the same thread, and state kept in
+ * {@code ThreadLocal}s does not carry over between methods.
+ *
+ * @since 2.58
+ */
+@Beta
+@Module
+public final class VirtualThreadExecutorModule {
+  private static final int UNBOUNDED = 0;
+
+  /**
+   * Returns a module whose executor runs at most {@code maxConcurrency} {@code @Produces} methods
+   * of each component at once, and queues the rest.
+   *
+   * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+   */
+  public static VirtualThreadExecutorModule withMaxConcurrency(int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    return new VirtualThreadExecutorModule(maxConcurrency);
+  }
+
+  private final int maxConcurrency;
+
+  /** Creates a module whose executor does not limit the number of concurrent methods. */
+  public VirtualThreadExecutorModule() {
+    this(UNBOUNDED);
+  }
+
+  private VirtualThreadExecutorModule(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Provides
+  @Production
+  Executor executor() {
+    Executor executor = ThreadPerTaskExecutor.instance();
+    return maxConcurrency == UNBOUNDED ? executor : new BoundedExecutor(executor, maxConcurrency);
+  }
+}
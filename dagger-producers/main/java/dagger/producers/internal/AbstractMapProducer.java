@@ -21,9 +21,13 @@ import static dagger.internal.Providers.asDaggerProvider;
 import static dagger.producers.internal.Producers.producerFromProvider;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
 import dagger.producers.Producer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 /**
  * An {@code abstract} {@link Producer} implementation used to implement {@link Map} bindings.
@@ -45,6 +49,46 @@ abstract class AbstractMapProducer<K, V, V2> extends AbstractProducer<Map<K, V2>
     return contributingMap;
   }
 
+  /**
+   * Completes this producer's future with a map from each key to the {@link #value} of the future
+   * of its contributing producer, once they are done.
+   */
+  abstract class ContributionCombiner extends FutureCombiner<Map<K, V2>> {
+    /**
+     * Requests the contributions.
+     *
+     * @param allMustSucceed if {@code true}, the map fails as soon as one of the contributions
+     *     fails
+     */
+    ContributionCombiner(boolean allMustSucceed) {
+      super(future(), requestContributions(), allMustSucceed);
+    }
+
+    /** Returns the value in the map for the future of a contribution, which is done. */
+    abstract V2 value(ListenableFuture<V> contribution) throws ExecutionException;
+
+    @Override
+    final Map<K, V2> combine() throws ExecutionException {
+      ImmutableMap.Builder<K, V2> builder =
+          ImmutableMap.builderWithExpectedSize(contributingMap.size());
+      int i = 0;
+      for (K key : contributingMap.keySet()) {
+        @SuppressWarnings("unchecked") // requestContributions() returns futures of V
+        ListenableFuture<V> contribution = (ListenableFuture<V>) inputs().get(i++);
+        builder.put(key, value(contribution));
+      }
+      return builder.build();
+    }
+  }
+
+  private List<ListenableFuture<V>> requestContributions() {
+    List<ListenableFuture<V>> contributions = new ArrayList<>(contributingMap.size());
+    for (Producer<V> producer : contributingMap.values()) {
+      contributions.add(producer.get());
+    }
+    return contributions;
+  }
+
   /** A builder for {@link AbstractMapProducer} */
   public abstract static class Builder<K, V, V2> {
     final ImmutableMap.Builder<K, Producer<V>> mapBuilder;
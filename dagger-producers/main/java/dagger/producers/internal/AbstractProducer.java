@@ -21,42 +21,66 @@ import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import com.google.common.util.concurrent.AbstractFuture;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Producer;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
 /** An abstract {@link Producer} implementation that memoizes the result of its compute method. */
 public abstract class AbstractProducer<T> implements CancellableProducer<T> {
-  private final AtomicBoolean requested = new AtomicBoolean();
-  private final NonExternallyCancellableFuture<T> future = new NonExternallyCancellableFuture<T>();
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<AbstractProducer> REQUESTED =
+      AtomicIntegerFieldUpdater.newUpdater(AbstractProducer.class, "requested");
+
+  private volatile int requested;
+  private final ProducerFuture<T> future = new ProducerFuture<T>();
 
   protected AbstractProducer() {}
 
-  /** Computes this producer's future, which is then cached in {@link #get}. */
+  /**
+   * Computes this producer's future, which is then cached in {@link #get}.
+   *
+   * <p>Implementations in this package may instead arrange for {@link #future()} to be completed
+   * and return it, which avoids allocating a separate future for the result.
+   */
   protected abstract ListenableFuture<T> compute();
 
+  /** Returns the future that holds the state of this producer. */
+  final ProducerFuture<T> future() {
+    return future;
+  }
+
   @Override
   public final ListenableFuture<T> get() {
-    if (requested.compareAndSet(false, true)) {
-      future.setFuture(compute());
+    if (REQUESTED.compareAndSet(this, 0, 1)) {
+      ListenableFuture<T> computed = compute();
+      if (computed != future) {
+        future.completeWith(computed);
+      }
     }
     return future;
   }
 
   @Override
   public final void cancel(boolean mayInterruptIfRunning) {
-    requested.set(true); // Avoid potentially starting the task later only to cancel it immediately.
+    requested = 1; // Avoid potentially starting the task later only to cancel it immediately.
+    componentCancelled(mayInterruptIfRunning);
     future.doCancel(mayInterruptIfRunning);
   }
 
+  /**
+   * Called when the component cancels this producer, before its future is cancelled. Unlike the
+   * failure of the future, which may also come from a cancelled input, this is only called on the
+   * component's own cancellation path.
+   */
+  void componentCancelled(boolean mayInterruptIfRunning) {}
+
   @Override
   public Producer<T> newDependencyView() {
-    return new NonCancellationPropagatingView();
+    return new NonCancellationPropagatingView(null);
   }
 
   @Override
   public Producer<T> newEntryPointView(CancellationListener cancellationListener) {
-    NonCancellationPropagatingView result = new NonCancellationPropagatingView();
-    result.addCancellationListener(cancellationListener);
-    return result;
+    return new NonCancellationPropagatingView(cancellationListener);
   }
 
   /**
@@ -64,53 +88,59 @@ public abstract class AbstractProducer<T> implements CancellableProducer<T> {
    * producer itself.
    */
   private final class NonCancellationPropagatingView implements Producer<T> {
+    @NullableDecl private final CancellationListener cancellationListener;
+
     /**
      * An independently cancellable view of this node. Needs to be cancellable by normal future
      * cancellation so that the view at an entry point can listen for its cancellation.
+     *
+     * <p>This is created on the first call to {@link #get()}, after the node has been computed, so
+     * that views that are never requested don't allocate it or add a listener to the node, views
+     * that are first requested after the node is done use the node's future directly, and the
+     * node's monitor sees its outcome before any view does.
      */
-    private final ListenableFuture<T> viewFuture = nonCancellationPropagating(future);
+    @NullableDecl private volatile ListenableFuture<T> viewFuture;
+
+    NonCancellationPropagatingView(@NullableDecl CancellationListener cancellationListener) {
+      this.cancellationListener = cancellationListener;
+    }
 
     @SuppressWarnings("FutureReturnValueIgnored")
     @Override
     public ListenableFuture<T> get() {
       AbstractProducer.this.get(); // force compute()
-      return viewFuture;
-    }
-
-    void addCancellationListener(final CancellationListener cancellationListener) {
-      viewFuture.addListener(
-          new Runnable() {
-            @Override
-            public void run() {
-              if (viewFuture.isCancelled()) {
-                boolean mayInterruptIfRunning =
-                    viewFuture instanceof NonCancellationPropagatingFuture
-                        && ((NonCancellationPropagatingFuture) viewFuture).interrupted();
-                cancellationListener.onProducerFutureCancelled(mayInterruptIfRunning);
-              }
+      ListenableFuture<T> result = viewFuture;
+      if (result == null) {
+        synchronized (this) {
+          result = viewFuture;
+          if (result == null) {
+            result = nonCancellationPropagating(future);
+            if (cancellationListener != null) {
+              addCancellationListener(result, cancellationListener);
             }
-          },
-          directExecutor());
+            viewFuture = result;
+          }
+        }
+      }
+      return result;
     }
   }
 
-  /** A settable future that can't be cancelled via normal future cancellation. */
-  private static final class NonExternallyCancellableFuture<T> extends AbstractFuture<T> {
-
-    @Override
-    public boolean setFuture(ListenableFuture<? extends T> future) {
-      return super.setFuture(future);
-    }
-
-    @Override
-    public boolean cancel(boolean mayInterruptIfRunning) {
-      return false;
-    }
-
-    /** Actually cancels this future. */
-    void doCancel(boolean mayInterruptIfRunning) {
-      super.cancel(mayInterruptIfRunning);
-    }
+  private static void addCancellationListener(
+      final ListenableFuture<?> viewFuture, final CancellationListener cancellationListener) {
+    viewFuture.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            if (viewFuture.isCancelled()) {
+              boolean mayInterruptIfRunning =
+                  viewFuture instanceof NonCancellationPropagatingFuture
+                      && ((NonCancellationPropagatingFuture) viewFuture).interrupted();
+              cancellationListener.onProducerFutureCancelled(mayInterruptIfRunning);
+            }
+          }
+        },
+        directExecutor());
   }
 
   private static <T> ListenableFuture<T> nonCancellationPropagating(ListenableFuture<T> future) {
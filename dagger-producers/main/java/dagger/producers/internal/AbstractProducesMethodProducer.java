@@ -18,20 +18,29 @@ package dagger.producers.internal;
 
 import static dagger.internal.Preconditions.checkNotNull;
 import static dagger.internal.Providers.asDaggerProvider;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
-import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
+import dagger.producers.ProductionDeadline;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import dagger.producers.monitoring.internal.Monitors;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
 /**
  * An {@link AbstractProducer} for all {@link dagger.producers.Produces} methods.
  *
+ * <p>The producer listens for its dependencies itself and completes its {@linkplain #future()
+ * future} directly with the result of the method, so each node only allocates the one future.
+ *
  * @param <D> the type of asynchronous dependencies. These will be collected in {@link
  *     #collectDependencies()} and then made available to the {@code @Produces method in} {@link
  *     #callProducesMethod(Object)}. If there is only one asynchronous dependency, {@code D} can be
@@ -40,11 +49,13 @@ import org.checkerframework.checker.nullness.compatqual.NullableDecl;
  * @param <T> the produced type
  */
 public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProducer<T>
-    implements AsyncFunction<D, T>, Executor {
+    implements Runnable, Executor {
   private final Provider<ProductionComponentMonitor> monitorProvider;
   @NullableDecl private final ProducerToken token;
   private final Provider<Executor> executorProvider;
   private volatile ProducerMonitor monitor = null;
+  // Written before the listener is added to it, and read by the listener.
+  @NullableDecl private ListenableFuture<D> dependencies;
 
   protected AbstractProducesMethodProducer(
       Provider<ProductionComponentMonitor> monitorProvider,
@@ -69,45 +80,134 @@ public abstract class AbstractProducesMethodProducer<D, T> extends AbstractProdu
 
   @Override
   protected final ListenableFuture<T> compute() {
-    monitor = monitorProvider.get().producerMonitorFor(token);
+    ProducerFuture<T> future = future();
+    ProductionComponentMonitor componentMonitor = monitorProvider.get();
+    monitor = componentMonitor.producerMonitorFor(token);
     monitor.requested();
-    ListenableFuture<T> result = Futures.transformAsync(collectDependencies(), this, this);
-    monitor.addCallbackTo(result);
-    return result;
+    long timeoutNanos = timeoutNanos();
+    ProductionDeadline deadline = Monitors.deadlineOf(componentMonitor);
+    if (deadline != null) {
+      timeoutNanos = Math.min(timeoutNanos, deadline.remaining(NANOSECONDS));
+    }
+    if (timeoutNanos <= 0) {
+      // Don't start the method, or request its dependencies, if it can no longer finish in time.
+      future.setException(
+          new TimeoutException(
+              "The production deadline passed before " + token + " was requested"));
+    } else {
+      if (timeoutNanos != Long.MAX_VALUE) {
+        ProducerTimeouts.failAfter(future, timeoutNanos, token);
+      }
+      dependencies = collectDependencies();
+      dependencies.addListener(this, this);
+    }
+    monitor.addCallbackTo(future);
+    return future;
+  }
+
+  @Override
+  void componentCancelled(boolean mayInterruptIfRunning) {
+    // Only producers that were requested can be running their method, and requesting a producer
+    // creates the component's monitor.
+    if (monitor != null) {
+      Monitors.componentCancelled(monitorProvider.get(), mayInterruptIfRunning);
+    }
   }
 
   /**
-   * Collects the asynchronous dependencies to be passed to {@link
-   * Futures#transformAsync(ListenableFuture, AsyncFunction, Executor)}.
+   * Collects the asynchronous dependencies to be passed to {@link #callProducesMethod(Object)}
+   * once they complete.
    */
   protected abstract ListenableFuture<D> collectDependencies();
 
-  /** @deprecated this may only be called from the internal {@link #compute()} */
+  /**
+   * Calls the {@code @Produces} method once the dependencies complete, and completes this
+   * producer's future with its result.
+   *
+   * @deprecated this may only be called from the internal {@link #compute()}
+   */
   @Deprecated
   @Override
-  public final ListenableFuture<T> apply(D asyncDependencies) throws Exception {
+  public final void run() {
+    ProducerFuture<T> future = future();
+    if (future.isDone()) {
+      // Cancelled or timed out while waiting for the dependencies.
+      return;
+    }
+    D asyncDependencies;
+    try {
+      asyncDependencies = Futures.getDone(dependencies);
+    } catch (ExecutionException e) {
+      future.setException(e.getCause());
+      return;
+    } catch (CancellationException e) {
+      future.doCancel(false);
+      return;
+    } finally {
+      dependencies = null;
+    }
+    ListenableFuture<T> result;
     // NOTE(beder): We don't worry about catching exceptions from the monitor methods themselves
     // because we'll wrap all monitoring in non-throwing monitors before we pass them to the
     // factories.
     monitor.methodStarting();
     try {
-      return callProducesMethod(asyncDependencies);
+      result = callProducesMethod(asyncDependencies);
+    } catch (Throwable t) {
+      future.setException(t);
+      return;
     } finally {
       monitor.methodFinished();
     }
+    if (result == null) {
+      future.setException(
+          new NullPointerException(
+              "callProducesMethod returned null instead of a Future. Did you mean to return"
+                  + " immediateFuture(null)? " + this));
+    } else {
+      future.completeWith(result);
+    }
   }
 
   /**
    * Calls the {@link dagger.producers.Produces} method. This will always be called on the {@link
-   * Executor} provided to this producer.
+   * Executor} provided to this producer, unless {@link #executesDirectly()} returns {@code true}.
    */
   protected abstract ListenableFuture<T> callProducesMethod(D asyncDependencies) throws Exception;
 
+  /**
+   * Returns {@code true} if the {@link dagger.producers.Produces} method should be called on the
+   * thread that completes its dependencies rather than on the {@link Executor} provided to this
+   * producer. This is overridden for methods annotated with {@link
+   * dagger.producers.DirectExecution}.
+   */
+  protected boolean executesDirectly() {
+    return false;
+  }
+
+  /**
+   * Returns the time, in nanoseconds from when this producer is requested, after which its future
+   * fails with a {@link TimeoutException}, or {@link Long#MAX_VALUE} if it has no timeout. This is
+   * overridden for methods annotated with {@link dagger.producers.Timeout}. The component's {@link
+   * ProductionDeadline}, if it has one, shortens the timeout.
+   */
+  protected long timeoutNanos() {
+    return Long.MAX_VALUE;
+  }
+
   /** @deprecated this may only be called from the internal {@link #compute()} */
   @Deprecated
   @Override
   public final void execute(Runnable runnable) {
     monitor.ready();
-    executorProvider.get().execute(runnable);
+    if (executesDirectly()) {
+      runnable.run();
+    } else {
+      try {
+        executorProvider.get().execute(runnable);
+      } catch (RejectedExecutionException e) {
+        future().setException(e);
+      }
+    }
   }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An executor that runs at most a fixed number of tasks at once on a delegate executor, and queues
+ * the rest.
+ *
+ * <p>Unlike a semaphore around the delegate, this never blocks the thread that submits a task, so
+ * it is safe to use from the callbacks of production futures.
+ */
+public final class BoundedExecutor implements Executor {
+  private static final Logger logger = Logger.getLogger(BoundedExecutor.class.getName());
+
+  private final Executor delegate;
+  private final int maxConcurrency;
+  private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger workers = new AtomicInteger();
+  private final Runnable worker = this::runQueuedTasks;
+
+  /**
+   * Creates an executor that runs at most {@code maxConcurrency} tasks at once on {@code
+   * delegate}.
+   *
+   * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+   */
+  public BoundedExecutor(Executor delegate, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    this.delegate = checkNotNull(delegate);
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    queue.add(checkNotNull(task));
+    if (tryAcquireWorker()) {
+      try {
+        delegate.execute(worker);
+      } catch (RuntimeException | Error e) {
+        workers.decrementAndGet();
+        // Only report the rejection if no other worker has already taken the task.
+        if (queue.remove(task)) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Runs queued tasks until the queue is empty, then releases this worker.
+   *
+   * <p>If a task throws an {@link Error}, this worker is released and the error is rethrown. The
+   * remaining tasks then run once the next task is submitted.
+   */
+  private void runQueuedTasks() {
+    boolean holdingWorker = true;
+    try {
+      do {
+        for (Runnable task = queue.poll(); task != null; task = queue.poll()) {
+          try {
+            task.run();
+          } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "Exception while executing runnable " + task, e);
+          }
+        }
+        workers.decrementAndGet();
+        holdingWorker = false;
+        // A task may have been queued after the last poll but before the decrement, when every
+        // worker was still busy.
+      } while (!queue.isEmpty() && (holdingWorker = tryAcquireWorker()));
+    } finally {
+      if (holdingWorker) {
+        workers.decrementAndGet();
+      }
+    }
+  }
+
+  private boolean tryAcquireWorker() {
+    while (true) {
+      int current = workers.get();
+      if (current >= maxConcurrency) {
+        return false;
+      }
+      if (workers.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Completes the {@link ProducerFuture} of a multibinding producer with a value combined from its
+ * contributions' futures.
+ *
+ * <p>This is equivalent to transforming {@code Futures.allAsList(inputs)}, but it completes the
+ * producer's future directly, and only adds a listener to the inputs that are not done yet, so
+ * contributions that have already been produced cost no allocation.
+ *
+ * <p>The producer's future is only cancelled when its component is cancelled, which cancels the
+ * contributing producers too, so the inputs are not cancelled from here.
+ */
+abstract class FutureCombiner<T> {
+  @SuppressWarnings("rawtypes")
+  private static final AtomicIntegerFieldUpdater<FutureCombiner> REMAINING =
+      AtomicIntegerFieldUpdater.newUpdater(FutureCombiner.class, "remaining");
+
+  private final ProducerFuture<T> future;
+  private final List<? extends ListenableFuture<?>> inputs;
+  private final boolean allMustSucceed;
+  private volatile int remaining;
+
+  /**
+   * @param allMustSucceed if {@code true}, {@code future} fails as soon as one of the inputs fails;
+   *     otherwise {@link #combine()} is called once all inputs are done
+   */
+  FutureCombiner(
+      ProducerFuture<T> future,
+      List<? extends ListenableFuture<?>> inputs,
+      boolean allMustSucceed) {
+    this.future = future;
+    this.inputs = inputs;
+    this.allMustSucceed = allMustSucceed;
+  }
+
+  /**
+   * Returns the combined value of the inputs, which are all done, and have all succeeded if all
+   * must succeed.
+   */
+  abstract T combine() throws Exception;
+
+  /** Returns the inputs, in the order they were given. */
+  final List<? extends ListenableFuture<?>> inputs() {
+    return inputs;
+  }
+
+  /** Starts listening to the inputs, and returns the producer's future. */
+  final ProducerFuture<T> start() {
+    // One more than the number of inputs, so that the future isn't completed before all the
+    // listeners are added.
+    remaining = inputs.size() + 1;
+    for (final ListenableFuture<?> input : inputs) {
+      if (input.isDone()) {
+        inputDone(input);
+      } else {
+        input.addListener(
+            new Runnable() {
+              @Override
+              public void run() {
+                inputDone(input);
+              }
+            },
+            directExecutor());
+      }
+    }
+    decrementRemaining();
+    return future;
+  }
+
+  private void inputDone(ListenableFuture<?> input) {
+    if (allMustSucceed && !future.isDone()) {
+      try {
+        Futures.getDone(input);
+      } catch (ExecutionException e) {
+        future.setException(e.getCause());
+      } catch (CancellationException e) {
+        future.doCancel(false);
+      }
+    }
+    decrementRemaining();
+  }
+
+  private void decrementRemaining() {
+    if (REMAINING.decrementAndGet(this) == 0 && !future.isDone()) {
+      try {
+        future.set(combine());
+      } catch (Throwable t) {
+        future.setException(t);
+      }
+    }
+  }
+}
@@ -16,20 +16,13 @@
 
 package dagger.producers.internal;
 
-import static com.google.common.util.concurrent.Futures.transform;
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
 import static dagger.internal.Providers.asDaggerProvider;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
 import dagger.producers.Produced;
 import dagger.producers.Producer;
-import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,46 +37,12 @@ public final class MapOfProducedProducer<K, V> extends AbstractMapProducer<K, V,
 
   @Override
   public ListenableFuture<Map<K, Produced<V>>> compute() {
-    return Futures.transform(
-        Futures.allAsList(
-            Iterables.transform(
-                contributingMap().entrySet(), MapOfProducedProducer.<K, V>entryUnwrapper())),
-        new Function<List<Map.Entry<K, Produced<V>>>, Map<K, Produced<V>>>() {
-          @Override
-          public Map<K, Produced<V>> apply(List<Map.Entry<K, Produced<V>>> entries) {
-            return ImmutableMap.copyOf(entries);
-          }
-        },
-        directExecutor());
-  }
-
-  private static final Function<
-          Map.Entry<Object, Producer<Object>>,
-          ListenableFuture<Map.Entry<Object, Produced<Object>>>>
-      ENTRY_UNWRAPPER =
-          new Function<
-              Map.Entry<Object, Producer<Object>>,
-              ListenableFuture<Map.Entry<Object, Produced<Object>>>>() {
-            @Override
-            public ListenableFuture<Map.Entry<Object, Produced<Object>>> apply(
-                final Map.Entry<Object, Producer<Object>> entry) {
-              return transform(
-                  Producers.createFutureProduced(entry.getValue().get()),
-                  new Function<Produced<Object>, Map.Entry<Object, Produced<Object>>>() {
-                    @Override
-                    public Map.Entry<Object, Produced<Object>> apply(Produced<Object> value) {
-                      return Maps.immutableEntry(entry.getKey(), value);
-                    }
-                  },
-                  directExecutor());
-            }
-          };
-
-  @SuppressWarnings({"unchecked", "rawtypes"}) // bivariate implementation
-  private static <K, V>
-      Function<Map.Entry<K, Producer<V>>, ListenableFuture<Map.Entry<K, Produced<V>>>>
-          entryUnwrapper() {
-    return (Function) ENTRY_UNWRAPPER;
+    return new ContributionCombiner(false) {
+      @Override
+      Produced<V> value(ListenableFuture<V> contribution) {
+        return Producers.producedOfDone(contribution);
+      }
+    }.start();
   }
 
   /** Returns a new {@link Builder}. */
@@ -16,20 +16,15 @@
 
 package dagger.producers.internal;
 
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static com.google.common.util.concurrent.Futures.getDone;
 import static dagger.internal.Providers.asDaggerProvider;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.internal.Provider;
 import dagger.producers.Producer;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A {@link Producer} implementation used to implement {@link Map} bindings. This producer returns a
@@ -86,28 +81,11 @@ public final class MapProducer<K, V> extends AbstractMapProducer<K, V, V> {
 
   @Override
   protected ListenableFuture<Map<K, V>> compute() {
-    final List<ListenableFuture<Map.Entry<K, V>>> listOfEntries = new ArrayList<>();
-    for (final Entry<K, Producer<V>> entry : contributingMap().entrySet()) {
-      listOfEntries.add(
-          Futures.transform(
-              entry.getValue().get(),
-              new Function<V, Entry<K, V>>() {
-                @Override
-                public Entry<K, V> apply(V computedValue) {
-                  return Maps.immutableEntry(entry.getKey(), computedValue);
-                }
-              },
-              directExecutor()));
-    }
-
-    return Futures.transform(
-        Futures.allAsList(listOfEntries),
-        new Function<List<Map.Entry<K, V>>, Map<K, V>>() {
-          @Override
-          public Map<K, V> apply(List<Map.Entry<K, V>> entries) {
-            return ImmutableMap.copyOf(entries);
-          }
-        },
-        directExecutor());
+    return new ContributionCombiner(true) {
+      @Override
+      V value(ListenableFuture<V> contribution) throws ExecutionException {
+        return getDone(contribution);
+      }
+    }.start();
   }
 }
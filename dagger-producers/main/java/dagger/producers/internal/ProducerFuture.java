@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.ListenableFuture;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * The future of an {@link AbstractProducer}, which holds the whole state of its node: the value or
+ * failure once it completes, and the listeners of its consumers until then.
+ *
+ * <p>It can't be cancelled via normal future cancellation, so consumers can use it directly; only
+ * {@link #doCancel(boolean)} cancels it. Producers complete it directly with {@link #set} and
+ * {@link #setException}, or with the outcome of another future with {@link #completeWith}, rather
+ * than through intermediate transforming futures.
+ */
+final class ProducerFuture<T> extends AbstractFuture<T> implements Runnable {
+  /** The future that will complete this one, if it was not done when it was given. */
+  @NullableDecl private volatile ListenableFuture<? extends T> pending;
+
+  @Override
+  public boolean set(@NullableDecl T value) {
+    return super.set(value);
+  }
+
+  @Override
+  public boolean setException(Throwable throwable) {
+    return super.setException(throwable);
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    return false;
+  }
+
+  /** Actually cancels this future. */
+  void doCancel(boolean mayInterruptIfRunning) {
+    super.cancel(mayInterruptIfRunning);
+  }
+
+  /**
+   * Completes this future with the outcome of {@code future}. If this future completes first, by
+   * being cancelled or failed, then {@code future} is cancelled.
+   */
+  void completeWith(ListenableFuture<? extends T> future) {
+    if (future.isDone()) {
+      // This copies the outcome without adding a listener.
+      setFuture(future);
+      return;
+    }
+    pending = future;
+    future.addListener(this, directExecutor());
+    if (isDone()) {
+      cancelPending();
+    }
+  }
+
+  /** Called when the future given to {@link #completeWith} completes. */
+  @Override
+  public void run() {
+    ListenableFuture<? extends T> localPending = pending;
+    if (localPending != null) {
+      setFuture(localPending);
+    }
+  }
+
+  @Override
+  protected void afterDone() {
+    cancelPending();
+  }
+
+  private void cancelPending() {
+    ListenableFuture<? extends T> localPending = pending;
+    pending = null;
+    if (localPending != null && !localPending.isDone()) {
+      localPending.cancel(wasInterrupted());
+    }
+  }
+
+  @Override
+  @NullableDecl
+  protected String pendingToString() {
+    ListenableFuture<? extends T> localPending = pending;
+    return localPending == null ? null : "pending=[" + localPending + "]";
+  }
+}
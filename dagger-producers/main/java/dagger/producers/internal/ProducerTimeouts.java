@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/** Fails the futures of producers that take longer than their timeout or deadline. */
+final class ProducerTimeouts {
+  /**
+   * Fails {@code future} with a {@link TimeoutException} if it has not completed within {@code
+   * timeoutNanos}. This cancels the future that {@code future} is being {@linkplain
+   * ProducerFuture#completeWith completed with}, if any.
+   */
+  static void failAfter(
+      final ProducerFuture<?> future, long timeoutNanos, @NullableDecl final Object producer) {
+    final ScheduledFuture<?> timer =
+        SchedulerHolder.SCHEDULER.schedule(
+            new Runnable() {
+              @Override
+              public void run() {
+                future.setException(new TimeoutException(producer + " timed out"));
+              }
+            },
+            timeoutNanos,
+            NANOSECONDS);
+    future.addListener(
+        new Runnable() {
+          @Override
+          public void run() {
+            timer.cancel(false);
+          }
+        },
+        directExecutor());
+  }
+
+  /** Holds the scheduler, so that its thread is only created once a producer has a timeout. */
+  private static final class SchedulerHolder {
+    static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+    private static ScheduledExecutorService newScheduler() {
+      ScheduledThreadPoolExecutor scheduler =
+          new ScheduledThreadPoolExecutor(
+              1,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("dagger-production-timeouts")
+                  .setDaemon(true)
+                  .build());
+      // Producers usually complete well within their timeouts; don't keep their timers queued.
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
+  }
+
+  private ProducerTimeouts() {}
+}
@@ -34,6 +34,8 @@ import dagger.producers.Producer;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Utility methods for use in generated producer code.
@@ -86,6 +88,21 @@ public final class Producers {
     return (AsyncFunction) FUTURE_FALLBACK_FOR_PRODUCED;
   }
 
+  /**
+   * Returns a {@link Produced} of the outcome of {@code future}, which must be done. A cancelled
+   * future gives a failed {@code Produced} of the {@link CancellationException}, as with {@link
+   * #createFutureProduced(ListenableFuture)}.
+   */
+  static <T> Produced<T> producedOfDone(ListenableFuture<T> future) {
+    try {
+      return Produced.successful(Futures.getDone(future));
+    } catch (ExecutionException e) {
+      return Produced.failed(e.getCause());
+    } catch (CancellationException e) {
+      return Produced.failed(e);
+    }
+  }
+
   /**
    * Returns a future of a {@code Set} that contains a single element: the result of the input
    * future.
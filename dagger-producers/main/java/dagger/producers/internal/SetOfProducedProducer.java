@@ -17,13 +17,11 @@
 package dagger.producers.internal;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static com.google.common.util.concurrent.Futures.getDone;
 import static dagger.internal.DaggerCollections.hasDuplicates;
 import static dagger.internal.DaggerCollections.presizedList;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Produced;
 import dagger.producers.Producer;
@@ -31,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -106,67 +105,65 @@ public final class SetOfProducedProducer<T> extends AbstractProducer<Set<Produce
    * <p>If any of the delegate collections, or any elements therein, are null, then that
    * corresponding {@code Produced} element will fail with a NullPointerException.
    *
-   * <p>Canceling this future will attempt to cancel all of the component futures; but if any of the
-   * delegate futures fail or are canceled, this future succeeds, with the appropriate failed {@link
-   * Produced}.
+   * <p>If any of the delegate futures fail or are canceled, this future succeeds, with the
+   * appropriate failed {@link Produced}.
    *
    * @throws NullPointerException if any of the delegate producers return null
    */
   @Override
   public ListenableFuture<Set<Produced<T>>> compute() {
-    List<ListenableFuture<? extends Produced<? extends Collection<T>>>> futureProducedCollections =
-        new ArrayList<ListenableFuture<? extends Produced<? extends Collection<T>>>>(
-            individualProducers.size() + collectionProducers.size());
+    final List<ListenableFuture<?>> futures =
+        new ArrayList<ListenableFuture<?>>(individualProducers.size() + collectionProducers.size());
     for (Producer<T> producer : individualProducers) {
-      // TODO(ronshapiro): Don't require individual productions to be added to a collection just to
-      // be materialized into futureProducedCollections.
-      futureProducedCollections.add(
-          Producers.createFutureProduced(
-              Producers.createFutureSingletonSet(checkNotNull(producer.get()))));
+      futures.add(checkNotNull(producer.get()));
     }
     for (Producer<Collection<T>> producer : collectionProducers) {
-      futureProducedCollections.add(Producers.createFutureProduced(checkNotNull(producer.get())));
+      futures.add(checkNotNull(producer.get()));
     }
-
-    return Futures.transform(
-        Futures.allAsList(futureProducedCollections),
-        new Function<List<Produced<? extends Collection<T>>>, Set<Produced<T>>>() {
-          @Override
-          public Set<Produced<T>> apply(
-              List<Produced<? extends Collection<T>>> producedCollections) {
-            ImmutableSet.Builder<Produced<T>> builder = ImmutableSet.builder();
-            for (Produced<? extends Collection<T>> producedCollection : producedCollections) {
-              try {
-                Collection<T> collection = producedCollection.get();
-                if (collection == null) {
-                  // TODO(beder): This is a vague exception. Can we somehow point to the failing
-                  // producer? See the similar comment in the component writer about null
-                  // provisions.
-                  builder.add(
-                      Produced.<T>failed(
-                          new NullPointerException(
-                              "Cannot contribute a null collection into a producer set binding when"
-                                  + " it's injected as Set<Produced<T>>.")));
-                } else {
-                  for (T value : collection) {
-                    if (value == null) {
-                      builder.add(
-                          Produced.<T>failed(
-                              new NullPointerException(
-                                  "Cannot contribute a null element into a producer set binding"
-                                      + " when it's injected as Set<Produced<T>>.")));
-                    } else {
-                      builder.add(Produced.successful(value));
-                    }
-                  }
-                }
-              } catch (ExecutionException e) {
-                builder.add(Produced.<T>failed(e.getCause()));
+    return new FutureCombiner<Set<Produced<T>>>(future(), futures, false) {
+      @Override
+      @SuppressWarnings("unchecked") // the futures were added with these types above
+      Set<Produced<T>> combine() {
+        ImmutableSet.Builder<Produced<T>> builder = ImmutableSet.builder();
+        for (int i = 0; i < futures.size(); i++) {
+          try {
+            Object value = getDone(futures.get(i));
+            if (i < individualProducers.size()) {
+              addElement(builder, (T) value);
+            } else if (value == null) {
+              // TODO(beder): This is a vague exception. Can we somehow point to the failing
+              // producer? See the similar comment in the component writer about null
+              // provisions.
+              builder.add(
+                  Produced.<T>failed(
+                      new NullPointerException(
+                          "Cannot contribute a null collection into a producer set binding when"
+                              + " it's injected as Set<Produced<T>>.")));
+            } else {
+              for (T element : (Collection<T>) value) {
+                addElement(builder, element);
               }
             }
-            return builder.build();
+          } catch (ExecutionException e) {
+            builder.add(Produced.<T>failed(e.getCause()));
+          } catch (CancellationException e) {
+            builder.add(Produced.<T>failed(e));
           }
-        },
-        directExecutor());
+        }
+        return builder.build();
+      }
+    }.start();
+  }
+
+  private static <T> void addElement(ImmutableSet.Builder<Produced<T>> builder, T element) {
+    if (element == null) {
+      builder.add(
+          Produced.<T>failed(
+              new NullPointerException(
+                  "Cannot contribute a null element into a producer set binding when it's"
+                      + " injected as Set<Produced<T>>.")));
+    } else {
+      builder.add(Produced.successful(element));
+    }
   }
 }
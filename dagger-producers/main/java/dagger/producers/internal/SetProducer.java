@@ -17,20 +17,18 @@
 package dagger.producers.internal;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.util.concurrent.Futures.transform;
-import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static com.google.common.util.concurrent.Futures.getDone;
 import static dagger.internal.DaggerCollections.hasDuplicates;
 import static dagger.internal.DaggerCollections.presizedList;
 
-import com.google.common.base.Function;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import dagger.producers.Producer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 /**
  * A {@link Producer} implementation used to implement {@link Set} bindings. This producer returns
@@ -109,39 +107,34 @@ public final class SetProducer<T> extends AbstractProducer<Set<T>> {
    * <p>If any of the delegate collections, or any elements therein, are null, then this future will
    * fail with a NullPointerException.
    *
-   * <p>Canceling this future will attempt to cancel all of the component futures, and if any of the
-   * delegate futures fails or is canceled, this one is, too.
+   * <p>If any of the delegate futures fails or is canceled, this one is, too.
    *
    * @throws NullPointerException if any of the delegate producers return null
    */
   @Override
   public ListenableFuture<Set<T>> compute() {
-    List<ListenableFuture<T>> individualFutures =
-        new ArrayList<ListenableFuture<T>>(individualProducers.size());
+    final List<ListenableFuture<?>> futures =
+        new ArrayList<ListenableFuture<?>>(individualProducers.size() + collectionProducers.size());
     for (Producer<T> producer : individualProducers) {
-      individualFutures.add(checkNotNull(producer.get()));
+      futures.add(checkNotNull(producer.get()));
     }
-
-    // Presize the list of collections produced by the amount of collectionProducers, with one more
-    // for the consolidate individualFutures from Futures.allAsList.
-    List<ListenableFuture<? extends Collection<T>>> futureCollections =
-        new ArrayList<ListenableFuture<? extends Collection<T>>>(collectionProducers.size() + 1);
-    futureCollections.add(Futures.allAsList(individualFutures));
     for (Producer<Collection<T>> producer : collectionProducers) {
-      futureCollections.add(checkNotNull(producer.get()));
+      futures.add(checkNotNull(producer.get()));
     }
-    return transform(
-        Futures.allAsList(futureCollections),
-        new Function<List<Collection<T>>, Set<T>>() {
-          @Override
-          public Set<T> apply(List<Collection<T>> sets) {
-            ImmutableSet.Builder<T> builder = ImmutableSet.builder();
-            for (Collection<T> set : sets) {
-              builder.addAll(set);
-            }
-            return builder.build();
-          }
-        },
-        directExecutor());
+    return new FutureCombiner<Set<T>>(future(), futures, true) {
+      @Override
+      @SuppressWarnings("unchecked") // the futures were added with these types above
+      Set<T> combine() throws ExecutionException {
+        ImmutableSet.Builder<T> builder = ImmutableSet.builder();
+        int i = 0;
+        for (; i < individualProducers.size(); i++) {
+          builder.add((T) getDone(futures.get(i)));
+        }
+        for (; i < futures.size(); i++) {
+          builder.addAll((Collection<T>) getDone(futures.get(i)));
+        }
+        return builder.build();
+      }
+    }.start();
   }
 }
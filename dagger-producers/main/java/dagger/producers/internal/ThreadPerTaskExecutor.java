@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
+
+/**
+ * An executor that runs each task on a new virtual thread.
+ *
+ * <p>On JVMs without virtual threads (before Java 21), tasks run on a shared, unbounded pool of
+ * daemon platform threads instead.
+ */
+public final class ThreadPerTaskExecutor implements Executor {
+  private static final String THREAD_NAME_PREFIX = "dagger-production-";
+  private static final ThreadPerTaskExecutor INSTANCE = new ThreadPerTaskExecutor();
+
+  /** Returns the shared instance. */
+  public static ThreadPerTaskExecutor instance() {
+    return INSTANCE;
+  }
+
+  @NullableDecl private final ThreadFactory virtualThreadFactory;
+  @NullableDecl private final ExecutorService platformThreads;
+
+  private ThreadPerTaskExecutor() {
+    this.virtualThreadFactory = virtualThreadFactory();
+    this.platformThreads =
+        virtualThreadFactory == null
+            ? Executors.newCachedThreadPool(
+                new ThreadFactoryBuilder()
+                    .setNameFormat(THREAD_NAME_PREFIX + "%d")
+                    .setDaemon(true)
+                    .build())
+            : null;
+  }
+
+  /** Returns {@code true} if tasks run on virtual threads. */
+  public boolean usesVirtualThreads() {
+    return virtualThreadFactory != null;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (virtualThreadFactory != null) {
+      virtualThreadFactory.newThread(task).start();
+    } else {
+      platformThreads.execute(task);
+    }
+  }
+
+  /**
+   * Returns a factory of virtual threads, or {@code null} if this JVM does not support them. This
+   * is looked up reflectively because this library targets Java 8.
+   */
+  @NullableDecl
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder =
+          builderClass
+              .getMethod("name", String.class, long.class)
+              .invoke(builder, THREAD_NAME_PREFIX, 0L);
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Either there are no virtual threads, or they are a preview feature that is not enabled.
+      return null;
+    }
+  }
+}
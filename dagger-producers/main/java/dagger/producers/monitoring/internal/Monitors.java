@@ -18,14 +18,18 @@ package dagger.producers.monitoring.internal;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import dagger.producers.ProductionDeadline;
+import dagger.producers.internal.CancellationListener;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
 import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.inject.Provider;
+import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 
 /**
  * Utility methods relating to monitoring, for use in generated producers code.
@@ -70,6 +74,89 @@ public final class Monitors {
     }
   }
 
+  /**
+   * Returns a monitor factory whose monitors carry {@code deadline} to the producers of the
+   * component, which read it with {@link #deadlineOf(ProductionComponentMonitor)}.
+   */
+  public static ProductionComponentMonitor.Factory deadlineMonitorFactory(
+      final ProductionDeadline deadline) {
+    return new ProductionComponentMonitor.Factory() {
+      @Override
+      public ProductionComponentMonitor create(Object component) {
+        return new DeadlineMonitor(deadline);
+      }
+    };
+  }
+
+  /**
+   * Returns the earliest deadline carried by {@code monitor}, or {@code null} if the component has
+   * no deadline.
+   */
+  @NullableDecl
+  public static ProductionDeadline deadlineOf(ProductionComponentMonitor monitor) {
+    if (monitor instanceof DeadlineMonitor) {
+      return ((DeadlineMonitor) monitor).deadline;
+    } else if (monitor instanceof NonThrowingProductionComponentMonitor) {
+      return ((NonThrowingProductionComponentMonitor) monitor).deadline;
+    } else if (monitor instanceof DelegatingProductionComponentMonitor) {
+      return ((DelegatingProductionComponentMonitor) monitor).deadline;
+    }
+    return null;
+  }
+
+  /**
+   * Tells each monitor carried by {@code monitor} that is a {@link CancellationListener} that the
+   * component was cancelled. This does not throw a {@link RuntimeException}.
+   */
+  public static void componentCancelled(
+      ProductionComponentMonitor monitor, boolean mayInterruptIfRunning) {
+    if (monitor instanceof NonThrowingProductionComponentMonitor) {
+      componentCancelled(
+          ((NonThrowingProductionComponentMonitor) monitor).delegate, mayInterruptIfRunning);
+    } else if (monitor instanceof DelegatingProductionComponentMonitor) {
+      for (ProductionComponentMonitor delegate :
+          ((DelegatingProductionComponentMonitor) monitor).delegates) {
+        componentCancelled(delegate, mayInterruptIfRunning);
+      }
+    } else if (monitor instanceof CancellationListener) {
+      try {
+        ((CancellationListener) monitor).onProducerFutureCancelled(mayInterruptIfRunning);
+      } catch (RuntimeException e) {
+        logger.log(
+            Level.SEVERE,
+            "RuntimeException while calling CancellationListener.onProducerFutureCancelled on"
+                + " monitor "
+                + monitor,
+            e);
+      }
+    }
+  }
+
+  @NullableDecl
+  private static ProductionDeadline earliest(
+      @NullableDecl ProductionDeadline a, @NullableDecl ProductionDeadline b) {
+    if (a == null) {
+      return b;
+    } else if (b == null) {
+      return a;
+    }
+    return a.remaining(TimeUnit.NANOSECONDS) <= b.remaining(TimeUnit.NANOSECONDS) ? a : b;
+  }
+
+  /** A component monitor that only carries a deadline to the component's producers. */
+  private static final class DeadlineMonitor extends ProductionComponentMonitor {
+    private final ProductionDeadline deadline;
+
+    DeadlineMonitor(ProductionDeadline deadline) {
+      this.deadline = deadline;
+    }
+
+    @Override
+    public ProducerMonitor producerMonitorFor(ProducerToken token) {
+      return ProducerMonitor.noOp();
+    }
+  }
+
   /**
    * A component monitor that delegates to a single monitor, and catches and logs all exceptions
    * that the delegate throws.
@@ -77,9 +164,11 @@ public final class Monitors {
   private static final class NonThrowingProductionComponentMonitor
       extends ProductionComponentMonitor {
     private final ProductionComponentMonitor delegate;
+    @NullableDecl private final ProductionDeadline deadline;
 
     NonThrowingProductionComponentMonitor(ProductionComponentMonitor delegate) {
       this.delegate = delegate;
+      this.deadline = deadlineOf(delegate);
     }
 
     @Override
@@ -188,9 +277,15 @@ public final class Monitors {
   private static final class DelegatingProductionComponentMonitor
       extends ProductionComponentMonitor {
     private final ImmutableList<ProductionComponentMonitor> delegates;
+    @NullableDecl private final ProductionDeadline deadline;
 
     DelegatingProductionComponentMonitor(ImmutableList<ProductionComponentMonitor> delegates) {
       this.delegates = delegates;
+      ProductionDeadline deadline = null;
+      for (ProductionComponentMonitor delegate : delegates) {
+        deadline = earliest(deadline, deadlineOf(delegate));
+      }
+      this.deadline = deadline;
     }
 
     @Override
@@ -0,0 +1,30 @@
+import dagger.gradle.build.SoftwareType
+
+plugins {
+  alias(libs.plugins.daggerBuild)
+  id(libs.plugins.kotlinJvm.get().pluginId)
+}
+
+dependencies {
+  implementation(project(":dagger"))
+  implementation(project(":dagger-producers"))
+  implementation(libs.jmh.core)
+  // SwitchingProviderBenchmark and InlineInstanceCreationBenchmark compile their components with
+  // the processor on the classpath.
+  runtimeOnly(project(":dagger-compiler"))
+  annotationProcessor(libs.jmh.generator)
+}
+
+daggerBuild {
+  type = SoftwareType.JVM_LIBRARY
+  isPublished = false
+}
+
+// Runs every benchmark for 1..N threads with the GC profiler enabled. Arguments are forwarded to
+// RuntimeBenchmarks, e.g. `./gradlew :dagger-runtime-benchmarks:jmh --args="SetFactory 8"`.
+tasks.register<JavaExec>("jmh") {
+  group = "benchmark"
+  description = "Runs the dagger-runtime JMH benchmarks."
+  mainClass.set("dagger.internal.RuntimeBenchmarks")
+  classpath = sourceSets.main.get().runtimeClasspath
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the creation of a deep graph of unscoped bindings with and without the {@code
+ * dagger.inlineInstanceCreationBudget} compiler option.
+ *
+ * <p>The setup generates a component for a graph of {@link #NODES} unscoped {@code @Inject}
+ * classes, where {@code Node<i>} depends on {@code Node<i+1>} and on the last node, and compiles it
+ * with the Dagger processor from the benchmark's classpath. Without a budget, each node is created
+ * in its own private method, so the call chain for {@link #create} is deeper than HotSpot's {@code
+ * MaxInlineLevel}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InlineInstanceCreationBenchmark {
+  private static final int NODES = 50;
+
+  /** The value of {@code dagger.inlineInstanceCreationBudget}, or 0 to leave it unset. */
+  @Param({"0", "325"})
+  public int budget;
+
+  /** Whether the component is compiled in fast-init mode. */
+  @Param({"false", "true"})
+  public boolean fastInit;
+
+  private Path directory;
+  private javax.inject.Provider<?> component;
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("InlineInstanceCreationBenchmark");
+    Path sources = Files.createDirectories(directory.resolve("src/bench"));
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+    List<String> files = new ArrayList<>();
+    int last = NODES - 1;
+    for (int i = 0; i < NODES; i++) {
+      String parameters = i == last ? "" : String.format("Node%d next, Node%d leaf", i + 1, last);
+      files.add(
+          write(
+              sources.resolve("Node" + i + ".java"),
+              "package bench;",
+              "",
+              "final class Node" + i + " {",
+              "  @javax.inject.Inject",
+              "  Node" + i + "(" + parameters + ") {}",
+              "}"));
+    }
+    // Extending Provider gives the benchmark a monomorphic entry point without reflection.
+    files.add(
+        write(
+            sources.resolve("BenchComponent.java"),
+            "package bench;",
+            "",
+            "@dagger.Component",
+            "public interface BenchComponent extends javax.inject.Provider<Node0> {}"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("InlineInstanceCreationBenchmark must be run on a JDK");
+    }
+    String classpath = System.getProperty("java.class.path");
+    List<String> arguments = new ArrayList<>();
+    Collections.addAll(
+        arguments,
+        "-nowarn",
+        "-d",
+        classes.toString(),
+        "-classpath",
+        classpath,
+        "-processorpath",
+        classpath,
+        "-Adagger.fastInit=" + (fastInit ? "enabled" : "disabled"));
+    if (budget > 0) {
+      arguments.add("-Adagger.inlineInstanceCreationBudget=" + budget);
+    }
+    arguments.addAll(files);
+    if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+      throw new IllegalStateException("Failed to compile the benchmark component");
+    }
+
+    ClassLoader classLoader =
+        new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+    component =
+        (javax.inject.Provider<?>)
+            classLoader.loadClass("bench.DaggerBenchComponent").getMethod("create").invoke(null);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public Object create() {
+    return component.get();
+  }
+
+  private static String write(Path path, String... lines) throws IOException {
+    Files.write(path, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    return path.toString();
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link LazyClassKeyMap}, the {@code Map<Class<?>, V>} produced for
+ * {@code @LazyClassKey} map bindings.
+ *
+ * <p>The keys are the JDK classes in {@link #KEYS} since the benchmark needs loaded classes whose
+ * names match the string keys of the underlying map. Larger maps are padded with the names of
+ * classes that don't exist, which are never looked up.
+ *
+ * <p>The {@code linkedHashMap} benchmarks look up the same keys in a {@link LazyClassKeyMap} that
+ * wraps an unmodifiable {@link LinkedHashMap}, which is what {@link MapFactory} used to return, as
+ * the baseline for the index that {@link ImmutableArrayMap} uses for lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyClassKeyMapBenchmark {
+  private static final Class<?>[] KEYS = {
+    Object.class,
+    String.class,
+    Integer.class,
+    Long.class,
+    Short.class,
+    Byte.class,
+    Character.class,
+    Boolean.class,
+    Float.class,
+    Double.class,
+    Number.class,
+    Thread.class,
+    Runnable.class,
+    Iterable.class,
+    CharSequence.class,
+    StringBuilder.class,
+    Comparable.class,
+    Class.class,
+    ClassLoader.class,
+    System.class,
+    Math.class,
+    Enum.class,
+    Throwable.class,
+    Exception.class,
+    RuntimeException.class,
+    Error.class,
+    Void.class,
+    Process.class,
+    Runtime.class,
+    ThreadLocal.class,
+    Map.class,
+    List.class,
+  };
+
+  /** The number of {@code @LazyClassKey} contributions. */
+  @Param({"4", "32", "800"})
+  public int size;
+
+  private Provider<Map<Class<?>, Object>> mapFactory;
+  private Provider<Map<Class<?>, Provider<Object>>> mapProviderFactory;
+  private Map<Class<?>, Object> map;
+  private Map<Class<?>, Object> linkedHashMap;
+  private Class<?> lookupKey;
+  private Class<?>[] lookupKeys;
+
+  @Setup
+  public void setUp() {
+    MapFactory.Builder<String, Object> builder = MapFactory.builder(size);
+    MapProviderFactory.Builder<String, Object> providerBuilder = MapProviderFactory.builder(size);
+    for (int i = 0; i < size; i++) {
+      Provider<Object> provider = InstanceFactory.create(new Object());
+      String name = i < KEYS.length ? KEYS[i].getName() : "com.example.Handler" + i;
+      builder.put(name, provider);
+      providerBuilder.put(name, provider);
+    }
+    mapFactory = LazyClassKeyMap.MapFactory.of(builder.build());
+    mapProviderFactory = LazyClassKeyMap.MapProviderFactory.of(providerBuilder.build());
+    map = mapFactory.get();
+    Map<String, Object> delegate = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      String name = i < KEYS.length ? KEYS[i].getName() : "com.example.Handler" + i;
+      delegate.put(name, new Object());
+    }
+    linkedHashMap = LazyClassKeyMap.of(Collections.unmodifiableMap(delegate));
+    lookupKeys = Arrays.copyOf(KEYS, Math.min(size, KEYS.length));
+    lookupKey = lookupKeys[lookupKeys.length / 2];
+  }
+
+  @Benchmark
+  public Map<Class<?>, Object> mapFactoryGet() {
+    return mapFactory.get();
+  }
+
+  @Benchmark
+  public Map<Class<?>, Provider<Object>> mapProviderFactoryGet() {
+    return mapProviderFactory.get();
+  }
+
+  @Benchmark
+  public Object lookup() {
+    return map.get(lookupKey);
+  }
+
+  @Benchmark
+  public Object linkedHashMapLookup() {
+    return linkedHashMap.get(lookupKey);
+  }
+
+  /** Looks up every class key in turn, so that each lookup takes a different path. */
+  @Benchmark
+  public void lookupEach(Blackhole blackhole) {
+    for (Class<?> key : lookupKeys) {
+      blackhole.consume(map.get(key));
+    }
+  }
+
+  @Benchmark
+  public void linkedHashMapLookupEach(Blackhole blackhole) {
+    for (Class<?> key : lookupKeys) {
+      blackhole.consume(linkedHashMap.get(key));
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link MapFactory} and {@link MapProviderFactory}, covering both building the map
+ * on request and looking up a value in the map that was built.
+ *
+ * <p>{@link #linkedHashMapLookup()} looks up the same key in an unmodifiable {@link LinkedHashMap},
+ * which is what {@link MapFactory} used to return, as the baseline for {@link #mapLookup()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapFactoryBenchmark {
+  /** The number of {@code @IntoMap} contributions. */
+  @Param({"5", "40"})
+  public int size;
+
+  private Provider<Map<String, Object>> mapFactory;
+  private Provider<Map<String, Provider<Object>>> mapProviderFactory;
+  private Map<String, Object> map;
+  private Map<String, Provider<Object>> providerMap;
+  private Map<String, Object> linkedHashMap;
+  private String lookupKey;
+
+  @Setup
+  public void setUp() {
+    MapFactory.Builder<String, Object> mapFactoryBuilder = MapFactory.builder(size);
+    MapProviderFactory.Builder<String, Object> mapProviderFactoryBuilder =
+        MapProviderFactory.builder(size);
+    for (int i = 0; i < size; i++) {
+      Provider<Object> provider = InstanceFactory.create(new Object());
+      mapFactoryBuilder.put("key" + i, provider);
+      mapProviderFactoryBuilder.put("key" + i, provider);
+    }
+    mapFactory = mapFactoryBuilder.build();
+    mapProviderFactory = mapProviderFactoryBuilder.build();
+    map = mapFactory.get();
+    providerMap = mapProviderFactory.get();
+    linkedHashMap = Collections.unmodifiableMap(new LinkedHashMap<>(map));
+    // Use a key that is equal to, but not the same instance as, the one in the map.
+    lookupKey = new String("key" + (size / 2));
+  }
+
+  @Benchmark
+  public Map<String, Object> mapFactoryGet() {
+    return mapFactory.get();
+  }
+
+  /** Requests the map and looks up a single handler in it, as a per-request registry would. */
+  @Benchmark
+  public Object mapFactoryGetAndLookup() {
+    return mapFactory.get().get(lookupKey);
+  }
+
+  @Benchmark
+  public Map<String, Provider<Object>> mapProviderFactoryGet() {
+    return mapProviderFactory.get();
+  }
+
+  @Benchmark
+  public Object mapLookup() {
+    return map.get(lookupKey);
+  }
+
+  @Benchmark
+  public Object linkedHashMapLookup() {
+    return linkedHashMap.get(lookupKey);
+  }
+
+  @Benchmark
+  public Object providerMapLookup() {
+    return providerMap.get(lookupKey).get();
+  }
+}
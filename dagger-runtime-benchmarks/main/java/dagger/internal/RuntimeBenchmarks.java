@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the dagger-runtime benchmarks with the {@link GCProfiler} for each thread count in {@code
+ * 1, 2, 4, ..., N}.
+ *
+ * <p>Usage: {@code RuntimeBenchmarks [include-regex] [max-threads]}. The include regex defaults to
+ * all benchmarks in this package and the maximum thread count defaults to the number of available
+ * processors.
+ */
+public final class RuntimeBenchmarks {
+  public static void main(String[] args) throws RunnerException {
+    String include = args.length > 0 ? args[0] : RuntimeBenchmarks.class.getPackage().getName();
+    int maxThreads =
+        args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+    for (int threads : threadCounts(maxThreads)) {
+      Options options =
+          new OptionsBuilder()
+              .include(include)
+              .threads(threads)
+              .addProfiler(GCProfiler.class)
+              .build();
+      new Runner(options).run();
+    }
+  }
+
+  private static List<Integer> threadCounts(int maxThreads) {
+    List<Integer> threadCounts = new ArrayList<>();
+    for (int threads = 1; threads < maxThreads; threads *= 2) {
+      threadCounts.add(threads);
+    }
+    threadCounts.add(maxThreads);
+    return threadCounts;
+  }
+
+  private RuntimeBenchmarks() {}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the scoping providers, {@link DoubleCheck}, {@link LockFreeDoubleCheck}, {@link
+ * ReentrantLockDoubleCheck} and {@link SingleCheck}.
+ *
+ * <p>{@link #initialized} measures the fast path that every request takes once the scoped instance
+ * exists, with a single provider shared by all benchmark threads. {@link #uninitialized} measures
+ * wrapping a fresh delegate and calling {@code get()} once, which is the path taken the first time
+ * each scoped binding is requested.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopedProviderBenchmark {
+  /** The scoping implementations under test. */
+  public enum Kind {
+    DOUBLE_CHECK {
+      @Override
+      Provider<Object> wrap(Provider<Object> delegate) {
+        return DoubleCheck.provider(delegate);
+      }
+    },
+    LOCK_FREE_DOUBLE_CHECK {
+      @Override
+      Provider<Object> wrap(Provider<Object> delegate) {
+        return LockFreeDoubleCheck.provider(delegate);
+      }
+    },
+    REENTRANT_LOCK_DOUBLE_CHECK {
+      @Override
+      Provider<Object> wrap(Provider<Object> delegate) {
+        return ReentrantLockDoubleCheck.provider(delegate);
+      }
+    },
+    SINGLE_CHECK {
+      @Override
+      Provider<Object> wrap(Provider<Object> delegate) {
+        return SingleCheck.provider(delegate);
+      }
+    },
+    ;
+
+    abstract Provider<Object> wrap(Provider<Object> delegate);
+  }
+
+  private static final Provider<Object> DELEGATE = Object::new;
+
+  @Param
+  public Kind kind;
+
+  private Provider<Object> shared;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    shared = kind.wrap(DELEGATE);
+    shared.get();
+  }
+
+  @Benchmark
+  public Object initialized() {
+    return shared.get();
+  }
+
+  @Benchmark
+  public Object uninitialized() {
+    return kind.wrap(DELEGATE).get();
+  }
+}
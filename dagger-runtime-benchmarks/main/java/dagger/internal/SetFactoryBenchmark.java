@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link SetFactory#get()}, which builds a new {@link Set} on every request for an
+ * unscoped {@code Set<T>} multibinding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SetFactoryBenchmark {
+  /** The number of {@code @IntoSet} contributions. */
+  @Param({"1", "4", "16"})
+  public int individualProviders;
+
+  /** The number of {@code @ElementsIntoSet} contributions. */
+  @Param({"0", "2"})
+  public int collectionProviders;
+
+  private Provider<Set<Object>> setFactory;
+
+  @Setup
+  public void setUp() {
+    SetFactory.Builder<Object> builder =
+        SetFactory.builder(individualProviders, collectionProviders);
+    for (int i = 0; i < individualProviders; i++) {
+      builder.addProvider(InstanceFactory.create(new Object()));
+    }
+    for (int i = 0; i < collectionProviders; i++) {
+      Collection<Object> elements = Arrays.asList(new Object(), new Object());
+      builder.addCollectionProvider(InstanceFactory.create(elements));
+    }
+    setFactory = builder.build();
+  }
+
+  @Benchmark
+  public Set<Object> get() {
+    return setFactory.get();
+  }
+
+  /** Requests the set and walks it, as a consumer of e.g. a set of interceptors would. */
+  @Benchmark
+  public int getAndIterate() {
+    int hashCode = 0;
+    for (Object element : setFactory.get()) {
+      hashCode += element.hashCode();
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for the {@code SwitchingProvider} classes generated in fast-init mode, comparing the
+ * {@code dagger.switchingProviderDispatch} and {@code dagger.switchingProviderCasesPerSwitch}
+ * compiler options.
+ *
+ * <p>The setup generates a component with {@link #bindings} unscoped {@code @Inject} classes and
+ * a {@code Provider} entry point for each, then compiles it with the Dagger processor from the
+ * benchmark's classpath. {@link #get} calls the providers in a fixed random order so that
+ * successive calls take different cases of the switch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SwitchingProviderBenchmark {
+  /** The number of bindings in the generated component. */
+  @Param({"500", "6000"})
+  public int bindings;
+
+  /** The value of {@code dagger.switchingProviderDispatch}. */
+  @Param({"nested", "flat"})
+  public String dispatch;
+
+  /** The value of {@code dagger.switchingProviderCasesPerSwitch}. */
+  @Param({"100", "1000"})
+  public int casesPerSwitch;
+
+  private Path directory;
+  private javax.inject.Provider<?>[] providers;
+
+  /** The index of the next provider to call, per benchmark thread. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    int next;
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    directory = Files.createTempDirectory("SwitchingProviderBenchmark");
+    Path sources = Files.createDirectories(directory.resolve("src/bench"));
+    Path classes = Files.createDirectories(directory.resolve("classes"));
+    List<String> files = new ArrayList<>();
+    StringBuilder entryPoints = new StringBuilder();
+    for (int i = 0; i < bindings; i++) {
+      files.add(
+          write(
+              sources.resolve("Binding" + i + ".java"),
+              "package bench;",
+              "",
+              "final class Binding" + i + " {",
+              "  @javax.inject.Inject",
+              "  Binding" + i + "() {}",
+              "}"));
+      entryPoints.append(
+          String.format("  javax.inject.Provider<Binding%1$d> binding%1$d();\n", i));
+    }
+    files.add(
+        write(
+            sources.resolve("BenchComponent.java"),
+            "package bench;",
+            "",
+            "@dagger.Component",
+            "public interface BenchComponent {",
+            entryPoints.toString(),
+            "}"));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("SwitchingProviderBenchmark must be run on a JDK");
+    }
+    String classpath = System.getProperty("java.class.path");
+    List<String> arguments = new ArrayList<>();
+    Collections.addAll(
+        arguments,
+        "-nowarn",
+        "-d",
+        classes.toString(),
+        "-classpath",
+        classpath,
+        "-processorpath",
+        classpath,
+        "-Adagger.fastInit=enabled",
+        "-Adagger.switchingProviderDispatch=" + dispatch,
+        "-Adagger.switchingProviderCasesPerSwitch=" + casesPerSwitch);
+    arguments.addAll(files);
+    if (compiler.run(null, null, null, arguments.toArray(new String[0])) != 0) {
+      throw new IllegalStateException("Failed to compile the benchmark component");
+    }
+
+    ClassLoader classLoader =
+        new URLClassLoader(new URL[] {classes.toUri().toURL()}, getClass().getClassLoader());
+    Class<?> component = classLoader.loadClass("bench.BenchComponent");
+    Object instance =
+        classLoader.loadClass("bench.DaggerBenchComponent").getMethod("create").invoke(null);
+    List<javax.inject.Provider<?>> shuffled = new ArrayList<>();
+    for (int i = 0; i < bindings; i++) {
+      Method entryPoint = component.getMethod("binding" + i);
+      shuffled.add((javax.inject.Provider<?>) entryPoint.invoke(instance));
+    }
+    Collections.shuffle(shuffled, new Random(0));
+    providers = shuffled.toArray(new javax.inject.Provider<?>[0]);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Benchmark
+  public Object get(Cursor cursor) {
+    int index = cursor.next;
+    cursor.next = index + 1 == providers.length ? 0 : index + 1;
+    return providers[index].get();
+  }
+
+  private static String write(Path path, String... lines) throws IOException {
+    Files.write(path, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    return path.toString();
+  }
+}
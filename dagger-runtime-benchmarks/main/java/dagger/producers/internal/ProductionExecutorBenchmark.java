@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.internal.Provider;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a production graph of blocking {@code @Produces} methods on a fixed thread pool and
+ * on the executors of {@code dagger.producers.VirtualThreadExecutorModule}.
+ *
+ * <p>Each operation requests a graph of {@link #fanOut} producers that each block for {@link
+ * #blockMillis} milliseconds, as a call to a remote service would, and one producer that combines
+ * their results. The producers go through {@link AbstractProducesMethodProducer}, like the ones
+ * generated for {@code @Produces} methods. On JVMs without virtual threads, the thread-per-task
+ * executors use platform threads.
+ *
+ * <p>Run with {@code ./gradlew :dagger-runtime-benchmarks:jmh --args="ProductionExecutor"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductionExecutorBenchmark {
+  /** The production executors under test. */
+  public enum Kind {
+    FIXED_POOL_16 {
+      @Override
+      Executor create() {
+        return Executors.newFixedThreadPool(16);
+      }
+    },
+    THREAD_PER_TASK {
+      @Override
+      Executor create() {
+        return ThreadPerTaskExecutor.instance();
+      }
+    },
+    THREAD_PER_TASK_BOUNDED_64 {
+      @Override
+      Executor create() {
+        return new BoundedExecutor(ThreadPerTaskExecutor.instance(), 64);
+      }
+    },
+    ;
+
+    abstract Executor create();
+  }
+
+  private static final Provider<ProductionComponentMonitor> MONITOR =
+      ProductionComponentMonitor::noOp;
+
+  @Param
+  public Kind kind;
+
+  @Param({"16", "64"})
+  public int fanOut;
+
+  @Param({"1"})
+  public int blockMillis;
+
+  private Executor executor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    executor = kind.create();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (executor instanceof ExecutorService) {
+      ((ExecutorService) executor).shutdownNow();
+    }
+  }
+
+  @Benchmark
+  public int blockingGraph() throws ExecutionException, InterruptedException {
+    Provider<Executor> executorProvider = () -> executor;
+    List<BlockingProducer> inputs = new ArrayList<>(fanOut);
+    for (int i = 0; i < fanOut; i++) {
+      inputs.add(new BlockingProducer(executorProvider, blockMillis));
+    }
+    return new CombiningProducer(executorProvider, inputs).get().get();
+  }
+
+  /** A {@code @Produces} method that blocks, then returns {@code 1}. */
+  private static final class BlockingProducer extends AbstractProducesMethodProducer<Void, Integer> {
+    private final int blockMillis;
+
+    BlockingProducer(Provider<Executor> executorProvider, int blockMillis) {
+      super(MONITOR, null, executorProvider);
+      this.blockMillis = blockMillis;
+    }
+
+    @Override
+    protected ListenableFuture<Void> collectDependencies() {
+      return Futures.immediateFuture(null);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(Void ignored) throws Exception {
+      Thread.sleep(blockMillis);
+      return Futures.immediateFuture(1);
+    }
+  }
+
+  /** A {@code @Produces} method that sums the results of its inputs. */
+  private static final class CombiningProducer
+      extends AbstractProducesMethodProducer<List<Integer>, Integer> {
+    private final List<BlockingProducer> inputs;
+
+    CombiningProducer(Provider<Executor> executorProvider, List<BlockingProducer> inputs) {
+      super(MONITOR, null, executorProvider);
+      this.inputs = inputs;
+    }
+
+    @Override
+    protected ListenableFuture<List<Integer>> collectDependencies() {
+      List<ListenableFuture<Integer>> futures = new ArrayList<>(inputs.size());
+      for (BlockingProducer input : inputs) {
+        futures.add(input.get());
+      }
+      return Futures.allAsList(futures);
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(List<Integer> results) {
+      int sum = 0;
+      for (int result : results) {
+        sum += result;
+      }
+      return Futures.immediateFuture(sum);
+    }
+  }
+}
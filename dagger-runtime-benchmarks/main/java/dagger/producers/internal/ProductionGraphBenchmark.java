@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import dagger.internal.Provider;
+import dagger.producers.Producer;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the futures machinery of a production graph, with {@code @Produces} methods that do
+ * no work and run on a direct executor.
+ *
+ * <p>Each operation creates the producers of one component instance and requests a graph of {@link
+ * #layers} layers of {@link #width} {@code @Produces} methods, each depending on two methods of the
+ * layer before it, and a set and a map multibinding of the last layer. The producers are wired
+ * with dependency views, as generated factories are. Run with {@code -prof gc} to see the
+ * allocation per graph.
+ *
+ * <p>Run with {@code ./gradlew :dagger-runtime-benchmarks:jmh --args="ProductionGraph -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductionGraphBenchmark {
+  private static final Provider<ProductionComponentMonitor> MONITOR =
+      ProductionComponentMonitor::noOp;
+
+  @Param({"10"})
+  public int layers;
+
+  @Param({"15"})
+  public int width;
+
+  /**
+   * If {@code true}, methods are queued and run after the whole graph has been requested, so that
+   * each producer is requested before its dependencies complete, as with a thread pool. Otherwise
+   * they run as soon as their dependencies complete.
+   */
+  @Param({"false", "true"})
+  public boolean queued;
+
+  @Benchmark
+  public int graph() throws ExecutionException, InterruptedException {
+    QueueExecutor queue = new QueueExecutor();
+    Provider<Executor> executor = queued ? () -> queue : MoreExecutors::directExecutor;
+    List<Producer<Integer>> layer = new ArrayList<>(width);
+    for (int i = 0; i < width; i++) {
+      layer.add(new SumProducer(executor, ImmutableList.<Producer<Integer>>of()));
+    }
+    for (int depth = 1; depth < layers; depth++) {
+      List<Producer<Integer>> next = new ArrayList<>(width);
+      for (int i = 0; i < width; i++) {
+        next.add(
+            new SumProducer(
+                executor,
+                ImmutableList.of(
+                    Producers.nonCancellationPropagatingViewOf(layer.get(i)),
+                    Producers.nonCancellationPropagatingViewOf(layer.get((i + 1) % width)))));
+      }
+      layer = next;
+    }
+    SetProducer.Builder<Integer> set = SetProducer.builder(width, 0);
+    MapProducer.Builder<Integer, Integer> map = MapProducer.builder(width);
+    for (int i = 0; i < width; i++) {
+      set.addProducer(layer.get(i));
+      map.put(i, layer.get(i));
+    }
+    ListenableFuture<Set<Integer>> setValue = set.build().get();
+    ListenableFuture<Map<Integer, Integer>> mapValue = map.build().get();
+    queue.runAll();
+    return setValue.get().size() + mapValue.get().size();
+  }
+
+  /** A {@code @Produces} method that sums its inputs, or returns {@code 1} if it has none. */
+  private static final class SumProducer
+      extends AbstractProducesMethodProducer<List<Integer>, Integer> {
+    private final ImmutableList<Producer<Integer>> inputs;
+
+    SumProducer(Provider<Executor> executor, ImmutableList<Producer<Integer>> inputs) {
+      super(MONITOR, null, executor);
+      this.inputs = inputs;
+    }
+
+    @Override
+    protected ListenableFuture<List<Integer>> collectDependencies() {
+      switch (inputs.size()) {
+        case 0:
+          return Futures.<List<Integer>>immediateFuture(ImmutableList.of(1));
+        case 2:
+          return Futures.<Integer>allAsList(inputs.get(0).get(), inputs.get(1).get());
+        default:
+          throw new AssertionError(inputs);
+      }
+    }
+
+    @Override
+    protected ListenableFuture<Integer> callProducesMethod(List<Integer> values) {
+      int sum = 0;
+      for (int value : values) {
+        sum += value;
+      }
+      return Futures.immediateFuture(sum);
+    }
+  }
+
+  /** An executor that queues tasks until {@link #runAll()} is called. */
+  private static final class QueueExecutor implements Executor {
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import javax.inject.Scope;
+
+/**
+ * A scope that indicates that the object returned by a binding is reused by each thread that
+ * requests it, but is never shared between threads.
+ *
+ * <p>{@code @ThreadScoped} is useful for objects that are expensive to create but are not safe to
+ * use from several threads at once, e.g. a {@code MessageDigest} or a {@code SimpleDateFormat}.
+ * Like {@link Reusable @Reusable}, it can be used on bindings in any component without declaring
+ * it on the component. Each component instance keeps its own instance for each thread.
+ *
+ * <p>Each virtual thread gets its own instance, regardless of the carrier thread it runs on.
+ *
+ * <p>A thread's instance is retained for the life of the thread, even after the component that
+ * created it is no longer used. Avoid this scope for large objects requested from long-lived
+ * threads, such as those of a thread pool, by components that are created often.
+ *
+ * @since 2.58
+ */
+@Documented
+@Beta
+@Retention(RUNTIME)
+@Scope
+public @interface ThreadScoped {}
@@ -27,7 +27,7 @@ import org.jspecify.annotations.Nullable;
  * delegate using the double-check idiom described in Item 71 of <i>Effective Java 2</i>.
  */
 public final class DoubleCheck<T extends @Nullable Object> implements Provider<T>, Lazy<T> {
-  private static final Object UNINITIALIZED = new Object();
+  static final Object UNINITIALIZED = new Object();
 
   private volatile @Nullable Provider<T> provider;
   private volatile @Nullable Object instance = UNINITIALIZED;
@@ -65,7 +65,7 @@ public final class DoubleCheck<T extends @Nullable Object> implements Provider<T
    * new instance is the same as the current instance, return the instance. However, if the new
    * instance differs from the current instance, an {@link IllegalStateException} is thrown.
    */
-  private static @Nullable Object reentrantCheck(
+  static @Nullable Object reentrantCheck(
       @Nullable Object currentInstance, @Nullable Object newInstance) {
     boolean isReentrant = currentInstance != UNINITIALIZED;
     if (isReentrant && currentInstance != newInstance) {
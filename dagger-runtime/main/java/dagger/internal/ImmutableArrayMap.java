@@ -0,0 +1,231 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable {@link Map} with non-null keys that iterates in insertion order, backed by parallel
+ * arrays of keys and values.
+ *
+ * <p>Small maps keep their keys in insertion order and look them up with a linear scan. Larger maps
+ * are open-addressing tables: each key and its value are stored at the slot the key hashes to, so a
+ * lookup reads the value from the position where it found the key, and the slots are separately
+ * recorded in insertion order for iteration. The keys and their positions never change for a given
+ * map binding, so maps created with {@link #withValues(Object[])} share them and only allocate a new
+ * array of values.
+ */
+final class ImmutableArrayMap<K, V> extends AbstractMap<K, V> {
+  /** The largest map whose keys are looked up without a hash table. */
+  static final int MAX_LINEAR_SCAN_SIZE = 8;
+
+  /** Returns an immutable copy of {@code map}, which must not contain {@code null} keys. */
+  static <K, V> ImmutableArrayMap<K, V> copyOf(Map<K, V> map) {
+    int size = map.size();
+    if (size <= MAX_LINEAR_SCAN_SIZE) {
+      Object[] keys = new Object[size];
+      int[] hashCodes = new int[size];
+      Object[] values = new Object[size];
+      int i = 0;
+      for (Map.Entry<K, V> entry : map.entrySet()) {
+        keys[i] = entry.getKey();
+        hashCodes[i] = keys[i].hashCode();
+        values[i] = entry.getValue();
+        i++;
+      }
+      return new ImmutableArrayMap<>(keys, hashCodes, null, values);
+    }
+    // Keep the load factor at or below 0.5 so that probe sequences stay short.
+    int tableSize = Integer.highestOneBit(size - 1) << 2;
+    int mask = tableSize - 1;
+    Object[] keys = new Object[tableSize];
+    int[] hashCodes = new int[tableSize];
+    Object[] values = new Object[tableSize];
+    int[] slots = new int[size];
+    int i = 0;
+    for (Map.Entry<K, V> entry : map.entrySet()) {
+      Object key = entry.getKey();
+      int hashCode = key.hashCode();
+      int slot = smear(hashCode) & mask;
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      hashCodes[slot] = hashCode;
+      values[slot] = entry.getValue();
+      slots[i++] = slot;
+    }
+    return new ImmutableArrayMap<>(keys, hashCodes, slots, values);
+  }
+
+  /**
+   * Mixes every bit of {@code hashCode} into the low bits used to pick a slot, so that keys with
+   * similar hash codes, such as generated class names, don't cluster.
+   */
+  private static int smear(int hashCode) {
+    return 0x1b873593 * Integer.rotateLeft(hashCode * 0xcc9e2d51, 15);
+  }
+
+  // The keys, hash codes and values are indexed by position: the index in insertion order for
+  // small maps, or the key's slot for larger maps. Empty slots hold null keys.
+  private final Object[] keys;
+  // The hash code of each key, compared before calling equals() to rule out most mismatches.
+  private final int[] hashCodes;
+  // The slot of each key in insertion order, or null if positions are already in insertion order.
+  private final int @Nullable [] slots;
+  private final Object[] values;
+  private @Nullable Set<Map.Entry<K, V>> entrySet;
+
+  private ImmutableArrayMap(
+      Object[] keys, int[] hashCodes, int @Nullable [] slots, Object[] values) {
+    this.keys = keys;
+    this.hashCodes = hashCodes;
+    this.slots = slots;
+    this.values = values;
+  }
+
+  /** Returns a new array with room for a value at each position of this map. */
+  Object[] newValues() {
+    return new Object[keys.length];
+  }
+
+  /** Returns the position of the entry at {@code index} in iteration order. */
+  int positionAt(int index) {
+    int[] slots = this.slots;
+    return slots == null ? index : slots[index];
+  }
+
+  /**
+   * Returns a map with the same keys as this one, where each key is mapped to the element of {@code
+   * values} at the key's position. {@code values} must have been created with {@link #newValues()},
+   * and ownership of it is transferred to the returned map.
+   */
+  <V2> ImmutableArrayMap<K, V2> withValues(Object[] values) {
+    assert values.length == keys.length;
+    return new ImmutableArrayMap<>(keys, hashCodes, slots, values);
+  }
+
+  /** Returns the value at {@code position}. */
+  @SuppressWarnings("unchecked") // values only ever holds instances of V
+  V valueAt(int position) {
+    return (V) values[position];
+  }
+
+  private int positionOf(@Nullable Object key) {
+    if (key == null) {
+      return -1;
+    }
+    int hashCode = key.hashCode();
+    Object[] keys = this.keys;
+    if (slots == null) {
+      for (int i = 0; i < keys.length; i++) {
+        if (hashCodes[i] == hashCode) {
+          Object candidate = keys[i];
+          if (candidate == key || candidate.equals(key)) {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+    int mask = keys.length - 1;
+    for (int slot = smear(hashCode) & mask; ; slot = (slot + 1) & mask) {
+      Object candidate = keys[slot];
+      // Check identity first: @LazyClassKey lookups pass the same String instance that was put in.
+      if (candidate == key) {
+        return slot;
+      }
+      if (candidate == null) {
+        return -1;
+      }
+      if (hashCodes[slot] == hashCode && candidate.equals(key)) {
+        return slot;
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    int[] slots = this.slots;
+    return slots == null ? keys.length : slots.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return positionOf(key) >= 0;
+  }
+
+  @Override
+  public @Nullable V get(@Nullable Object key) {
+    int position = positionOf(key);
+    return position < 0 ? null : valueAt(position);
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    Set<Map.Entry<K, V>> result = entrySet;
+    if (result == null) {
+      result = entrySet = new EntrySet();
+    }
+    return result;
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+    @Override
+    public int size() {
+      return ImmutableArrayMap.this.size();
+    }
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new Iterator<Map.Entry<K, V>>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < size();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked") // keys only ever holds instances of K
+        public Map.Entry<K, V> next() {
+          if (index >= size()) {
+            throw new NoSuchElementException();
+          }
+          int position = positionAt(index++);
+          return new SimpleImmutableEntry<>((K) keys[position], valueAt(position));
+        }
+
+        @Override
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+  }
+}
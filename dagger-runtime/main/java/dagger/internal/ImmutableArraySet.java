@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.DaggerCollections.newHashSetWithExpectedSize;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable {@link Set} backed by an array of distinct, non-null elements that iterates in
+ * insertion order.
+ *
+ * <p>Lookups are a linear scan, which for the handful of elements in a typical multibound set is
+ * cheaper than hashing and avoids the table and per-entry nodes that back a {@link
+ * java.util.HashSet}. Larger sets fall back to a hash-based implementation; see {@link
+ * #create(Object[], int)}.
+ */
+final class ImmutableArraySet<E> extends AbstractSet<E> {
+  /** The largest set that is backed by an array rather than a hash table. */
+  static final int MAX_SIZE = 8;
+
+  /**
+   * Returns an immutable set of the first {@code size} elements of {@code elements}, which must
+   * all be non-null. Ownership of the array is transferred to this method: it may be compacted in
+   * place and retained by the returned set, so callers must not read or write it afterwards.
+   */
+  @SuppressWarnings("unchecked") // elements only ever holds instances of E
+  static <E> Set<E> create(Object[] elements, int size) {
+    switch (size) {
+      case 0:
+        return Collections.emptySet();
+      case 1:
+        return Collections.singleton((E) elements[0]);
+      default:
+        if (size > MAX_SIZE) {
+          Set<E> set = newHashSetWithExpectedSize(size);
+          for (int i = 0; i < size; i++) {
+            set.add((E) elements[i]);
+          }
+          return unmodifiableSet(set);
+        }
+        int distinct = 1;
+        outer:
+        for (int i = 1; i < size; i++) {
+          Object element = elements[i];
+          for (int j = 0; j < distinct; j++) {
+            if (elements[j].equals(element)) {
+              continue outer;
+            }
+          }
+          elements[distinct++] = element;
+        }
+        return distinct == 1
+            ? Collections.singleton((E) elements[0])
+            : new ImmutableArraySet<E>(elements, distinct);
+    }
+  }
+
+  private final Object[] elements;
+  private final int size;
+
+  private ImmutableArraySet(Object[] elements, int size) {
+    this.elements = elements;
+    this.size = size;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (o == null) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (elements[i].equals(o)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    return new Iterator<E>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked") // elements only ever holds instances of E
+      public E next() {
+        if (index >= size) {
+          throw new NoSuchElementException();
+        }
+        return (E) elements[index++];
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  @Override
+  public Object[] toArray() {
+    return Arrays.copyOf(elements, size, Object[].class);
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = 0;
+    for (int i = 0; i < size; i++) {
+      hashCode += elements[i].hashCode();
+    }
+    return hashCode;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import java.util.concurrent.CountDownLatch;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Marks a scoped value that is being created by {@link #owner}. Other threads wait on the marker
+ * with {@link #awaitUninterruptibly()} instead of holding a monitor, so virtual threads are not
+ * pinned.
+ */
+@GwtIncompatible
+final class InitializationInProgress {
+  final @Nullable Thread owner;
+  private final CountDownLatch done = new CountDownLatch(1);
+
+  InitializationInProgress(@Nullable Thread owner) {
+    this.owner = owner;
+  }
+
+  void release() {
+    done.countDown();
+  }
+
+  void awaitUninterruptibly() {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          done.await();
+          return;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
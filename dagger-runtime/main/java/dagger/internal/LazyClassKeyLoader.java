@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+/**
+ * Loads the key classes of {@link LazyClassKeyMap}s.
+ *
+ * <p>GWT can't load classes by name, so the GWT module replaces this class with a super-source
+ * version whose {@link #loadClass} throws.
+ */
+final class LazyClassKeyLoader {
+  /**
+   * Returns the class named {@code name}, loaded with the class loader that loaded Dagger, falling
+   * back to the thread's context class loader.
+   *
+   * @throws TypeNotPresentException if neither class loader can load the class
+   */
+  static Class<?> loadClass(String name) {
+    try {
+      return Class.forName(name, false, LazyClassKeyLoader.class.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+      if (contextClassLoader != null) {
+        try {
+          return Class.forName(name, false, contextClassLoader);
+        } catch (ClassNotFoundException suppressed) {
+          e.addSuppressed(suppressed);
+        }
+      }
+      throw new TypeNotPresentException(name, e);
+    }
+  }
+
+  private LazyClassKeyLoader() {}
+}
@@ -16,7 +16,9 @@
 
 package dagger.internal;
 
+import java.util.AbstractSet;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import org.jspecify.annotations.NonNull;
@@ -26,16 +28,26 @@ import org.jspecify.annotations.Nullable;
  * A class keyed map that delegates to a string keyed map under the hood.
  *
  * <p>A {@code LazyClassKeyMap} is created for @LazyClassKey contributed map binding.
+ *
+ * <p>{@link #keySet()} and {@link #entrySet()} load key classes lazily: each one is loaded the first
+ * time iteration reaches it (or, for entries, when {@link Map.Entry#getKey()} is called), and then
+ * cached. Classes are loaded by {@code LazyClassKeyLoader}, which GWT replaces with a version that
+ * can't load them.
  */
 public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
   private final Map<String, V> delegate;
+  // The classes of the keys loaded so far, in the delegate's iteration order. This may be shared
+  // with other maps whose delegates have the same keys in the same order. Racy writes are fine:
+  // every thread that loads a key gets the same Class instance.
+  private @Nullable Class<?> @Nullable [] keyClasses;
 
   public static <V> Map<Class<?>, V> of(Map<String, V> delegate) {
-    return new LazyClassKeyMap<>(delegate);
+    return new LazyClassKeyMap<>(delegate, null);
   }
 
-  private LazyClassKeyMap(Map<String, V> delegate) {
+  private LazyClassKeyMap(Map<String, V> delegate, @Nullable Class<?> @Nullable [] keyClasses) {
     this.delegate = delegate;
+    this.keyClasses = keyClasses;
   }
 
   @Override
@@ -48,11 +60,40 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
   @Override
   public Set<Class<?>> keySet() {
-    // This method will load all class keys, therefore no need to use @LazyClassKey annotated
-    // bindings.
-    throw new UnsupportedOperationException(
-        "Maps created with @LazyClassKey do not support usage of keySet(). Consider @ClassKey"
-            + " instead.");
+    return new AbstractSet<Class<?>>() {
+      @Override
+      public int size() {
+        return delegate.size();
+      }
+
+      @Override
+      public boolean contains(@Nullable Object o) {
+        return o instanceof Class && delegate.containsKey(((Class<?>) o).getName());
+      }
+
+      @Override
+      public Iterator<Class<?>> iterator() {
+        final Iterator<String> names = delegate.keySet().iterator();
+        return new Iterator<Class<?>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return names.hasNext();
+          }
+
+          @Override
+          public Class<?> next() {
+            return keyClass(index++, names.next());
+          }
+
+          @Override
+          public void remove() {
+            throw new UnsupportedOperationException("Dagger map bindings are immutable");
+          }
+        };
+      }
+    };
   }
 
   @Override
@@ -85,11 +126,114 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
   @Override
   public Set<Map.Entry<Class<?>, V>> entrySet() {
-    // This method will load all class keys, therefore no need to use @LazyClassKey annotated
-    // bindings.
-    throw new UnsupportedOperationException(
-        "Maps created with @LazyClassKey do not support usage of entrySet(). Consider @ClassKey"
-            + " instead.");
+    return new AbstractSet<Map.Entry<Class<?>, V>>() {
+      @Override
+      public int size() {
+        return delegate.size();
+      }
+
+      @Override
+      public boolean contains(@Nullable Object o) {
+        if (!(o instanceof Map.Entry)) {
+          return false;
+        }
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+        Object key = entry.getKey();
+        if (!(key instanceof Class)) {
+          return false;
+        }
+        String name = ((Class<?>) key).getName();
+        V value = delegate.get(name);
+        return value == null
+            ? entry.getValue() == null && delegate.containsKey(name)
+            : value.equals(entry.getValue());
+      }
+
+      @Override
+      public Iterator<Map.Entry<Class<?>, V>> iterator() {
+        final Iterator<Map.Entry<String, V>> entries = delegate.entrySet().iterator();
+        return new Iterator<Map.Entry<Class<?>, V>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return entries.hasNext();
+          }
+
+          @Override
+          public Map.Entry<Class<?>, V> next() {
+            return new LazyEntry(index++, entries.next());
+          }
+
+          @Override
+          public void remove() {
+            throw new UnsupportedOperationException("Dagger map bindings are immutable");
+          }
+        };
+      }
+    };
+  }
+
+  /** Returns the class named {@code name}, the key at {@code index} in iteration order. */
+  private Class<?> keyClass(int index, String name) {
+    Class<?>[] keyClasses = this.keyClasses;
+    if (keyClasses == null) {
+      keyClasses = new Class<?>[delegate.size()];
+      this.keyClasses = keyClasses;
+    }
+    Class<?> keyClass = keyClasses[index];
+    if (keyClass == null) {
+      keyClass = LazyClassKeyLoader.loadClass(name);
+      keyClasses[index] = keyClass;
+    }
+    return keyClass;
+  }
+
+  /** An entry whose key class is only loaded when it is requested. */
+  private final class LazyEntry implements Map.Entry<Class<?>, V> {
+    private final int index;
+    private final Map.Entry<String, V> delegateEntry;
+
+    LazyEntry(int index, Map.Entry<String, V> delegateEntry) {
+      this.index = index;
+      this.delegateEntry = delegateEntry;
+    }
+
+    @Override
+    public Class<?> getKey() {
+      return keyClass(index, delegateEntry.getKey());
+    }
+
+    @Override
+    public V getValue() {
+      return delegateEntry.getValue();
+    }
+
+    @Override
+    public V setValue(V value) {
+      throw new UnsupportedOperationException("Dagger map bindings are immutable");
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+      return that.getKey() instanceof Class
+          && ((Class<?>) that.getKey()).getName().equals(delegateEntry.getKey())
+          && (getValue() == null ? that.getValue() == null : getValue().equals(that.getValue()));
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+    }
+
+    @Override
+    public String toString() {
+      return delegateEntry.getKey() + "=" + getValue();
+    }
   }
 
   // The dagger map binding should be a immutable map.
@@ -113,9 +257,14 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
     throw new UnsupportedOperationException("Dagger map bindings are immutable");
   }
 
-  /** Wrapper around {@link MapFactory}. */
+  /**
+   * Wrapper around {@link MapFactory}.
+   *
+   * <p>Every map it returns has the same keys, so they share one cache of loaded key classes.
+   */
   public static class MapFactory<V> implements Factory<Map<Class<?>, V>> {
     Factory<Map<String, V>> delegate;
+    private @Nullable Class<?> @Nullable [] keyClasses;
 
     public static <V> MapFactory<V> of(Factory<Map<String, V>> delegate) {
       return new MapFactory<V>(delegate);
@@ -127,13 +276,30 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
     @Override
     public Map<Class<?>, V> get() {
-      return LazyClassKeyMap.of(delegate.get());
+      Map<String, V> map = delegate.get();
+      Class<?>[] keyClasses = this.keyClasses;
+      if (keyClasses == null) {
+        keyClasses = new Class<?>[map.size()];
+        this.keyClasses = keyClasses;
+      }
+      return new LazyClassKeyMap<>(map, keyClasses);
     }
   }
 
-  /** Wrapper around for {@link MapProviderFactory}. */
+  /**
+   * Wrapper around for {@link MapProviderFactory}.
+   *
+   * <p>The providers in the delegate map are fixed once the component is built, so the wrapped
+   * map is created on the first call to {@link #get()} and returned from every call after that.
+   */
   public static class MapProviderFactory<V> implements Factory<Map<Class<?>, Provider<V>>> {
     Factory<Map<String, Provider<V>>> delegate;
+    // A racy single check is enough. The wrapper's delegate is final, so every thread that reads
+    // the wrapper sees its delegate. Its keyClasses cache is not final and is filled in lazily, so
+    // another thread may see it as null or see some of its elements as null. That thread then loads
+    // those classes itself. Class loading gives every thread the same Class instance, so these races
+    // only repeat work and never expose a different key. Any duplicate wrappers are equivalent.
+    private @Nullable Map<Class<?>, Provider<V>> map;
 
     public static <V> MapProviderFactory<V> of(Factory<Map<String, Provider<V>>> delegate) {
       return new MapProviderFactory<V>(delegate);
@@ -145,7 +311,12 @@ public final class LazyClassKeyMap<V> implements Map<Class<?>, V> {
 
     @Override
     public Map<Class<?>, Provider<V>> get() {
-      return LazyClassKeyMap.of(delegate.get());
+      Map<Class<?>, Provider<V>> result = map;
+      if (result == null) {
+        result = LazyClassKeyMap.of(delegate.get());
+        map = result;
+      }
+      return result;
     }
   }
 }
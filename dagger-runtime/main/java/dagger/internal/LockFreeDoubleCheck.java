@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.Lazy;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Lazy} and {@link Provider} implementation that memoizes the value returned from a
+ * delegate without holding a monitor while the delegate is called.
+ *
+ * <p>The first thread to call {@link #get()} installs a per-instance in-progress marker with a
+ * compare-and-set and then calls the delegate. Other threads block on the marker (without holding a
+ * monitor, so virtual threads are not pinned) until the value is published, or until the delegate
+ * fails, in which case they race to initialize again. Recursive calls from the thread that owns the
+ * marker call the delegate again, with the same reentrancy check as {@link DoubleCheck}.
+ *
+ * <p>This is used in place of {@link DoubleCheck} for scoped bindings when the {@code
+ * dagger.useLockFreeDoubleCheck} compiler option is enabled.
+ */
+@GwtIncompatible
+public final class LockFreeDoubleCheck<T extends @Nullable Object> implements Provider<T>, Lazy<T> {
+  private static final InitializationInProgress UNINITIALIZED = new InitializationInProgress(null);
+
+  @SuppressWarnings("rawtypes") // field updaters can't be created for a parameterized class
+  private static final AtomicReferenceFieldUpdater<LockFreeDoubleCheck, Object> INSTANCE_UPDATER =
+      AtomicReferenceFieldUpdater.newUpdater(LockFreeDoubleCheck.class, Object.class, "instance");
+
+  private volatile @Nullable Provider<T> provider;
+  private volatile @Nullable Object instance = UNINITIALIZED;
+
+  private LockFreeDoubleCheck(Provider<T> provider) {
+    assert provider != null;
+    this.provider = provider;
+  }
+
+  @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+  @Override
+  public T get() {
+    @Nullable Object result = instance;
+    if (result instanceof InitializationInProgress) {
+      result = getSlowPath();
+    }
+    return (T) result;
+  }
+
+  private @Nullable Object getSlowPath() {
+    while (true) {
+      @Nullable Object current = instance;
+      if (!(current instanceof InitializationInProgress)) {
+        return current;
+      }
+      InitializationInProgress inProgress = (InitializationInProgress) current;
+      if (inProgress == UNINITIALIZED) {
+        InitializationInProgress marker = new InitializationInProgress(Thread.currentThread());
+        if (INSTANCE_UPDATER.compareAndSet(this, UNINITIALIZED, marker)) {
+          return initialize(marker);
+        }
+      } else if (inProgress.owner == Thread.currentThread()) {
+        return getReentrant(inProgress);
+      } else {
+        inProgress.awaitUninterruptibly();
+      }
+    }
+  }
+
+  @SuppressWarnings("nullness:dereference.of.nullable") // provider is non-null
+  private @Nullable Object initialize(InitializationInProgress marker) {
+    try {
+      @Nullable Object result = publish(marker, provider.get());
+      /* Null out the reference to the provider. We are never going to need it again, so we
+       * can make it eligible for GC. */
+      provider = null;
+      return result;
+    } finally {
+      // If the delegate threw, reset the state so that the next call tries again.
+      INSTANCE_UPDATER.compareAndSet(this, marker, UNINITIALIZED);
+      marker.release();
+    }
+  }
+
+  /** Handles a recursive call to {@link #get()} from within the delegate provider. */
+  @SuppressWarnings("nullness:dereference.of.nullable") // provider is non-null
+  private @Nullable Object getReentrant(InitializationInProgress marker) {
+    return publish(marker, provider.get());
+  }
+
+  /**
+   * Publishes {@code result} if the instance is still {@code marker}. Otherwise a recursive call
+   * already published a value, and {@code result} must be that same value.
+   */
+  private @Nullable Object publish(InitializationInProgress marker, @Nullable Object result) {
+    if (INSTANCE_UPDATER.compareAndSet(this, marker, result)) {
+      return result;
+    }
+    return DoubleCheck.reentrantCheck(instance, result);
+  }
+
+  /** Returns a {@link Provider} that caches the value from the given delegate provider. */
+  public static <T extends @Nullable Object> Provider<T> provider(Provider<T> delegate) {
+    checkNotNull(delegate);
+    if (delegate instanceof LockFreeDoubleCheck
+        || delegate instanceof ReentrantLockDoubleCheck
+        || delegate instanceof DoubleCheck) {
+      /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
+       * binding, we shouldn't cache the value again. */
+      return delegate;
+    }
+    return new LockFreeDoubleCheck<T>(delegate);
+  }
+}
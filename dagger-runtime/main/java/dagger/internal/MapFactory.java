@@ -16,13 +16,10 @@
 
 package dagger.internal;
 
-import static dagger.internal.DaggerCollections.newLinkedHashMapWithExpectedSize;
 import static dagger.internal.Providers.asDaggerProvider;
-import static java.util.Collections.unmodifiableMap;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * A {@link Factory} implementation used to implement {@link Map} bindings. This factory returns a
@@ -53,11 +50,13 @@ public final class MapFactory<K, V> extends AbstractMapFactory<K, V, V> {
    */
   @Override
   public Map<K, V> get() {
-    Map<K, V> result = newLinkedHashMapWithExpectedSize(contributingMap().size());
-    for (Entry<K, Provider<V>> entry : contributingMap().entrySet()) {
-      result.put(entry.getKey(), entry.getValue().get());
+    ImmutableArrayMap<K, Provider<V>> providers = contributingMap();
+    Object[] values = providers.newValues();
+    for (int i = 0; i < providers.size(); i++) {
+      int position = providers.positionAt(i);
+      values[position] = providers.valueAt(position).get();
     }
-    return unmodifiableMap(result);
+    return providers.withValues(values);
   }
 
   /** A builder for {@link MapFactory}. */
@@ -42,6 +42,9 @@ public final class MapProviderFactory<K, V> extends AbstractMapFactory<K, V, Pro
   /**
    * Returns a {@code Map<K, Provider<V>>} whose iteration order is that of the elements given by
    * each of the providers, which are invoked in the order given at creation.
+   *
+   * <p>The map is immutable and built once, when this factory is created, so every call returns
+   * the same instance.
    */
   @Override
   public Map<K, Provider<V>> get() {
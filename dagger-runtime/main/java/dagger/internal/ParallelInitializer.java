@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Creates the scoped instances of a component concurrently, for components compiled with {@code
+ * -Adagger.parallelSingletonInitialization=enabled}.
+ */
+@GwtIncompatible
+public final class ParallelInitializer {
+  /**
+   * Calls {@link Provider#get()} on each of {@code providers} using {@code executor}. Each provider
+   * is only called after the providers at the indices in the corresponding element of {@code
+   * dependencies} have returned, so independent instances are created concurrently while dependent
+   * ones wait for their dependencies instead of blocking in {@link DoubleCheck}.
+   *
+   * <p>Dependencies must refer to lower indices; that is, {@code providers} must be in topological
+   * order.
+   *
+   * @return a future that completes once every provider has returned or been skipped. It completes
+   *     exceptionally if any provider throws; providers that depend on a failed one are skipped.
+   */
+  public static CompletableFuture<Void> initialize(
+      Executor executor, Provider<?>[] providers, int[][] dependencies) {
+    checkNotNull(executor);
+    CompletableFuture<?>[] futures = new CompletableFuture<?>[providers.length];
+    for (int i = 0; i < providers.length; i++) {
+      Provider<?> provider = providers[i];
+      Runnable task = provider::get;
+      int[] indices = dependencies[i];
+      if (indices.length == 0) {
+        futures[i] = CompletableFuture.runAsync(task, executor);
+      } else {
+        CompletableFuture<?>[] inputs = new CompletableFuture<?>[indices.length];
+        for (int j = 0; j < indices.length; j++) {
+          inputs[j] = futures[indices[j]];
+        }
+        futures[i] = CompletableFuture.allOf(inputs).thenRunAsync(task, executor);
+      }
+    }
+    return CompletableFuture.allOf(futures);
+  }
+
+  private ParallelInitializer() {}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Provider} that reuses the instances released to it before asking its delegate for a
+ * new one.
+ *
+ * <p>Each thread keeps one released instance in a thread-local slot, so a thread that releases an
+ * instance and then asks for another gets it back without contention. Other released instances go
+ * to {@code maxSize} shared slots that any thread can take from, and instances released when the
+ * shared slots are full are dropped. A thread's slot is not counted against {@code maxSize}, so
+ * that it does not leak capacity when the thread ends.
+ *
+ * <p>This is used for bindings annotated with {@code dagger.pooling.Pooled}. Instances are
+ * released with {@code dagger.pooling.Releaser}.
+ */
+@GwtIncompatible
+public final class PooledProvider<T> implements Provider<T> {
+  private final Provider<T> delegate;
+  private final int maxSize;
+  private final ThreadLocal<@Nullable T> lastReleased = new ThreadLocal<>();
+  private final AtomicReferenceArray<@Nullable T> shared;
+  private final AtomicInteger idle = new AtomicInteger();
+
+  private PooledProvider(Provider<T> delegate, int maxSize) {
+    this.delegate = delegate;
+    this.maxSize = maxSize;
+    this.shared = new AtomicReferenceArray<>(maxSize);
+  }
+
+  @Override
+  public T get() {
+    T instance = lastReleased.get();
+    if (instance != null) {
+      lastReleased.set(null);
+      return instance;
+    }
+    if (idle.get() > 0) {
+      for (int i = 0; i < maxSize; i++) {
+        instance = shared.getAndSet(i, null);
+        if (instance != null) {
+          idle.decrementAndGet();
+          return instance;
+        }
+      }
+    }
+    return delegate.get();
+  }
+
+  /**
+   * Returns {@code instance} to the pool so that a later call to {@link #get()} can reuse it, or
+   * drops it if the calling thread's slot and the shared slots are full.
+   *
+   * <p>The instance must not be used after it is released, and must not be released again until
+   * it is returned by {@link #get()}; otherwise two callers could later get the same instance.
+   *
+   * @throws IllegalStateException if {@code instance} is idle in the calling thread's slot or in
+   *     the shared slots. An instance idle in another thread's slot is not detected.
+   */
+  public void release(T instance) {
+    checkNotNull(instance, "Cannot release a null instance");
+    T last = lastReleased.get();
+    if (last == instance || isShared(instance)) {
+      throw new IllegalStateException("Instance was released twice: " + instance);
+    }
+    if (last == null) {
+      lastReleased.set(instance);
+      return;
+    }
+    if (idle.incrementAndGet() > maxSize) {
+      idle.decrementAndGet();
+      return;
+    }
+    for (int i = 0; i < maxSize; i++) {
+      if (shared.compareAndSet(i, null, instance)) {
+        return;
+      }
+    }
+    // Every slot was briefly taken by instances counted before this one; drop it instead.
+    idle.decrementAndGet();
+  }
+
+  private boolean isShared(T instance) {
+    if (idle.get() > 0) {
+      for (int i = 0; i < maxSize; i++) {
+        if (shared.get(i) == instance) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a {@link Provider} that keeps up to {@code maxSize} released instances of {@code
+   * delegate} for reuse.
+   */
+  public static <T> PooledProvider<T> provider(Provider<T> delegate, int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    return new PooledProvider<T>(checkNotNull(delegate), maxSize);
+  }
+}
@@ -20,17 +20,25 @@ import static dagger.internal.Preconditions.checkNotNull;
 import static dagger.internal.Providers.asDaggerProvider;
 
 import dagger.Lazy;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A {@link Provider} of {@link Lazy} instances that each delegate to a given {@link Provider}.
+ *
+ * <p>If the given provider is already a {@link Lazy}, as scoped providers and {@link
+ * InstanceFactory} are, the same {@link Lazy} is returned for every call to {@link #get()}.
  */
-public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
+public final class ProviderOfLazy<T extends @Nullable Object> implements Provider<Lazy<T>> {
 
-  private final Provider<T> provider;
+  /**
+   * The initial state of every {@link Lazy} returned by this provider. The class is private, so no
+   * provided value can ever be mistaken for it.
+   */
+  private final Uninitialized<T> uninitialized;
 
   private ProviderOfLazy(Provider<T> provider) {
     assert provider != null;
-    this.provider = provider;
+    this.uninitialized = new Uninitialized<T>(provider);
   }
 
   /**
@@ -39,7 +47,7 @@ public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
    */
   @Override
   public Lazy<T> get() {
-    return DoubleCheck.lazy(provider);
+    return new MemoizingLazy<T>(uninitialized);
   }
 
   /**
@@ -48,8 +56,16 @@ public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
    *
    * @see #get()
    */
-  public static <T> Provider<Lazy<T>> create(Provider<T> provider) {
-    return new ProviderOfLazy<T>(checkNotNull(provider));
+  public static <T extends @Nullable Object> Provider<Lazy<T>> create(Provider<T> provider) {
+    checkNotNull(provider);
+    if (provider instanceof Lazy) {
+      // The provider already memoizes its value, so every Lazy would return the same instance.
+      // See the note in DoubleCheck.lazy() about providers that implement Lazy.
+      @SuppressWarnings("unchecked")
+      Lazy<T> lazy = (Lazy<T>) provider;
+      return InstanceFactory.create(lazy);
+    }
+    return new ProviderOfLazy<T>(provider);
   }
 
   /**
@@ -60,4 +76,48 @@ public final class ProviderOfLazy<T> implements Provider<Lazy<T>> {
   public static <T> Provider<Lazy<T>> create(javax.inject.Provider<T> provider) {
     return create(asDaggerProvider(provider));
   }
+
+  private static final class Uninitialized<T extends @Nullable Object> {
+    final Provider<T> provider;
+
+    Uninitialized(Provider<T> provider) {
+      this.provider = provider;
+    }
+  }
+
+  /**
+   * A {@link Lazy} that keeps a single field, which holds the shared {@link Uninitialized} state
+   * until the value has been computed and the value afterwards. Unlike {@link DoubleCheck}, it
+   * does not need its own reference to the delegate provider.
+   */
+  private static final class MemoizingLazy<T extends @Nullable Object> implements Lazy<T> {
+    private volatile @Nullable Object state;
+
+    MemoizingLazy(Uninitialized<T> uninitialized) {
+      this.state = uninitialized;
+    }
+
+    @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+    @Override
+    public T get() {
+      @Nullable Object result = state;
+      if (result instanceof Uninitialized) {
+        result = getSynchronized();
+      }
+      return (T) result;
+    }
+
+    @SuppressWarnings("unchecked") // state only ever holds an Uninitialized<T>
+    private synchronized @Nullable Object getSynchronized() {
+      @Nullable Object result = state;
+      if (result instanceof Uninitialized) {
+        result = ((Uninitialized<T>) result).provider.get();
+        @Nullable Object current = state;
+        state =
+            DoubleCheck.reentrantCheck(
+                current instanceof Uninitialized ? DoubleCheck.UNINITIALIZED : current, result);
+      }
+      return result;
+    }
+  }
 }
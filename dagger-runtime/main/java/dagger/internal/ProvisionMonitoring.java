@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.monitoring.ProvisionMonitor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reports provisions made by components compiled with {@code
+ * -Adagger.provisionMonitoring=enabled} to the {@linkplain ProvisionMonitor#installed() installed}
+ * {@link ProvisionMonitor}.
+ *
+ * <p>A monitored instance expression has the form {@code finish(key, scope, start(), instance)}.
+ * Java evaluates arguments from left to right, so {@link #start()} reads the clock before {@code
+ * instance} is created, and {@link #finish} reads it after. While no monitor is installed neither
+ * method reads the clock.
+ */
+public final class ProvisionMonitoring {
+  private static final Logger logger = Logger.getLogger(ProvisionMonitoring.class.getName());
+
+  /**
+   * The value {@link #start()} returns if no monitor is installed. {@link System#nanoTime()} can
+   * return any {@code long}, so {@link #start()} moves a reading that happens to equal this value
+   * by one nanosecond rather than reporting a monitored provision as unmonitored.
+   */
+  static final long UNMONITORED = Long.MIN_VALUE;
+
+  /** Returns the start time of a provision, or {@link #UNMONITORED} if no monitor is installed. */
+  public static long start() {
+    if (ProvisionMonitor.installed() == ProvisionMonitor.noOp()) {
+      return UNMONITORED;
+    }
+    long now = System.nanoTime();
+    return now == UNMONITORED ? now + 1 : now;
+  }
+
+  /**
+   * Reports the provision of {@code instance}, which started at {@code startNanos}, and returns
+   * {@code instance}.
+   */
+  public static <T extends @Nullable Object> T finish(
+      String key, @Nullable String scope, long startNanos, T instance) {
+    ProvisionMonitor monitor = ProvisionMonitor.installed();
+    if (startNanos != UNMONITORED && monitor != ProvisionMonitor.noOp()) {
+      report(monitor, key, scope, System.nanoTime() - startNanos);
+    }
+    return instance;
+  }
+
+  /** Returns a provider that reports each call to {@code delegate.get()}. */
+  public static <T extends @Nullable Object> Provider<T> monitor(
+      Provider<T> delegate, String key, @Nullable String scope) {
+    return new MonitoringProvider<>(checkNotNull(delegate), key, scope);
+  }
+
+  private static void report(
+      ProvisionMonitor monitor, String key, @Nullable String scope, long nanos) {
+    try {
+      monitor.provisioned(key, scope, nanos);
+    } catch (RuntimeException e) {
+      logger.log(Level.SEVERE, "RuntimeException while calling provisioned on " + monitor, e);
+    }
+  }
+
+  private static final class MonitoringProvider<T extends @Nullable Object>
+      implements Provider<T> {
+    private final Provider<T> delegate;
+    private final String key;
+    private final @Nullable String scope;
+
+    MonitoringProvider(Provider<T> delegate, String key, @Nullable String scope) {
+      this.delegate = delegate;
+      this.key = key;
+      this.scope = scope;
+    }
+
+    @Override
+    public T get() {
+      return finish(key, scope, start(), delegate.get());
+    }
+  }
+
+  private ProvisionMonitoring() {}
+}
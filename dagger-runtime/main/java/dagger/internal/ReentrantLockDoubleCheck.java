@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.DoubleCheck.UNINITIALIZED;
+import static dagger.internal.DoubleCheck.reentrantCheck;
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.Lazy;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Lazy} and {@link Provider} implementation that memoizes the value returned from a
+ * delegate using the double-check idiom, like {@link DoubleCheck}, but guards the slow path with a
+ * {@link ReentrantLock} instead of the object monitor.
+ *
+ * <p>A virtual thread that blocks on the lock while another thread runs a slow delegate unmounts
+ * from its carrier thread, whereas blocking on (or holding) a monitor pins it. This is used in place
+ * of {@link DoubleCheck} for scoped bindings when the {@code dagger.useReentrantLockDoubleCheck}
+ * compiler option is enabled.
+ */
+@GwtIncompatible
+public final class ReentrantLockDoubleCheck<T extends @Nullable Object>
+    implements Provider<T>, Lazy<T> {
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile @Nullable Provider<T> provider;
+  private volatile @Nullable Object instance = UNINITIALIZED;
+
+  private ReentrantLockDoubleCheck(Provider<T> provider) {
+    assert provider != null;
+    this.provider = provider;
+  }
+
+  @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+  @Override
+  public T get() {
+    @Nullable Object result = instance;
+    if (result == UNINITIALIZED) {
+      result = getLocked();
+    }
+    return (T) result;
+  }
+
+  @SuppressWarnings("nullness:dereference.of.nullable") // provider is non-null
+  private @Nullable Object getLocked() {
+    lock.lock();
+    try {
+      @Nullable Object result = instance;
+      if (result == UNINITIALIZED) {
+        result = provider.get();
+        instance = reentrantCheck(instance, result);
+        /* Null out the reference to the provider. We are never going to need it again, so we
+         * can make it eligible for GC. */
+        provider = null;
+      }
+      return result;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Returns a {@link Provider} that caches the value from the given delegate provider. */
+  public static <T extends @Nullable Object> Provider<T> provider(Provider<T> delegate) {
+    checkNotNull(delegate);
+    if (delegate instanceof ReentrantLockDoubleCheck
+        || delegate instanceof LockFreeDoubleCheck
+        || delegate instanceof DoubleCheck) {
+      /* This should be a rare case, but if we have a scoped @Binds that delegates to a scoped
+       * binding, we shouldn't cache the value again. */
+      return delegate;
+    }
+    return new ReentrantLockDoubleCheck<T>(delegate);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import dagger.Lazy;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The scoped instances of a component, stored in an array of slots instead of one {@link
+ * DoubleCheck} per binding.
+ *
+ * <p>Generated components subclass this with a {@link #create(int)} method that switches on the
+ * slot. Each slot is initialized the same way as {@link LockFreeDoubleCheck}: the first thread
+ * installs an in-progress marker with a compare-and-set and calls {@link #create(int)}, other
+ * threads wait for the marker without holding a monitor, and recursive calls from the owning thread
+ * create the instance again and check that the results are the same.
+ *
+ * <p>This is used for scoped bindings in fast-init mode when the {@code dagger.scopedInstanceSlots}
+ * compiler option is enabled.
+ */
+@GwtIncompatible
+public abstract class ScopedInstanceSlots {
+  /** Stored in a slot whose binding returned {@code null}, since an empty slot is {@code null}. */
+  private static final Object NULL = new Object();
+
+  private final AtomicReferenceArray<@Nullable Object> slots;
+
+  protected ScopedInstanceSlots(int size) {
+    this.slots = new AtomicReferenceArray<>(size);
+  }
+
+  /** Returns a new instance for the binding in {@code slot}. */
+  protected abstract @Nullable Object create(int slot);
+
+  /** Returns the instance in {@code slot}, creating it if necessary. */
+  public final @Nullable Object get(int slot) {
+    @Nullable Object result = slots.get(slot);
+    if (result == null || result instanceof InitializationInProgress) {
+      result = getSlowPath(slot);
+    }
+    return result == NULL ? null : result;
+  }
+
+  /** Returns a {@link Provider} and {@link Lazy} for the instance in {@code slot}. */
+  public final <T extends @Nullable Object> Provider<T> provider(int slot) {
+    return new SlotProvider<T>(this, slot);
+  }
+
+  private @Nullable Object getSlowPath(int slot) {
+    while (true) {
+      @Nullable Object current = slots.get(slot);
+      if (current == null) {
+        InitializationInProgress marker = new InitializationInProgress(Thread.currentThread());
+        if (slots.compareAndSet(slot, null, marker)) {
+          return initialize(slot, marker);
+        }
+      } else if (!(current instanceof InitializationInProgress)) {
+        return current;
+      } else {
+        InitializationInProgress inProgress = (InitializationInProgress) current;
+        if (inProgress.owner == Thread.currentThread()) {
+          // A recursive call from within create(slot).
+          return publish(slot, inProgress, create(slot));
+        }
+        inProgress.awaitUninterruptibly();
+      }
+    }
+  }
+
+  private @Nullable Object initialize(int slot, InitializationInProgress marker) {
+    try {
+      return publish(slot, marker, create(slot));
+    } finally {
+      // If create(slot) threw, empty the slot so that the next call tries again.
+      slots.compareAndSet(slot, marker, null);
+      marker.release();
+    }
+  }
+
+  /**
+   * Publishes {@code result} if the slot still holds {@code marker}. Otherwise a recursive call
+   * already published a value, and {@code result} must be that same value.
+   */
+  private @Nullable Object publish(
+      int slot, InitializationInProgress marker, @Nullable Object result) {
+    Object value = result == null ? NULL : result;
+    if (slots.compareAndSet(slot, marker, value)) {
+      return value;
+    }
+    return DoubleCheck.reentrantCheck(slots.get(slot), value);
+  }
+
+  static final class SlotProvider<T extends @Nullable Object>
+      implements Provider<T>, Lazy<T> {
+    private final ScopedInstanceSlots slots;
+    private final int slot;
+
+    SlotProvider(ScopedInstanceSlots slots, int slot) {
+      this.slots = slots;
+      this.slot = slot;
+    }
+
+    @SuppressWarnings("unchecked") // the slot holds an instance of T
+    @Override
+    public T get() {
+      return (T) slots.get(slot);
+    }
+  }
+}
@@ -20,8 +20,6 @@ import static dagger.internal.Preconditions.checkNotNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -61,12 +59,21 @@ public final class SetBuilder<T> {
   }
 
   public Set<T> build() {
-    if (contributions.isEmpty()) {
-      return Collections.emptySet();
-    } else if (contributions.size() == 1) {
-      return Collections.singleton(contributions.get(0));
-    } else {
-      return Collections.unmodifiableSet(new HashSet<>(contributions));
+    return ImmutableArraySet.create(contributions.toArray(), contributions.size());
+  }
+
+  /**
+   * Returns an immutable set of {@code elements}, for multibindings whose contributions are all
+   * individual values and so don't need a {@link SetBuilder} to accumulate them.
+   */
+  @SafeVarargs
+  public static <T> Set<T> setOf(T... elements) {
+    // Copied element by element rather than handing the varargs array to the set, so that the
+    // array never escapes this method.
+    Object[] contributions = new Object[elements.length];
+    for (int i = 0; i < elements.length; i++) {
+      contributions[i] = checkNotNull(elements[i], SET_CONTRIBUTIONS_CANNOT_BE_NULL);
     }
+    return ImmutableArraySet.create(contributions, contributions.length);
   }
 }
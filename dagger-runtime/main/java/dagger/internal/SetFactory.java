@@ -129,11 +129,14 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
    */
   @Override
   public Set<T> get() {
-    int size = individualProviders.size();
     // Profiling revealed that this method was a CPU-consuming hotspot in some applications, so
     // these loops were changed to use c-style for.  Versus enhanced for-each loops, C-style for is
     // faster for ArrayLists, at least through Java 8.
+    if (collectionProviders.isEmpty()) {
+      return getIndividualValues();
+    }
 
+    int size = individualProviders.size();
     List<Collection<T>> providedCollections =
         new ArrayList<Collection<T>>(collectionProviders.size());
     for (int i = 0, c = collectionProviders.size(); i < c; i++) {
@@ -142,6 +145,20 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
       providedCollections.add(providedCollection);
     }
 
+    if (size <= ImmutableArraySet.MAX_SIZE) {
+      Object[] providedValues = new Object[size];
+      int index = 0;
+      for (int i = 0, c = individualProviders.size(); i < c; i++) {
+        providedValues[index++] = checkNotNull(individualProviders.get(i).get());
+      }
+      for (int i = 0, c = providedCollections.size(); i < c; i++) {
+        for (T element : providedCollections.get(i)) {
+          providedValues[index++] = checkNotNull(element);
+        }
+      }
+      return ImmutableArraySet.create(providedValues, index);
+    }
+
     Set<T> providedValues = newHashSetWithExpectedSize(size);
     for (int i = 0, c = individualProviders.size(); i < c; i++) {
       providedValues.add(checkNotNull(individualProviders.get(i).get()));
@@ -154,4 +171,25 @@ public final class SetFactory<T extends @Nullable Object> implements Factory<Set
 
     return unmodifiableSet(providedValues);
   }
+
+  /**
+   * Returns the set for a factory with only individual contributions, whose size is known up front
+   * and so needs neither the intermediate list of collections nor, for small sets, a hash table.
+   */
+  private Set<T> getIndividualValues() {
+    int size = individualProviders.size();
+    if (size <= ImmutableArraySet.MAX_SIZE) {
+      Object[] providedValues = new Object[size];
+      for (int i = 0; i < size; i++) {
+        providedValues[i] = checkNotNull(individualProviders.get(i).get());
+      }
+      return ImmutableArraySet.create(providedValues, size);
+    }
+
+    Set<T> providedValues = newHashSetWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      providedValues.add(checkNotNull(individualProviders.get(i).get()));
+    }
+    return unmodifiableSet(providedValues);
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static dagger.internal.DoubleCheck.UNINITIALIZED;
+import static dagger.internal.DoubleCheck.reentrantCheck;
+import static dagger.internal.Preconditions.checkNotNull;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Provider} implementation that memoizes the value returned from a delegate once per
+ * thread.
+ *
+ * <p>Values are kept in a {@link ThreadLocal}, so a virtual thread gets its own value rather than
+ * sharing one with the other virtual threads mounted on the same carrier thread. Since that makes
+ * each virtual thread create its own value, bindings that are requested from many short-lived
+ * virtual threads gain little from this scope. A thread's value is retained for the life of the
+ * thread, even after this provider is no longer reachable, so long-lived threads such as pooled
+ * executor threads keep their values until they end.
+ *
+ * <p>This is used for bindings annotated with {@code @dagger.ThreadScoped}.
+ */
+@GwtIncompatible
+public final class ThreadLocalCheck<T extends @Nullable Object> implements Provider<T> {
+  private final Provider<T> provider;
+  private final ThreadLocal<@Nullable Object> instance =
+      ThreadLocal.withInitial(() -> UNINITIALIZED);
+
+  private ThreadLocalCheck(Provider<T> provider) {
+    this.provider = provider;
+  }
+
+  @SuppressWarnings("unchecked") // cast only happens when result comes from the provider
+  @Override
+  public T get() {
+    @Nullable Object result = instance.get();
+    if (result == UNINITIALIZED) {
+      result = provider.get();
+      instance.set(reentrantCheck(instance.get(), result));
+    }
+    return (T) result;
+  }
+
+  /**
+   * Returns a {@link Provider} that caches the value from the given delegate provider once per
+   * thread.
+   */
+  public static <T extends @Nullable Object> Provider<T> provider(Provider<T> delegate) {
+    checkNotNull(delegate);
+    // If a thread-scoped @Binds delegates to a binding that is already cached per thread or per
+    // component, don't cache the value again.
+    if (delegate instanceof ThreadLocalCheck
+        || delegate instanceof DoubleCheck
+        || delegate instanceof LockFreeDoubleCheck
+        || delegate instanceof ReentrantLockDoubleCheck
+        || delegate instanceof ScopedInstanceSlots.SlotProvider) {
+      return delegate;
+    }
+    return new ThreadLocalCheck<T>(delegate);
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import dagger.internal.Beta;
+import dagger.internal.GwtIncompatible;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link ProvisionMonitor} that aggregates the number of provisions and a latency histogram for
+ * each binding key.
+ *
+ * <p>Latencies are recorded in power-of-two buckets, so percentiles reported by {@link
+ * Statistics#percentileNanos(double)} are accurate to within a factor of two. Recording takes no
+ * locks and allocates only the first time a key is seen.
+ *
+ * @since 2.58
+ */
+@Beta
+@GwtIncompatible
+public final class AggregatingProvisionMonitor extends ProvisionMonitor {
+  /**
+   * The number of histogram buckets. Bucket {@code i > 0} counts provisions that took at least
+   * {@code 2^(i-1)} and less than {@code 2^i} nanoseconds; bucket 0 counts provisions that took no
+   * measurable time.
+   */
+  public static final int HISTOGRAM_BUCKETS = 64;
+
+  private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+  @Override
+  public void provisioned(String key, @Nullable String scope, long nanos) {
+    Recorder recorder = recorders.get(key);
+    if (recorder == null) {
+      recorder = recorders.computeIfAbsent(key, unused -> new Recorder(key, scope));
+    }
+    recorder.record(nanos);
+  }
+
+  /**
+   * Returns the statistics recorded so far, keyed by binding key and ordered from the highest to
+   * the lowest total provisioning time.
+   */
+  public Map<String, Statistics> snapshot() {
+    List<Statistics> statistics = new ArrayList<>(recorders.size());
+    for (Recorder recorder : recorders.values()) {
+      statistics.add(recorder.snapshot());
+    }
+    Collections.sort(statistics, (a, b) -> Long.compare(b.totalNanos(), a.totalNanos()));
+    Map<String, Statistics> snapshot = new LinkedHashMap<>();
+    for (Statistics binding : statistics) {
+      snapshot.put(binding.key(), binding);
+    }
+    return Collections.unmodifiableMap(snapshot);
+  }
+
+  /** Discards all statistics recorded so far. */
+  public void reset() {
+    recorders.clear();
+  }
+
+  static int bucket(long nanos) {
+    return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+  }
+
+  private static final class Recorder {
+    private final String key;
+    private final @Nullable String scope;
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+    Recorder(String key, @Nullable String scope) {
+      this.key = key;
+      this.scope = scope;
+    }
+
+    void record(long nanos) {
+      histogram.incrementAndGet(bucket(nanos));
+      totalNanos.add(nanos);
+      long max = maxNanos.get();
+      while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+        max = maxNanos.get();
+      }
+    }
+
+    Statistics snapshot() {
+      long[] counts = new long[HISTOGRAM_BUCKETS];
+      long count = 0;
+      for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+        counts[i] = histogram.get(i);
+        count += counts[i];
+      }
+      return new Statistics(key, scope, count, totalNanos.sum(), maxNanos.get(), counts);
+    }
+  }
+
+  /** The statistics recorded for a single binding key. */
+  public static final class Statistics {
+    private final String key;
+    private final @Nullable String scope;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+
+    Statistics(
+        String key,
+        @Nullable String scope,
+        long count,
+        long totalNanos,
+        long maxNanos,
+        long[] histogram) {
+      this.key = key;
+      this.scope = scope;
+      this.count = count;
+      this.totalNanos = totalNanos;
+      this.maxNanos = maxNanos;
+      this.histogram = histogram;
+    }
+
+    /** The binding key, as passed to {@link ProvisionMonitor#provisioned}. */
+    public String key() {
+      return key;
+    }
+
+    /** The scope annotation of the binding, or {@code null} if it is unscoped. */
+    public @Nullable String scope() {
+      return scope;
+    }
+
+    /** The number of provisions. */
+    public long count() {
+      return count;
+    }
+
+    /** The sum of the time taken by all provisions. */
+    public long totalNanos() {
+      return totalNanos;
+    }
+
+    /** The time taken by the slowest provision. */
+    public long maxNanos() {
+      return maxNanos;
+    }
+
+    /**
+     * Returns a copy of the latency histogram. See {@link #HISTOGRAM_BUCKETS} for the bounds of
+     * each bucket.
+     */
+    public long[] histogram() {
+      return histogram.clone();
+    }
+
+    /**
+     * Returns an upper bound for the given percentile of provision latencies, for example {@code
+     * 0.99} for the 99th percentile. The result is the upper bound of the histogram bucket that
+     * contains the percentile, capped at {@link #maxNanos()}.
+     */
+    public long percentileNanos(double percentile) {
+      if (!(percentile >= 0 && percentile <= 1)) {
+        throw new IllegalArgumentException("percentile must be in [0, 1]: " + percentile);
+      }
+      long threshold = (long) Math.ceil(percentile * count);
+      long seen = 0;
+      for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+        seen += histogram[i];
+        if (seen >= threshold && seen > 0) {
+          return i == 0 ? 0 : Math.min(maxNanos, (1L << i) - 1);
+        }
+      }
+      return 0;
+    }
+
+    @Override
+    public String toString() {
+      return key
+          + (scope == null ? "" : " " + scope)
+          + ": count="
+          + count
+          + ", totalNanos="
+          + totalNanos
+          + ", maxNanos="
+          + maxNanos;
+    }
+  }
+}
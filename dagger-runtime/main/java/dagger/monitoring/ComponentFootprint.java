@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dagger.Lazy;
+import dagger.MembersInjector;
+import dagger.internal.Beta;
+import dagger.internal.GwtIncompatible;
+import dagger.internal.ScopedInstanceSlots;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The framework objects and scoped instances that a live component retains, by binding key.
+ *
+ * <p>{@link #of(Object)} walks the fields of a component created by Dagger, of its shards and of
+ * the parent components it holds, and reports each field that holds a {@code Provider}, {@link
+ * Lazy}, {@link MembersInjector} or {@code Producer}, and each slot of the component's scoped
+ * instances. Keys are read from the {@code <GeneratedComponent>_Footprint.json} resource that the
+ * compiler writes next to the component when it is compiled with {@code
+ * -Adagger.componentFootprintReport=enabled}, which also estimates the size of these objects.
+ * Without the resource, bindings are reported by the class and name of the field instead.
+ *
+ * <p>This reads private fields of generated classes, so it is only meant for debugging and
+ * footprint analysis.
+ *
+ * @since 2.58
+ */
+@Beta
+@GwtIncompatible
+public final class ComponentFootprint {
+  private static final Pattern REPORT_BINDING =
+      Pattern.compile(
+          "\\{\"key\": \"((?:[^\"\\\\]|\\\\.)*)\", \"owner\": \"([^\"]*)\","
+              + " \"field\": \"([^\"]*)\"(?:, \"slot\": (\\d+))?");
+  private static final Pattern ESCAPE = Pattern.compile("\\\\(u[0-9a-fA-F]{4}|.)");
+
+  /** A field or scoped instance slot of a component, and the objects it retains. */
+  public static final class RetainedBinding {
+    private final String key;
+    private final List<String> frameworkClasses;
+    private final @Nullable Object instance;
+
+    RetainedBinding(String key, List<String> frameworkClasses, @Nullable Object instance) {
+      this.key = key;
+      this.frameworkClasses = Collections.unmodifiableList(frameworkClasses);
+      this.instance = instance;
+    }
+
+    /**
+     * Returns the key of the binding, or {@code Owner.field} if the component has no footprint
+     * report.
+     */
+    public String key() {
+      return key;
+    }
+
+    /**
+     * Returns the names of the classes of the framework objects retained for the binding, from
+     * the one held by the component to the one it wraps. This is empty for a scoped instance slot.
+     */
+    public List<String> frameworkClasses() {
+      return frameworkClasses;
+    }
+
+    /** Returns the scoped or bound instance retained for the binding, if it has been created. */
+    public @Nullable Object instance() {
+      return instance;
+    }
+
+    @Override
+    public String toString() {
+      return key
+          + '\t'
+          + (frameworkClasses.isEmpty() ? "-" : String.join(" -> ", frameworkClasses))
+          + '\t'
+          + (instance == null ? "-" : instance.getClass().getName());
+    }
+  }
+
+  private final List<RetainedBinding> bindings;
+
+  private ComponentFootprint(List<RetainedBinding> bindings) {
+    this.bindings = Collections.unmodifiableList(bindings);
+  }
+
+  /** Returns the objects retained by {@code component}, which must be created by Dagger. */
+  public static ComponentFootprint of(Object component) {
+    Class<?> topLevelClass = topLevelClass(component.getClass());
+    Map<String, String> keysByField = readKeysByField(topLevelClass);
+    List<RetainedBinding> bindings = new ArrayList<>();
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<Object> owners = new ArrayDeque<>();
+    owners.add(component);
+    while (!owners.isEmpty()) {
+      Object owner = owners.remove();
+      if (!visited.add(owner)) {
+        continue;
+      }
+      for (Field field : instanceFields(owner.getClass())) {
+        Object value = read(field, owner);
+        if (value == null) {
+          continue;
+        }
+        String fieldName = owner.getClass().getSimpleName() + '.' + field.getName();
+        if (isFrameworkObject(value)) {
+          bindings.add(retainedBinding(keyOf(keysByField, fieldName), value));
+        } else if (value instanceof ScopedInstanceSlots) {
+          AtomicReferenceArray<?> slots = slots((ScopedInstanceSlots) value);
+          for (int slot = 0; slot < slots.length(); slot++) {
+            String slotName = fieldName + '[' + slot + ']';
+            bindings.add(
+                new RetainedBinding(
+                    keyOf(keysByField, slotName),
+                    Collections.emptyList(),
+                    instanceOrNull(slots.get(slot))));
+          }
+        } else if (topLevelClass(value.getClass()).equals(topLevelClass)) {
+          // A shard or a parent component.
+          owners.add(value);
+        }
+      }
+    }
+    return new ComponentFootprint(bindings);
+  }
+
+  /** Returns the retained bindings, in the order the component's fields were visited. */
+  public List<RetainedBinding> bindings() {
+    return bindings;
+  }
+
+  /**
+   * Writes one line per retained binding to {@code out}, with the key, the framework classes and
+   * the class of the instance separated by tabs.
+   */
+  public void writeTo(Appendable out) throws IOException {
+    for (RetainedBinding binding : bindings) {
+      out.append(binding.toString()).append('\n');
+    }
+  }
+
+  private static RetainedBinding retainedBinding(String key, Object frameworkObject) {
+    List<String> frameworkClasses = new ArrayList<>();
+    Object instance = null;
+    Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Object current = frameworkObject;
+    while (current != null && visited.add(current)) {
+      frameworkClasses.add(current.getClass().getName());
+      Object next = null;
+      // Only look inside Dagger's own wrappers; generated factories hold their dependencies.
+      if (current.getClass().getName().startsWith("dagger.internal.")) {
+        Integer slot = null;
+        ScopedInstanceSlots slots = null;
+        for (Field field : instanceFields(current.getClass())) {
+          Object value = read(field, current);
+          if (value instanceof ScopedInstanceSlots) {
+            slots = (ScopedInstanceSlots) value;
+          } else if (value instanceof Integer && field.getName().equals("slot")) {
+            slot = (Integer) value;
+          } else if (field.getName().equals("instance")) {
+            instance = instanceOrNull(value);
+          } else if (value != null && isFrameworkObject(value)) {
+            next = value;
+          }
+        }
+        if (slots != null && slot != null) {
+          instance = instanceOrNull(slots(slots).get(slot));
+        }
+      }
+      current = next;
+    }
+    return new RetainedBinding(key, frameworkClasses, instance);
+  }
+
+  private static boolean isFrameworkObject(Object value) {
+    return value instanceof javax.inject.Provider
+        || value instanceof jakarta.inject.Provider
+        || value instanceof Lazy
+        || value instanceof MembersInjector
+        || implementsProducer(value.getClass());
+  }
+
+  private static boolean implementsProducer(Class<?> clazz) {
+    for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+      for (Class<?> implemented : type.getInterfaces()) {
+        if (implemented.getName().equals("dagger.producers.Producer")
+            || implementsProducer(implemented)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Returns {@code null} for the markers Dagger stores before an instance is created. */
+  private static @Nullable Object instanceOrNull(@Nullable Object value) {
+    if (value == null
+        || value.getClass().equals(Object.class)
+        || value.getClass().getName().equals("dagger.internal.InitializationInProgress")) {
+      return null;
+    }
+    return value;
+  }
+
+  private static AtomicReferenceArray<?> slots(ScopedInstanceSlots scopedInstanceSlots) {
+    try {
+      Field field = ScopedInstanceSlots.class.getDeclaredField("slots");
+      return (AtomicReferenceArray<?>) read(field, scopedInstanceSlots);
+    } catch (NoSuchFieldException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static List<Field> instanceFields(Class<?> clazz) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> type = clazz; type != null && type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  private static @Nullable Object read(Field field, Object owner) {
+    try {
+      field.setAccessible(true);
+      return field.get(owner);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Class<?> topLevelClass(Class<?> clazz) {
+    Class<?> topLevelClass = clazz;
+    while (topLevelClass.getEnclosingClass() != null) {
+      topLevelClass = topLevelClass.getEnclosingClass();
+    }
+    return topLevelClass;
+  }
+
+  private static String keyOf(Map<String, String> keysByField, String fieldName) {
+    String key = keysByField.get(fieldName);
+    return key == null ? fieldName : key;
+  }
+
+  /**
+   * Returns the keys in the footprint report of {@code topLevelClass} by {@code Owner.field} or
+   * {@code Owner.field[slot]}, or an empty map if there is no report.
+   */
+  private static Map<String, String> readKeysByField(Class<?> topLevelClass) {
+    Map<String, String> keysByField = new HashMap<>();
+    InputStream report =
+        topLevelClass.getResourceAsStream(topLevelClass.getSimpleName() + "_Footprint.json");
+    if (report == null) {
+      return keysByField;
+    }
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(report, UTF_8))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        Matcher matcher = REPORT_BINDING.matcher(line);
+        if (matcher.find()) {
+          String fieldName = matcher.group(2) + '.' + matcher.group(3);
+          if (matcher.group(4) != null) {
+            fieldName += '[' + matcher.group(4) + ']';
+          }
+          keysByField.put(fieldName, unescape(matcher.group(1)));
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return keysByField;
+  }
+
+  private static String unescape(String string) {
+    Matcher matcher = ESCAPE.matcher(string);
+    StringBuffer unescaped = new StringBuffer();
+    while (matcher.find()) {
+      String escape = matcher.group(1);
+      String replacement =
+          escape.length() == 5
+              ? String.valueOf((char) Integer.parseInt(escape.substring(1), 16))
+              : escape;
+      matcher.appendReplacement(unescaped, Matcher.quoteReplacement(replacement));
+    }
+    return matcher.appendTail(unescaped).toString();
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.internal.Beta;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A hook for monitoring the provisions made by generated components.
+ *
+ * <p>Components compiled with {@code -Adagger.provisionMonitoring=enabled} report every call to an
+ * {@link javax.inject.Inject @Inject} constructor or {@link dagger.Provides @Provides} method to
+ * the monitor that is {@linkplain #install installed} when the provision completes. Scoped
+ * bindings are reported once, when their instance is created. Components compiled without that
+ * option never call the installed monitor.
+ *
+ * <p>If the monitor throws, the exception is logged and the provision completes unaffected.
+ *
+ * <p>The installed monitor is process-wide: every monitored component in the process reports to
+ * it. Monitored provisions are static calls in the generated code, so that they need no binding
+ * and a provision costs a single volatile read while no monitor is installed. To monitor
+ * components separately, run them in separate processes or class loaders.
+ *
+ * @since 2.58
+ */
+@Beta
+public abstract class ProvisionMonitor {
+  private static final ProvisionMonitor NO_OP = new ProvisionMonitor() {};
+
+  private static volatile ProvisionMonitor installed = NO_OP;
+
+  /**
+   * Called after a binding has been provisioned, on the thread that made the provision.
+   *
+   * <p>This implementation is a no-op.
+   *
+   * @param key the key of the binding, e.g. {@code @javax.inject.Named("foo") java.lang.String}
+   * @param scope the scope annotation of the binding, e.g. {@code @javax.inject.Singleton}, or
+   *     {@code null} if the binding is unscoped
+   * @param nanos the time taken by the constructor or method, including the time taken to
+   *     provision any of its dependencies that were created inline
+   */
+  public void provisioned(
+      @SuppressWarnings("unused") String key,
+      @SuppressWarnings("unused") @Nullable String scope,
+      @SuppressWarnings("unused") long nanos) {}
+
+  /**
+   * Installs {@code monitor} as the process-wide monitor, replacing the previously installed one.
+   * Install {@link #noOp()} to stop monitoring.
+   */
+  public static void install(ProvisionMonitor monitor) {
+    installed = checkNotNull(monitor, "monitor");
+  }
+
+  /** Returns the currently installed monitor, or {@link #noOp()} if none has been installed. */
+  public static ProvisionMonitor installed() {
+    return installed;
+  }
+
+  /** Returns a monitor that does no monitoring. */
+  public static ProvisionMonitor noOp() {
+    return NO_OP;
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import dagger.internal.Beta;
+import dagger.internal.GwtIncompatible;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link ProvisionMonitor} that records the keys of the bindings provisioned during startup, in
+ * the order they were first provisioned.
+ *
+ * <p>Install it before the component is created, call {@link #stop()} once startup is complete and
+ * {@linkplain #writeTo write} the result to a file. Passing that file to the compiler with {@code
+ * -Adagger.startupProfile=<path>} groups the code for these bindings together. Only components
+ * compiled with {@code -Adagger.provisionMonitoring=enabled} report their provisions.
+ *
+ * @since 2.58
+ */
+@Beta
+@GwtIncompatible
+public final class StartupProfileRecorder extends ProvisionMonitor {
+  private final Set<String> recordedKeys = ConcurrentHashMap.newKeySet();
+  private final Queue<String> keys = new ConcurrentLinkedQueue<>();
+  private volatile boolean stopped = false;
+
+  @Override
+  public void provisioned(String key, @Nullable String scope, long nanos) {
+    if (!stopped && !recordedKeys.contains(key) && recordedKeys.add(key)) {
+      keys.add(key);
+    }
+  }
+
+  /** Stops recording. Provisions reported afterwards are ignored. */
+  public void stop() {
+    stopped = true;
+  }
+
+  /** Returns the keys recorded so far, in the order they were first provisioned. */
+  public List<String> keys() {
+    return Collections.unmodifiableList(new ArrayList<>(keys));
+  }
+
+  /** Writes the keys recorded so far to {@code out}, one per line, in startup profile format. */
+  public void writeTo(Appendable out) throws IOException {
+    for (String key : keys) {
+      out.append(key).append('\n');
+    }
+  }
+}
@@ -28,7 +28,8 @@ import java.lang.annotation.Target;
  * A {@link MapKey} annotation for maps with {@code Class<?>} keys.
  *
  * <p>The difference from {@link ClassKey} is that dagger generates a string representation for the
- * class to use under the hood, which prevents loading unused classes at runtime.
+ * class to use under the hood, which prevents loading unused classes at runtime. Iterating over the
+ * map's keys or entries loads only the key classes that are reached.
  */
 @Target({ElementType.METHOD, ElementType.FIELD, ElementType.TYPE})
 @Retention(RUNTIME)
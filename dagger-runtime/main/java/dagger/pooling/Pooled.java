@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.pooling;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import dagger.internal.Beta;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the instances of an unscoped binding may be reused once they are released.
+ *
+ * <p>Annotate an {@link javax.inject.Inject @Inject}-constructed class or a {@link
+ * dagger.Provides @Provides} method with {@code @Pooled} when its instances are expensive to create
+ * and are only needed for a short time, e.g. parsers or buffers. Every request for the binding
+ * still gets an instance that no one else is using, but instead of always creating a new one, the
+ * component first takes one that was handed back with a {@link Releaser}:
+ *
+ * <pre><code>
+ *   {@literal @}Pooled(maxSize = 4)
+ *   final class Parser {
+ *     {@literal @}Inject Parser() {}
+ *   }
+ *
+ *   final class Handler {
+ *     {@literal @}Inject Provider&lt;Parser&gt; parsers;
+ *     {@literal @}Inject Releaser&lt;Parser&gt; releaser;
+ *
+ *     void handle(Request request) {
+ *       Parser parser = parsers.get();
+ *       try {
+ *         parser.parse(request);
+ *       } finally {
+ *         releaser.release(parser);
+ *       }
+ *     }
+ *   }
+ * </code></pre>
+ *
+ * <p>An instance that is never released is simply not reused. Released instances are reused as
+ * they are, so the binding is responsible for resetting any state a caller may leave behind. Each
+ * instance must be released at most once per request; {@link Releaser#release} throws if it
+ * detects an instance that is already waiting to be reused.
+ *
+ * <p>A pooled binding cannot also be scoped.
+ *
+ * @since 2.58
+ */
+@Documented
+@Beta
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface Pooled {
+  /**
+   * The maximum number of released instances that are shared between threads. Each thread may also
+   * keep one instance that it released itself.
+   */
+  int maxSize() default 8;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.pooling;
+
+import static dagger.internal.Preconditions.checkNotNull;
+
+import dagger.internal.Beta;
+import dagger.internal.GwtIncompatible;
+import dagger.internal.PooledProvider;
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+/**
+ * Hands instances of a {@link Pooled @Pooled} binding back to the component that created them, so
+ * that later requests for the binding can reuse them.
+ *
+ * <p>Inject a {@code Releaser<T>} from the same component as the {@code T} instances it releases.
+ * If the binding for {@code T} is not pooled, {@link #release} does nothing.
+ *
+ * <p>Components call the constructor directly, like they create {@link dagger.Lazy} instances, so
+ * no factory is generated for this class.
+ *
+ * @since 2.58
+ */
+@Beta
+@GwtIncompatible
+public final class Releaser<T> {
+  private final Provider<T> provider;
+
+  @Inject
+  public Releaser(Provider<T> provider) {
+    this.provider = checkNotNull(provider);
+  }
+
+  /**
+   * Makes {@code instance} available for reuse. The caller must not use {@code instance} after
+   * releasing it, and must release it only once.
+   *
+   * @throws IllegalStateException if {@code instance} is detected to be released already, which
+   *     would otherwise let two later requests share it
+   */
+  @SuppressWarnings("unchecked") // the pool only holds instances of T
+  public void release(T instance) {
+    if (provider instanceof PooledProvider) {
+      ((PooledProvider<T>) provider).release(instance);
+    }
+  }
+}
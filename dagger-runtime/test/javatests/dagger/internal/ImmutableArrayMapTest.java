@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ImmutableArrayMapTest {
+  @Test
+  public void smallMap() {
+    assertMatchesCopy(contiguousMap(ImmutableArrayMap.MAX_LINEAR_SCAN_SIZE));
+  }
+
+  @Test
+  public void indexedMap() {
+    assertMatchesCopy(contiguousMap(40));
+  }
+
+  @Test
+  public void indexedMap_collidingHashCodes() {
+    Map<Object, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < 20; i++) {
+      map.put(new CollidingKey(i), "v" + i);
+    }
+    assertMatchesCopy(map);
+  }
+
+  @Test
+  public void empty() {
+    ImmutableArrayMap<String, String> map = ImmutableArrayMap.copyOf(ImmutableMap.of());
+    assertThat(map).isEmpty();
+    assertThat(map.get("a")).isNull();
+  }
+
+  @Test
+  public void withValues_sharesKeys() {
+    assertWithValuesSharesKeys(contiguousMap(2));
+  }
+
+  @Test
+  public void withValues_indexedMap_sharesKeys() {
+    assertWithValuesSharesKeys(contiguousMap(40));
+  }
+
+  @Test
+  public void immutable() {
+    Map<String, Integer> map = ImmutableArrayMap.copyOf(ImmutableMap.of("a", 1));
+    assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+    assertThrows(UnsupportedOperationException.class, map::clear);
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(3));
+  }
+
+  private static Map<Object, String> contiguousMap(int size) {
+    Map<Object, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      map.put(i, "v" + i);
+    }
+    return map;
+  }
+
+  private static void assertMatchesCopy(Map<Object, String> expected) {
+    ImmutableArrayMap<Object, String> map = ImmutableArrayMap.copyOf(expected);
+    assertThat(map).containsExactlyEntriesIn(expected).inOrder();
+    assertThat(map).isEqualTo(expected);
+    assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+    for (Map.Entry<Object, String> entry : expected.entrySet()) {
+      assertThat(map.containsKey(entry.getKey())).isTrue();
+      assertThat(map.get(entry.getKey())).isEqualTo(entry.getValue());
+    }
+    assertThat(map.containsKey(-1)).isFalse();
+    assertThat(map.containsKey(null)).isFalse();
+    assertThat(map.get("missing")).isNull();
+  }
+
+  private static void assertWithValuesSharesKeys(Map<Object, String> contents) {
+    ImmutableArrayMap<Object, String> map = ImmutableArrayMap.copyOf(contents);
+    Object[] values = map.newValues();
+    Map<Object, String> expected = new LinkedHashMap<>();
+    for (int i = 0; i < map.size(); i++) {
+      int position = map.positionAt(i);
+      values[position] = map.valueAt(position) + "'";
+    }
+    for (Map.Entry<Object, String> entry : contents.entrySet()) {
+      expected.put(entry.getKey(), entry.getValue() + "'");
+    }
+    Map<Object, String> renamed = map.withValues(values);
+    assertThat(renamed).containsExactlyEntriesIn(expected).inOrder();
+    for (Object key : contents.keySet()) {
+      assertThat(renamed.get(key)).isEqualTo(expected.get(key));
+    }
+  }
+
+  private static final class CollidingKey {
+    private final int id;
+
+    CollidingKey(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+      return id % 3;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ImmutableArraySetTest {
+  @Test
+  public void create_emptyAndSingleton() {
+    assertThat(ImmutableArraySet.create(new Object[0], 0)).isEmpty();
+    assertThat(ImmutableArraySet.create(new Object[] {"a", "a"}, 2)).containsExactly("a");
+  }
+
+  @Test
+  public void create_deduplicatesInOrder() {
+    Set<Object> set = ImmutableArraySet.create(new Object[] {"c", "a", "c", "b", "a", null}, 5);
+    assertThat(set).containsExactly("c", "a", "b").inOrder();
+    assertThat(set.contains("b")).isTrue();
+    assertThat(set.contains("d")).isFalse();
+    assertThat(set.contains(null)).isFalse();
+    assertThat(set.toArray()).asList().containsExactly("c", "a", "b").inOrder();
+  }
+
+  @Test
+  public void create_large() {
+    int size = ImmutableArraySet.MAX_SIZE * 2;
+    Object[] elements = new Object[size];
+    for (int i = 0; i < size; i++) {
+      elements[i] = i % (size - 1);
+    }
+    Set<Object> set = ImmutableArraySet.create(elements, size);
+    assertThat(set).hasSize(size - 1);
+    assertThrows(UnsupportedOperationException.class, () -> set.add(-1));
+  }
+
+  @Test
+  public void equalsAndHashCode() {
+    Set<Object> set = ImmutableArraySet.create(new Object[] {1, 2, 3}, 3);
+    assertThat(set).isEqualTo(ImmutableSet.of(3, 2, 1));
+    assertThat(set.hashCode()).isEqualTo(ImmutableSet.of(1, 2, 3).hashCode());
+  }
+
+  @Test
+  public void immutable() {
+    Set<Object> set = ImmutableArraySet.create(new Object[] {1, 2, 3}, 3);
+    assertThrows(UnsupportedOperationException.class, () -> set.add(4));
+    assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+    assertThrows(UnsupportedOperationException.class, set::clear);
+    Iterator<Object> iterator = set.iterator();
+    iterator.next();
+    assertThrows(UnsupportedOperationException.class, iterator::remove);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class LazyClassKeyMapTest {
+  @Test
+  public void mapFactory_invokesProvidersEveryTime() {
+    AtomicInteger value = new AtomicInteger();
+    Factory<Map<Class<?>, Integer>> factory =
+        LazyClassKeyMap.MapFactory.of(
+            MapFactory.<String, Integer>builder(1)
+                .put(String.class.getName(), value::getAndIncrement)
+                .build());
+    assertThat(factory.get().get(String.class)).isEqualTo(0);
+    assertThat(factory.get().get(String.class)).isEqualTo(1);
+  }
+
+  @Test
+  public void mapProviderFactory_returnsSameMap() {
+    Provider<Integer> provider = () -> 1;
+    Factory<Map<Class<?>, Provider<Integer>>> factory =
+        LazyClassKeyMap.MapProviderFactory.of(
+            MapProviderFactory.<String, Integer>builder(1)
+                .put(String.class.getName(), provider)
+                .build());
+    Map<Class<?>, Provider<Integer>> map = factory.get();
+    assertThat(map.get(String.class)).isSameInstanceAs(provider);
+    assertThat(factory.get()).isSameInstanceAs(map);
+  }
+
+  @Test
+  public void immutable() {
+    Map<String, Integer> delegate =
+        MapFactory.<String, Integer>builder(1).put(String.class.getName(), () -> 1).build().get();
+    Map<Class<?>, Integer> map = LazyClassKeyMap.of(delegate);
+    assertThrows(UnsupportedOperationException.class, () -> map.put(Integer.class, 2));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove(String.class));
+  }
+
+  @Test
+  public void keySet() {
+    Map<Class<?>, Integer> map =
+        LazyClassKeyMap.of(
+            ImmutableMap.of(String.class.getName(), 1, Integer.class.getName(), 2));
+    assertThat(map.keySet()).containsExactly(String.class, Integer.class).inOrder();
+    assertThat(map.keySet().contains(Integer.class)).isTrue();
+    assertThat(map.keySet().contains(Long.class)).isFalse();
+    assertThat(map.keySet().contains("java.lang.String")).isFalse();
+  }
+
+  @Test
+  public void entrySet() {
+    Map<Class<?>, Integer> map =
+        LazyClassKeyMap.of(
+            ImmutableMap.of(String.class.getName(), 1, Integer.class.getName(), 2));
+    assertThat(map.entrySet())
+        .containsExactly(
+            new SimpleImmutableEntry<>(String.class, 1),
+            new SimpleImmutableEntry<>(Integer.class, 2))
+        .inOrder();
+    assertThat(map.entrySet().contains(new SimpleImmutableEntry<>(String.class, 2))).isFalse();
+    assertThat(map.entrySet().iterator().next().hashCode())
+        .isEqualTo(new SimpleImmutableEntry<>(String.class, 1).hashCode());
+  }
+
+  @Test
+  public void iteration_onlyLoadsClassesReached() {
+    Map<Class<?>, Integer> map =
+        LazyClassKeyMap.of(
+            ImmutableMap.of(String.class.getName(), 1, "com.example.DoesNotExist", 2));
+    Iterator<Class<?>> keys = map.keySet().iterator();
+    assertThat(keys.next()).isEqualTo(String.class);
+    TypeNotPresentException e = assertThrows(TypeNotPresentException.class, keys::next);
+    assertThat(e.typeName()).isEqualTo("com.example.DoesNotExist");
+
+    // Values can be read without loading any key classes.
+    Iterator<Map.Entry<Class<?>, Integer>> entries = map.entrySet().iterator();
+    entries.next();
+    assertThat(entries.next().getValue()).isEqualTo(2);
+  }
+
+  @Test
+  public void mapFactory_keySet() {
+    Factory<Map<Class<?>, Integer>> factory =
+        LazyClassKeyMap.MapFactory.of(
+            MapFactory.<String, Integer>builder(1).put(String.class.getName(), () -> 1).build());
+    assertThat(factory.get().keySet()).containsExactly(String.class);
+    assertThat(factory.get().keySet()).containsExactly(String.class);
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class MapFactoryTest {
+  @Test
+  public void invokesProvidersEveryTime() {
+    Factory<Map<String, Integer>> factory =
+        MapFactory.<String, Integer>builder(2)
+            .put("two", incrementingIntegerProvider(20))
+            .put("one", incrementingIntegerProvider(10))
+            .build();
+    assertThat(factory.get()).containsExactly("two", 20, "one", 10).inOrder();
+    assertThat(factory.get()).containsExactly("two", 21, "one", 11).inOrder();
+  }
+
+  @Test
+  public void putAll() {
+    MapFactory<String, Integer> first =
+        MapFactory.<String, Integer>builder(1).put("one", () -> 1).build();
+    Factory<Map<String, Integer>> factory =
+        MapFactory.<String, Integer>builder(2).putAll(first).put("two", () -> 2).build();
+    assertThat(factory.get()).containsExactly("one", 1, "two", 2).inOrder();
+  }
+
+  private static Provider<Integer> incrementingIntegerProvider(int seed) {
+    return new AtomicInteger(seed)::getAndIncrement;
+  }
+}
@@ -74,6 +74,18 @@ public class MapProviderFactoryTest {
         .inOrder();
   }
 
+  @Test
+  public void get_returnsSameImmutableMap() {
+    Factory<Map<String, Provider<Integer>>> factory =
+        MapProviderFactory.<String, Integer>builder(1)
+            .put("one", incrementingIntegerProvider(1))
+            .build();
+    Map<String, Provider<Integer>> map = factory.get();
+    assertThat(factory.get()).isSameInstanceAs(map);
+    thrown.expect(UnsupportedOperationException.class);
+    map.put("two", incrementingIntegerProvider(2));
+  }
+
 
   private static Provider<Integer> incrementingIntegerProvider(int seed) {
     return new AtomicInteger(seed)::getAndIncrement;
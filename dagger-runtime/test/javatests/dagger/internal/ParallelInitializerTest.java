@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ParallelInitializerTest {
+  private final List<String> calls = new ArrayList<>();
+
+  private Provider<String> recording(String name) {
+    return () -> {
+      synchronized (calls) {
+        calls.add(name);
+      }
+      return name;
+    };
+  }
+
+  @Test
+  public void callsEachProviderOnce_afterItsDependencies() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      for (int i = 0; i < 100; i++) {
+        calls.clear();
+        ParallelInitializer.initialize(
+                executor,
+                new Provider<?>[] {
+                  recording("a"), recording("b"), recording("c"), recording("d"), recording("e")
+                },
+                new int[][] {{}, {}, {0}, {0, 1}, {2, 3}})
+            .get(10, TimeUnit.SECONDS);
+
+        assertThat(calls).containsExactly("a", "b", "c", "d", "e");
+        assertThat(calls.indexOf("c")).isGreaterThan(calls.indexOf("a"));
+        assertThat(calls.indexOf("d")).isGreaterThan(calls.indexOf("a"));
+        assertThat(calls.indexOf("d")).isGreaterThan(calls.indexOf("b"));
+        assertThat(calls.indexOf("e")).isGreaterThan(calls.indexOf("c"));
+        assertThat(calls.indexOf("e")).isGreaterThan(calls.indexOf("d"));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void noProviders() throws Exception {
+    CompletableFuture<Void> future =
+        ParallelInitializer.initialize(Runnable::run, new Provider<?>[0], new int[0][]);
+    assertThat(future.isDone()).isTrue();
+  }
+
+  @Test
+  public void failure_skipsDependents() {
+    IllegalStateException failure = new IllegalStateException("expected");
+    CompletableFuture<Void> future =
+        ParallelInitializer.initialize(
+            Runnable::run,
+            new Provider<?>[] {
+              () -> {
+                throw failure;
+              },
+              recording("independent"),
+              recording("dependent")
+            },
+            new int[][] {{}, {}, {0}});
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+    assertThat(calls).containsExactly("independent");
+  }
+}
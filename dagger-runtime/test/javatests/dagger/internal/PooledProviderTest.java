@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class PooledProviderTest {
+  private final AtomicInteger provisions = new AtomicInteger();
+  private final Provider<Object> delegate =
+      () -> {
+        provisions.incrementAndGet();
+        return new Object();
+      };
+
+  @Test
+  public void provider_nonPositiveMaxSize() {
+    assertThrows(IllegalArgumentException.class, () -> PooledProvider.provider(delegate, 0));
+  }
+
+  @Test
+  public void get_createsNewInstancesUntilReleased() {
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 2);
+    assertThat(pool.get()).isNotSameInstanceAs(pool.get());
+    assertThat(provisions.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void release_reusedBySameThread() {
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 2);
+    Object instance = pool.get();
+    pool.release(instance);
+    assertThat(pool.get()).isSameInstanceAs(instance);
+    assertThat(provisions.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void release_sharedWithOtherThreads() throws Exception {
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 2);
+    Object first = pool.get();
+    Object second = pool.get();
+    pool.release(first);
+    pool.release(second);
+
+    // The first instance stays in this thread's slot, so other threads get the second one.
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThat(executor.submit(pool::get).get()).isSameInstanceAs(second);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(pool.get()).isSameInstanceAs(first);
+    assertThat(provisions.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void release_dropsInstancesBeyondMaxSize() {
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 1);
+    Object first = pool.get();
+    Object second = pool.get();
+    Object third = pool.get();
+    pool.release(first);
+    pool.release(second);
+    pool.release(third);
+
+    assertThat(pool.get()).isSameInstanceAs(first);
+    assertThat(pool.get()).isSameInstanceAs(second);
+    assertThat(pool.get()).isNoneOf(first, second, third);
+    assertThat(provisions.get()).isEqualTo(4);
+  }
+
+  @Test
+  public void release_twiceToThreadSlot_throws() {
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 2);
+    Object instance = pool.get();
+    pool.release(instance);
+
+    assertThrows(IllegalStateException.class, () -> pool.release(instance));
+    assertThat(pool.get()).isSameInstanceAs(instance);
+    assertThat(pool.get()).isNotSameInstanceAs(instance);
+  }
+
+  @Test
+  public void release_twiceToSharedSlots_throws() {
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 2);
+    Object first = pool.get();
+    Object second = pool.get();
+    pool.release(first);
+    pool.release(second);
+
+    assertThrows(IllegalStateException.class, () -> pool.release(second));
+    assertThat(pool.get()).isSameInstanceAs(first);
+    assertThat(pool.get()).isSameInstanceAs(second);
+    assertThat(pool.get()).isNoneOf(first, second);
+  }
+
+  @Test
+  public void get_neverSharesAnInstanceBetweenConcurrentUsers() throws Exception {
+    int numThreads = 8;
+    PooledProvider<Object> pool = PooledProvider.provider(delegate, 4);
+    Set<Object> inUse = Sets.newConcurrentHashSet();
+    AtomicInteger collisions = new AtomicInteger();
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            for (int j = 0; j < 10_000; j++) {
+              Object instance = pool.get();
+              if (!inUse.add(instance)) {
+                collisions.incrementAndGet();
+              }
+              inUse.remove(instance);
+              pool.release(instance);
+            }
+            return null;
+          });
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(collisions.get()).isEqualTo(0);
+    // Each thread keeps reusing the instance in its own slot.
+    assertThat(provisions.get()).isAtMost(numThreads);
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import dagger.Lazy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ProviderOfLazyTest {
+  @Test
+  public void create_nullPointerException() {
+    assertThrows(NullPointerException.class, () -> ProviderOfLazy.create((Provider<Object>) null));
+  }
+
+  @Test
+  public void get_unscopedProvider_newLazyEachTime() {
+    AtomicInteger count = new AtomicInteger();
+    Provider<Lazy<Integer>> providerOfLazy = ProviderOfLazy.create(count::incrementAndGet);
+
+    Lazy<Integer> first = providerOfLazy.get();
+    Lazy<Integer> second = providerOfLazy.get();
+    assertThat(first).isNotSameInstanceAs(second);
+    assertThat(count.get()).isEqualTo(0);
+
+    assertThat(first.get()).isEqualTo(1);
+    assertThat(first.get()).isEqualTo(1);
+    assertThat(second.get()).isEqualTo(2);
+    assertThat(second.get()).isEqualTo(2);
+    assertThat(count.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_nullValue() {
+    AtomicInteger count = new AtomicInteger();
+    Provider<Lazy<Object>> providerOfLazy =
+        ProviderOfLazy.create(
+            () -> {
+              count.incrementAndGet();
+              return null;
+            });
+    Lazy<Object> lazy = providerOfLazy.get();
+    assertThat(lazy.get()).isNull();
+    assertThat(lazy.get()).isNull();
+    assertThat(count.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_scopedProvider_sharedLazy() {
+    Provider<Object> scoped = DoubleCheck.provider(Object::new);
+    Provider<Lazy<Object>> providerOfLazy = ProviderOfLazy.create(scoped);
+    assertThat(providerOfLazy.get()).isSameInstanceAs(scoped);
+    assertThat(providerOfLazy.get()).isSameInstanceAs(providerOfLazy.get());
+  }
+
+  @Test
+  public void get_instanceFactory_sharedLazy() {
+    Object instance = new Object();
+    Provider<Lazy<Object>> providerOfLazy =
+        ProviderOfLazy.create(InstanceFactory.create(instance));
+    assertThat(providerOfLazy.get()).isSameInstanceAs(providerOfLazy.get());
+    assertThat(providerOfLazy.get().get()).isSameInstanceAs(instance);
+  }
+
+  @Test
+  public void get_concurrent_computesOnce() throws Exception {
+    int numThreads = 16;
+    AtomicInteger count = new AtomicInteger();
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    Lazy<Object> lazy =
+        ProviderOfLazy.<Object>create(
+                () -> {
+                  count.incrementAndGet();
+                  return new Object();
+                })
+            .get();
+    List<Callable<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            latch.await();
+            return lazy.get();
+          });
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<Object>> futures = executor.invokeAll(tasks);
+    executor.shutdown();
+
+    for (Future<Object> future : futures) {
+      assertThat(future.get()).isSameInstanceAs(lazy.get());
+    }
+    assertThat(count.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_reentranceReturningDifferentInstances_throwsIllegalStateException() {
+    AtomicInteger count = new AtomicInteger();
+    List<Lazy<Object>> lazyHolder = new ArrayList<>();
+    Lazy<Object> lazy =
+        ProviderOfLazy.<Object>create(
+                () -> {
+                  if (count.incrementAndGet() == 1) {
+                    lazyHolder.get(0).get();
+                  }
+                  return new Object();
+                })
+            .get();
+    lazyHolder.add(lazy);
+    assertThrows(IllegalStateException.class, lazy::get);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.monitoring.ProvisionMonitor;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProvisionMonitoringTest {
+  private final List<String> provisions = new ArrayList<>();
+
+  private final ProvisionMonitor recordingMonitor =
+      new ProvisionMonitor() {
+        @Override
+        public void provisioned(String key, @Nullable String scope, long nanos) {
+          assertThat(nanos).isAtLeast(0L);
+          provisions.add(key + " " + scope);
+        }
+      };
+
+  @After
+  public void uninstallMonitor() {
+    ProvisionMonitor.install(ProvisionMonitor.noOp());
+  }
+
+  @Test
+  public void noMonitorInstalled_doesNotReadClock() {
+    assertThat(ProvisionMonitoring.start()).isEqualTo(ProvisionMonitoring.UNMONITORED);
+  }
+
+  @Test
+  public void finish_reportsToInstalledMonitor() {
+    ProvisionMonitor.install(recordingMonitor);
+    Object instance = new Object();
+
+    long start = ProvisionMonitoring.start();
+    assertThat(ProvisionMonitoring.finish("Foo", "@Singleton", start, instance))
+        .isSameInstanceAs(instance);
+    assertThat(provisions).containsExactly("Foo @Singleton");
+  }
+
+  @Test
+  public void finish_monitorInstalledAfterStart_notReported() {
+    long start = ProvisionMonitoring.start();
+    ProvisionMonitor.install(recordingMonitor);
+
+    assertThat(ProvisionMonitoring.finish("Foo", null, start, "foo")).isEqualTo("foo");
+    assertThat(provisions).isEmpty();
+  }
+
+  @Test
+  public void finish_nullInstance() {
+    ProvisionMonitor.install(recordingMonitor);
+
+    long start = ProvisionMonitoring.start();
+    assertThat(ProvisionMonitoring.<@Nullable Object>finish("Foo", null, start, null)).isNull();
+    assertThat(provisions).containsExactly("Foo null");
+  }
+
+  @Test
+  public void monitor_reportsEachGet() {
+    ProvisionMonitor.install(recordingMonitor);
+    Provider<String> provider = ProvisionMonitoring.monitor(() -> "foo", "Foo", null);
+
+    assertThat(provider.get()).isEqualTo("foo");
+    assertThat(provider.get()).isEqualTo("foo");
+    assertThat(provisions).containsExactly("Foo null", "Foo null");
+  }
+
+  @Test
+  public void throwingMonitor_doesNotFailProvision() {
+    ProvisionMonitor.install(
+        new ProvisionMonitor() {
+          @Override
+          public void provisioned(String key, @Nullable String scope, long nanos) {
+            throw new IllegalStateException("expected");
+          }
+        });
+
+    assertThat(ProvisionMonitoring.finish("Foo", null, ProvisionMonitoring.start(), "foo"))
+        .isEqualTo("foo");
+  }
+}
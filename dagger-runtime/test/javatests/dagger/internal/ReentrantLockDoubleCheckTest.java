@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.Sets;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ReentrantLockDoubleCheckTest {
+  @Test
+  public void provider_nullPointerException() {
+    try {
+      ReentrantLockDoubleCheck.provider(null);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
+
+  @Test
+  public void doubleWrapping_provider() {
+    Provider<Object> reentrantLockDoubleCheck = ReentrantLockDoubleCheck.provider(Object::new);
+    assertThat(ReentrantLockDoubleCheck.provider(reentrantLockDoubleCheck))
+        .isSameInstanceAs(reentrantLockDoubleCheck);
+
+    Provider<Object> doubleCheck = DoubleCheck.provider(Object::new);
+    assertThat(ReentrantLockDoubleCheck.provider(doubleCheck)).isSameInstanceAs(doubleCheck);
+  }
+
+  /**
+   * Requests a cold scoped instance whose delegate is slow from thousands of threads at once. Uses
+   * virtual threads when the JVM supports them.
+   */
+  @Test
+  public void get_manyThreads_coldInstance() throws Exception {
+    int numTasks = 5000;
+    AtomicInteger provisions = new AtomicInteger();
+    Provider<Object> reentrantLockDoubleCheck =
+        ReentrantLockDoubleCheck.provider(
+            () -> {
+              provisions.incrementAndGet();
+              try {
+                // Simulate a slow constructor, e.g. one that opens a connection pool.
+                Thread.sleep(100);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return new Object();
+            });
+
+    ExecutorService executor = newVirtualThreadPerTaskExecutorOrFixedThreadPool();
+    CountDownLatch latch = new CountDownLatch(1);
+    List<Callable<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < numTasks; i++) {
+      tasks.add(
+          () -> {
+            latch.await();
+            return reentrantLockDoubleCheck.get();
+          });
+    }
+    List<Future<Object>> futures = new ArrayList<>();
+    for (Callable<Object> task : tasks) {
+      futures.add(executor.submit(task));
+    }
+    latch.countDown();
+
+    Set<Object> results = Sets.newIdentityHashSet();
+    for (Future<Object> future : futures) {
+      results.add(future.get(1, TimeUnit.MINUTES));
+    }
+    executor.shutdown();
+
+    assertThat(provisions.get()).isEqualTo(1);
+    assertThat(results).hasSize(1);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutorOrFixedThreadPool() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) method.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      // Virtual threads are not available before JDK 21.
+      return Executors.newFixedThreadPool(100);
+    }
+  }
+
+  @Test
+  public void get_delegateThrows_retriesOnNextCall() {
+    AtomicInteger invocationCount = new AtomicInteger();
+    Object object = new Object();
+    Provider<Object> reentrantLockDoubleCheck =
+        ReentrantLockDoubleCheck.provider(
+            () -> {
+              if (invocationCount.incrementAndGet() == 1) {
+                throw new IllegalArgumentException();
+              }
+              return object;
+            });
+    try {
+      reentrantLockDoubleCheck.get();
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    assertThat(reentrantLockDoubleCheck.get()).isSameInstanceAs(object);
+    assertThat(invocationCount.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void reentranceReturningSameInstance() {
+    final AtomicReference<Provider<Object>> reference = new AtomicReference<>();
+    final AtomicInteger invocationCount = new AtomicInteger();
+    final Object object = new Object();
+    Provider<Object> reentrantLockDoubleCheck =
+        ReentrantLockDoubleCheck.provider(
+            () -> {
+              if (invocationCount.incrementAndGet() == 1) {
+                reference.get().get();
+              }
+              return object;
+            });
+    reference.set(reentrantLockDoubleCheck);
+    assertThat(reentrantLockDoubleCheck.get()).isSameInstanceAs(object);
+  }
+
+  @Test
+  public void reentranceReturningDifferentInstances_throwsIllegalStateException() {
+    final AtomicReference<Provider<Object>> reference = new AtomicReference<>();
+    final AtomicInteger invocationCount = new AtomicInteger();
+    Provider<Object> reentrantLockDoubleCheck =
+        ReentrantLockDoubleCheck.provider(
+            () -> {
+              if (invocationCount.incrementAndGet() == 1) {
+                reference.get().get();
+              }
+              return new Object();
+            });
+    reference.set(reentrantLockDoubleCheck);
+    try {
+      reentrantLockDoubleCheck.get();
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+  }
+}
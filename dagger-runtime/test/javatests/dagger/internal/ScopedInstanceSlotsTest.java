@@ -0,0 +1,184 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Uninterruptibles;
+import dagger.Lazy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ScopedInstanceSlotsTest {
+  @Test
+  public void get_createsEachSlotOnce() {
+    AtomicInteger creations = new AtomicInteger();
+    ScopedInstanceSlots slots =
+        new TestSlots(
+            3,
+            slot -> {
+              creations.incrementAndGet();
+              return "slot" + slot;
+            });
+
+    assertThat(slots.get(0)).isEqualTo("slot0");
+    assertThat(slots.get(2)).isEqualTo("slot2");
+    assertThat(slots.get(0)).isSameInstanceAs(slots.get(0));
+    assertThat(slots.get(2)).isSameInstanceAs(slots.get(2));
+    assertThat(creations.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_concurrent() throws Exception {
+    int numThreads = 10;
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    AtomicInteger creations = new AtomicInteger();
+    ScopedInstanceSlots slots =
+        new TestSlots(
+            1,
+            slot -> {
+              Uninterruptibles.awaitUninterruptibly(latch);
+              creations.incrementAndGet();
+              return new Object();
+            });
+
+    List<Callable<Object>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            return slots.get(0);
+          });
+    }
+    List<Future<Object>> futures = executor.invokeAll(tasks);
+
+    assertThat(creations.get()).isEqualTo(1);
+    Set<Object> results = Sets.newIdentityHashSet();
+    for (Future<Object> future : futures) {
+      results.add(future.get());
+    }
+    assertThat(results).hasSize(1);
+    executor.shutdown();
+  }
+
+  @Test
+  public void get_createThrows_retriesOnNextCall() {
+    AtomicInteger creations = new AtomicInteger();
+    Object object = new Object();
+    ScopedInstanceSlots slots =
+        new TestSlots(
+            1,
+            slot -> {
+              if (creations.incrementAndGet() == 1) {
+                throw new IllegalArgumentException();
+              }
+              return object;
+            });
+
+    assertThrows(IllegalArgumentException.class, () -> slots.get(0));
+    assertThat(slots.get(0)).isSameInstanceAs(object);
+    assertThat(slots.get(0)).isSameInstanceAs(object);
+    assertThat(creations.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_nullValue() {
+    AtomicInteger creations = new AtomicInteger();
+    ScopedInstanceSlots slots =
+        new TestSlots(
+            1,
+            slot -> {
+              creations.incrementAndGet();
+              return null;
+            });
+
+    assertThat(slots.get(0)).isNull();
+    assertThat(slots.get(0)).isNull();
+    assertThat(creations.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void provider() {
+    ScopedInstanceSlots slots = new TestSlots(2, slot -> new Object());
+    Provider<Object> provider = slots.provider(1);
+
+    assertThat(provider.get()).isSameInstanceAs(slots.get(1));
+    assertThat(provider).isInstanceOf(Lazy.class);
+    assertThat(DoubleCheck.lazy(provider)).isSameInstanceAs(provider);
+    assertThat(ThreadLocalCheck.provider(provider)).isSameInstanceAs(provider);
+  }
+
+  @Test
+  public void reentranceReturningSameInstance() {
+    AtomicInteger creations = new AtomicInteger();
+    Object object = new Object();
+    TestSlots slots = new TestSlots(1, null);
+    slots.create =
+        slot -> {
+          if (creations.incrementAndGet() == 1) {
+            slots.get(slot);
+          }
+          return object;
+        };
+
+    assertThat(slots.get(0)).isSameInstanceAs(object);
+  }
+
+  @Test
+  public void reentranceReturningDifferentInstances_throwsIllegalStateException() {
+    AtomicInteger creations = new AtomicInteger();
+    TestSlots slots = new TestSlots(1, null);
+    slots.create =
+        slot -> {
+          if (creations.incrementAndGet() == 1) {
+            slots.get(slot);
+          }
+          return new Object();
+        };
+
+    assertThrows(IllegalStateException.class, () -> slots.get(0));
+  }
+
+  private static final class TestSlots extends ScopedInstanceSlots {
+    IntFunction<Object> create;
+
+    TestSlots(int size, IntFunction<Object> create) {
+      super(size);
+      this.create = create;
+    }
+
+    @Override
+    protected Object create(int slot) {
+      return create.apply(slot);
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package dagger.internal;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
@@ -59,4 +60,25 @@ public class SetBuilderTest {
     } catch (NullPointerException expected) {
     }
   }
+
+  @Test
+  public void build() {
+    assertThat(setBuilder.add("a").addAll(Arrays.asList("b", "a")).add("c").build())
+        .containsExactly("a", "b", "c")
+        .inOrder();
+  }
+
+  @Test
+  public void setOf() {
+    assertThat(SetBuilder.setOf("a", "b", "a")).containsExactly("a", "b").inOrder();
+  }
+
+  @Test
+  public void setOfNullElement() {
+    try {
+      SetBuilder.setOf("hello", null);
+      fail();
+    } catch (NullPointerException expected) {
+    }
+  }
 }
@@ -73,6 +73,41 @@ public class SetFactoryTest {
     assertThat(factory.get()).containsExactly(2, 12, 24, 25, 34, 35);
   }
 
+  @Test
+  public void individualProvidersOnly_deduplicates() {
+    Factory<Set<String>> factory =
+        SetFactory.<String>builder(3, 0)
+            .addProvider(() -> "a")
+            .addProvider(() -> "b")
+            .addProvider(() -> new String("a"))
+            .build();
+    assertThat(factory.get()).containsExactly("a", "b");
+  }
+
+  @Test
+  public void individualProvidersOnly_large() {
+    int size = ImmutableArraySet.MAX_SIZE + 1;
+    SetFactory.Builder<Integer> builder = SetFactory.builder(size, 0);
+    for (int i = 0; i < size; i++) {
+      int value = i;
+      builder.addProvider(() -> value);
+    }
+    Set<Integer> set = builder.build().get();
+    assertThat(set).hasSize(size);
+    assertThat(set).containsAtLeast(0, size - 1);
+  }
+
+  @Test
+  public void collectionProvidersWithOverlappingElements() {
+    Factory<Set<Integer>> factory =
+        SetFactory.<Integer>builder(1, 2)
+            .addProvider(() -> 1)
+            .addCollectionProvider(() -> ImmutableSet.of(1, 2))
+            .addCollectionProvider(() -> ImmutableSet.of(2, 3))
+            .build();
+    assertThat(factory.get()).containsExactly(1, 2, 3);
+  }
+
   private static Provider<Integer> incrementingIntegerProvider(int seed) {
     final AtomicInteger value = new AtomicInteger(seed);
     return value::getAndIncrement;
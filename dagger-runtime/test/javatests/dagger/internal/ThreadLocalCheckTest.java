@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ThreadLocalCheckTest {
+  @Test
+  public void provider_nullPointerException() {
+    assertThrows(NullPointerException.class, () -> ThreadLocalCheck.provider(null));
+  }
+
+  @Test
+  public void doubleWrapping_provider() {
+    Provider<Object> threadLocalCheck = ThreadLocalCheck.provider(Object::new);
+    assertThat(ThreadLocalCheck.provider(threadLocalCheck)).isSameInstanceAs(threadLocalCheck);
+
+    Provider<Object> doubleCheck = DoubleCheck.provider(Object::new);
+    assertThat(ThreadLocalCheck.provider(doubleCheck)).isSameInstanceAs(doubleCheck);
+  }
+
+  @Test
+  public void get_memoizesOncePerThread() throws Exception {
+    AtomicInteger provisions = new AtomicInteger();
+    Provider<Integer> provider = ThreadLocalCheck.provider(provisions::incrementAndGet);
+    assertThat(provider.get()).isEqualTo(1);
+    assertThat(provider.get()).isEqualTo(1);
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThat(executor.submit(provider::get).get()).isEqualTo(2);
+      assertThat(executor.submit(provider::get).get()).isEqualTo(2);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(provider.get()).isEqualTo(1);
+    assertThat(provisions.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void get_memoizesNull() {
+    AtomicInteger provisions = new AtomicInteger();
+    Provider<Object> provider =
+        ThreadLocalCheck.provider(
+            () -> {
+              provisions.incrementAndGet();
+              return null;
+            });
+    assertThat(provider.get()).isNull();
+    assertThat(provider.get()).isNull();
+    assertThat(provisions.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void get_reentrantWithDifferentResults() {
+    AtomicReference<Provider<Object>> self = new AtomicReference<>();
+    AtomicInteger calls = new AtomicInteger();
+    self.set(
+        ThreadLocalCheck.provider(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                self.get().get();
+              }
+              return new Object();
+            }));
+    IllegalStateException e = assertThrows(IllegalStateException.class, () -> self.get().get());
+    assertThat(e).hasMessageThat().contains("Scoped provider was invoked recursively");
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import dagger.monitoring.AggregatingProvisionMonitor.Statistics;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class AggregatingProvisionMonitorTest {
+  private final AggregatingProvisionMonitor monitor = new AggregatingProvisionMonitor();
+
+  @Test
+  public void aggregatesPerKey() {
+    monitor.provisioned("Foo", "@Singleton", 100);
+    monitor.provisioned("Bar", null, 10);
+    monitor.provisioned("Bar", null, 30);
+
+    Map<String, Statistics> snapshot = monitor.snapshot();
+    Statistics foo = snapshot.get("Foo");
+    assertThat(foo.scope()).isEqualTo("@Singleton");
+    assertThat(foo.count()).isEqualTo(1);
+    assertThat(foo.totalNanos()).isEqualTo(100);
+    assertThat(foo.maxNanos()).isEqualTo(100);
+
+    Statistics bar = snapshot.get("Bar");
+    assertThat(bar.scope()).isNull();
+    assertThat(bar.count()).isEqualTo(2);
+    assertThat(bar.totalNanos()).isEqualTo(40);
+    assertThat(bar.maxNanos()).isEqualTo(30);
+  }
+
+  @Test
+  public void snapshot_orderedByTotalTime() {
+    monitor.provisioned("Fast", null, 1);
+    monitor.provisioned("Slow", null, 1000);
+    monitor.provisioned("Medium", null, 50);
+    monitor.provisioned("Medium", null, 50);
+
+    assertThat(monitor.snapshot().keySet()).containsExactly("Slow", "Medium", "Fast").inOrder();
+  }
+
+  @Test
+  public void snapshot_isImmutableCopy() {
+    monitor.provisioned("Foo", null, 1);
+    Map<String, Statistics> snapshot = monitor.snapshot();
+    monitor.provisioned("Foo", null, 1);
+
+    assertThat(snapshot.get("Foo").count()).isEqualTo(1);
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.remove("Foo"));
+  }
+
+  @Test
+  public void histogram() {
+    monitor.provisioned("Foo", null, 0);
+    monitor.provisioned("Foo", null, 1);
+    monitor.provisioned("Foo", null, 5);
+    monitor.provisioned("Foo", null, 7);
+    monitor.provisioned("Foo", null, Long.MAX_VALUE);
+
+    long[] histogram = monitor.snapshot().get("Foo").histogram();
+    assertThat(histogram).hasLength(AggregatingProvisionMonitor.HISTOGRAM_BUCKETS);
+    assertThat(histogram[0]).isEqualTo(1);
+    assertThat(histogram[1]).isEqualTo(1);
+    assertThat(histogram[3]).isEqualTo(2);
+    assertThat(histogram[63]).isEqualTo(1);
+  }
+
+  @Test
+  public void percentileNanos() {
+    for (int i = 0; i < 99; i++) {
+      monitor.provisioned("Foo", null, 100);
+    }
+    monitor.provisioned("Foo", null, 5000);
+
+    Statistics foo = monitor.snapshot().get("Foo");
+    assertThat(foo.percentileNanos(0.5)).isEqualTo(127);
+    assertThat(foo.percentileNanos(0.99)).isEqualTo(127);
+    assertThat(foo.percentileNanos(1)).isEqualTo(5000);
+    assertThrows(IllegalArgumentException.class, () -> foo.percentileNanos(1.5));
+  }
+
+  @Test
+  public void reset() {
+    monitor.provisioned("Foo", null, 1);
+    monitor.reset();
+
+    assertThat(monitor.snapshot()).isEmpty();
+  }
+
+  @Test
+  public void concurrentRecording() throws Exception {
+    int numThreads = 8;
+    int provisionsPerThread = 10_000;
+    Thread[] threads = new Thread[numThreads];
+    for (int i = 0; i < numThreads; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < provisionsPerThread; j++) {
+                  monitor.provisioned("Foo", null, j);
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    Statistics foo = monitor.snapshot().get("Foo");
+    assertThat(foo.count()).isEqualTo(numThreads * provisionsPerThread);
+    assertThat(foo.maxNanos()).isEqualTo(provisionsPerThread - 1);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.internal.DoubleCheck;
+import dagger.internal.InstanceFactory;
+import dagger.internal.Provider;
+import dagger.internal.ScopedInstanceSlots;
+import dagger.monitoring.ComponentFootprint.RetainedBinding;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ComponentFootprintTest {
+  @SuppressWarnings("unused") // Read reflectively.
+  private static final class TestComponent {
+    private final Provider<String> scopedProvider = DoubleCheck.provider(() -> "scoped");
+    private final String notAFrameworkObject = "ignored";
+    private final TestComponentShard shard = new TestComponentShard(this);
+    private final TestScopedInstances scopedInstances = new TestScopedInstances();
+  }
+
+  @SuppressWarnings("unused") // Read reflectively.
+  private static final class TestComponentShard {
+    private final TestComponent component;
+    private final Provider<Integer> integerProvider = InstanceFactory.create(1);
+
+    TestComponentShard(TestComponent component) {
+      this.component = component;
+    }
+  }
+
+  private static final class TestScopedInstances extends ScopedInstanceSlots {
+    TestScopedInstances() {
+      super(2);
+    }
+
+    @Override
+    protected Object create(int slot) {
+      return "slot" + slot;
+    }
+  }
+
+  @Test
+  public void reportsFrameworkFieldsOfComponentAndShards() {
+    TestComponent component = new TestComponent();
+
+    List<RetainedBinding> bindings = ComponentFootprint.of(component).bindings();
+
+    assertThat(bindings).hasSize(4);
+    assertThat(bindings.get(0).key()).isEqualTo("TestComponent.scopedProvider");
+    // The DoubleCheck and the provider it wraps.
+    assertThat(bindings.get(0).frameworkClasses()).hasSize(2);
+    assertThat(bindings.get(0).frameworkClasses().get(0)).isEqualTo(DoubleCheck.class.getName());
+    assertThat(bindings.get(1).key()).isEqualTo("TestComponent.scopedInstances[0]");
+    assertThat(bindings.get(2).key()).isEqualTo("TestComponent.scopedInstances[1]");
+    assertThat(bindings.get(3).key()).isEqualTo("TestComponentShard.integerProvider");
+    assertThat(bindings.get(3).frameworkClasses())
+        .containsExactly(InstanceFactory.class.getName());
+    assertThat(bindings.get(3).instance()).isEqualTo(1);
+  }
+
+  @Test
+  public void reportsScopedInstancesOnceCreated() {
+    TestComponent component = new TestComponent();
+    assertThat(ComponentFootprint.of(component).bindings().get(0).instance()).isNull();
+    assertThat(ComponentFootprint.of(component).bindings().get(1).instance()).isNull();
+
+    component.scopedProvider.get();
+    component.scopedInstances.get(0);
+
+    List<RetainedBinding> bindings = ComponentFootprint.of(component).bindings();
+    assertThat(bindings.get(0).instance()).isEqualTo("scoped");
+    assertThat(bindings.get(1).instance()).isEqualTo("slot0");
+    assertThat(bindings.get(2).instance()).isNull();
+  }
+
+  @Test
+  public void writeTo_writesOneLinePerBinding() throws Exception {
+    TestComponent component = new TestComponent();
+    component.scopedInstances.get(1);
+
+    StringBuilder out = new StringBuilder();
+    ComponentFootprint.of(component).writeTo(out);
+
+    assertThat(out.toString().split("\n"))
+        .asList()
+        .containsAtLeast(
+            "TestComponent.scopedInstances[0]\t-\t-",
+            "TestComponent.scopedInstances[1]\t-\tjava.lang.String",
+            "TestComponentShard.integerProvider\tdagger.internal.InstanceFactory\tjava.lang.Integer")
+        .inOrder();
+  }
+}
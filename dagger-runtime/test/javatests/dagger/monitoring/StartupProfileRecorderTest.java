@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class StartupProfileRecorderTest {
+  private final StartupProfileRecorder recorder = new StartupProfileRecorder();
+
+  @Test
+  public void recordsKeysInFirstProvisionOrder() {
+    recorder.provisioned("Foo", "@Singleton", 100);
+    recorder.provisioned("Bar", null, 10);
+    recorder.provisioned("Foo", "@Singleton", 100);
+    recorder.provisioned("Baz", null, 10);
+
+    assertThat(recorder.keys()).containsExactly("Foo", "Bar", "Baz").inOrder();
+  }
+
+  @Test
+  public void stop_ignoresLaterProvisions() {
+    recorder.provisioned("Foo", null, 1);
+    recorder.stop();
+    recorder.provisioned("Bar", null, 1);
+
+    assertThat(recorder.keys()).containsExactly("Foo");
+  }
+
+  @Test
+  public void writeTo_writesOneKeyPerLine() throws Exception {
+    recorder.provisioned("@javax.inject.Named(\"foo\") java.lang.String", null, 1);
+    recorder.provisioned("test.Foo", null, 1);
+
+    StringBuilder out = new StringBuilder();
+    recorder.writeTo(out);
+    assertThat(out.toString())
+        .isEqualTo("@javax.inject.Named(\"foo\") java.lang.String\ntest.Foo\n");
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.monitoring;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.monitoring.AggregatingProvisionMonitor;
+import dagger.monitoring.AggregatingProvisionMonitor.Statistics;
+import dagger.monitoring.ProvisionMonitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.jspecify.annotations.Nullable;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProvisionMonitorTest {
+  private static final String FOO_KEY = "dagger.functional.monitoring.ProvisionMonitorTest.Foo";
+  private static final String BAR_KEY = "dagger.functional.monitoring.ProvisionMonitorTest.Bar";
+  private static final String NAME_KEY = "@javax.inject.Named(\"name\") java.lang.String";
+
+  @Singleton
+  static final class Foo {
+    @Inject
+    Foo() {}
+  }
+
+  static final class Bar {
+    final Foo foo;
+
+    @Inject
+    Bar(Foo foo) {
+      this.foo = foo;
+    }
+  }
+
+  @Module
+  static final class TestModule {
+    @Provides
+    @Named("name")
+    static String name(Bar bar) {
+      return "name";
+    }
+
+    @Provides
+    static int primitive() {
+      return 1;
+    }
+  }
+
+  @Singleton
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    Foo foo();
+
+    Bar bar();
+
+    Provider<Bar> barProvider();
+
+    @Named("name")
+    String name();
+
+    int primitive();
+  }
+
+  private final AggregatingProvisionMonitor monitor = new AggregatingProvisionMonitor();
+
+  @Before
+  public void installMonitor() {
+    ProvisionMonitor.install(monitor);
+  }
+
+  @After
+  public void uninstallMonitor() {
+    ProvisionMonitor.install(ProvisionMonitor.noOp());
+  }
+
+  @Test
+  public void scopedBinding_reportedOnce() {
+    TestComponent component = DaggerProvisionMonitorTest_TestComponent.create();
+    Foo foo = component.foo();
+    assertThat(component.foo()).isSameInstanceAs(foo);
+
+    Statistics statistics = monitor.snapshot().get(FOO_KEY);
+    assertThat(statistics.count()).isEqualTo(1);
+    assertThat(statistics.scope()).isEqualTo("@javax.inject.Singleton");
+  }
+
+  @Test
+  public void unscopedBinding_reportedForEachProvision() {
+    TestComponent component = DaggerProvisionMonitorTest_TestComponent.create();
+    component.bar();
+    component.bar();
+    component.barProvider().get();
+    component.name();
+
+    Map<String, Statistics> snapshot = monitor.snapshot();
+    assertThat(snapshot.get(BAR_KEY).count()).isEqualTo(4);
+    assertThat(snapshot.get(BAR_KEY).scope()).isNull();
+    assertThat(snapshot.get(NAME_KEY).count()).isEqualTo(1);
+    assertThat(snapshot.get(FOO_KEY).count()).isEqualTo(1);
+  }
+
+  @Test
+  public void provisionsAreTimedIncludingInlinedDependencies() {
+    TestComponent component = DaggerProvisionMonitorTest_TestComponent.create();
+    component.name();
+
+    Map<String, Statistics> snapshot = monitor.snapshot();
+    assertThat(snapshot.get(NAME_KEY).totalNanos())
+        .isAtLeast(snapshot.get(BAR_KEY).totalNanos());
+    assertThat(snapshot.get(NAME_KEY).maxNanos()).isEqualTo(snapshot.get(NAME_KEY).totalNanos());
+  }
+
+  @Test
+  public void provisionsReportedOnProvisioningThread() throws Exception {
+    List<Thread> threads = new ArrayList<>();
+    ProvisionMonitor.install(
+        new ProvisionMonitor() {
+          @Override
+          public void provisioned(String key, @Nullable String scope, long nanos) {
+            threads.add(Thread.currentThread());
+          }
+        });
+    TestComponent component = DaggerProvisionMonitorTest_TestComponent.create();
+    Thread thread = new Thread(component::foo);
+    thread.start();
+    thread.join();
+
+    assertThat(threads).containsExactly(thread);
+  }
+
+  @Test
+  public void throwingMonitor_doesNotFailProvision() {
+    ProvisionMonitor.install(
+        new ProvisionMonitor() {
+          @Override
+          public void provisioned(String key, @Nullable String scope, long nanos) {
+            throw new IllegalStateException("expected");
+          }
+        });
+    TestComponent component = DaggerProvisionMonitorTest_TestComponent.create();
+    assertThat(component.bar()).isNotNull();
+  }
+
+  @Test
+  public void noMonitorInstalled_nothingReported() {
+    ProvisionMonitor.install(ProvisionMonitor.noOp());
+    TestComponent component = DaggerProvisionMonitorTest_TestComponent.create();
+    component.bar();
+    component.primitive();
+
+    assertThat(monitor.snapshot()).isEmpty();
+  }
+}
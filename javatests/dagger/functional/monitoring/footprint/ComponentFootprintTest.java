@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.monitoring.footprint;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.monitoring.ComponentFootprint;
+import dagger.monitoring.ComponentFootprint.RetainedBinding;
+import java.util.HashMap;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ComponentFootprintTest {
+  private static final String FOO_KEY =
+      "dagger.functional.monitoring.footprint.ComponentFootprintTest.Foo";
+  private static final String BAR_KEY =
+      "dagger.functional.monitoring.footprint.ComponentFootprintTest.Bar";
+
+  @Singleton
+  static final class Foo {
+    @Inject
+    Foo() {}
+  }
+
+  static final class Bar {
+    @Inject
+    Bar(Foo foo) {}
+  }
+
+  @Singleton
+  @Component
+  interface TestComponent {
+    Provider<Foo> foo();
+
+    Provider<Bar> bar();
+  }
+
+  @Test
+  public void reportsRetainedBindingsByKey() {
+    TestComponent component = DaggerComponentFootprintTest_TestComponent.create();
+
+    Map<String, RetainedBinding> bindings = bindingsByKey(component);
+
+    assertThat(bindings).containsKey(FOO_KEY);
+    assertThat(bindings).containsKey(BAR_KEY);
+    assertThat(bindings.get(FOO_KEY).frameworkClasses()).isNotEmpty();
+    assertThat(bindings.get(FOO_KEY).instance()).isNull();
+  }
+
+  @Test
+  public void reportsScopedInstanceOnceCreated() {
+    TestComponent component = DaggerComponentFootprintTest_TestComponent.create();
+    Foo foo = component.foo().get();
+
+    assertThat(bindingsByKey(component).get(FOO_KEY).instance()).isSameInstanceAs(foo);
+    assertThat(bindingsByKey(component).get(BAR_KEY).instance()).isNull();
+  }
+
+  private static Map<String, RetainedBinding> bindingsByKey(Object component) {
+    Map<String, RetainedBinding> bindings = new HashMap<>();
+    for (RetainedBinding binding : ComponentFootprint.of(component).bindings()) {
+      bindings.put(binding.key(), binding);
+    }
+    return bindings;
+  }
+}
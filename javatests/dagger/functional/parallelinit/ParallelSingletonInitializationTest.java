@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.parallelinit;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import dagger.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ParallelSingletonInitializationTest {
+  /** The singletons created so far, along with the task that created them. */
+  static final List<String> created = new ArrayList<>();
+
+  private static final ThreadLocal<Integer> currentTask = new ThreadLocal<>();
+
+  static synchronized void created(String name) {
+    created.add(name + "@" + currentTask.get());
+  }
+
+  @Singleton
+  static final class A {
+    @Inject
+    A() {
+      created("A");
+    }
+  }
+
+  @Singleton
+  static final class B {
+    @Inject
+    B(A a) {
+      created("B");
+    }
+  }
+
+  /** An unscoped binding, so C's dependency on A is indirect. */
+  static final class Unscoped {
+    @Inject
+    Unscoped(A a) {}
+  }
+
+  @Singleton
+  static final class C {
+    @Inject
+    C(Unscoped unscoped, Provider<D> dProvider) {
+      created("C");
+    }
+  }
+
+  @Singleton
+  static final class D {
+    @Inject
+    D(B b) {
+      created("D");
+    }
+  }
+
+  @Singleton
+  @Component
+  interface TestComponent {
+    C c();
+
+    D d();
+  }
+
+  static CountDownLatch bothStarted;
+
+  static void awaitBothStarted() {
+    bothStarted.countDown();
+    try {
+      assertThat(bothStarted.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  @Singleton
+  static final class Slow1 {
+    @Inject
+    Slow1() {
+      awaitBothStarted();
+    }
+  }
+
+  @Singleton
+  static final class Slow2 {
+    @Inject
+    Slow2() {
+      awaitBothStarted();
+    }
+  }
+
+  @Singleton
+  @Component
+  interface SlowComponent {
+    Slow1 slow1();
+
+    Slow2 slow2();
+  }
+
+  static final class FailureException extends RuntimeException {}
+
+  @Singleton
+  static final class Failing {
+    @Inject
+    Failing() {
+      throw new FailureException();
+    }
+  }
+
+  @Singleton
+  static final class DependsOnFailing {
+    @Inject
+    DependsOnFailing(Failing failing) {
+      created("DependsOnFailing");
+    }
+  }
+
+  @Singleton
+  @Component
+  interface FailingComponent {
+    DependsOnFailing dependsOnFailing();
+  }
+
+  /** Runs tasks inline, numbering each so that constructors can record which task ran them. */
+  private static final class NumberingExecutor implements Executor {
+    private int tasks;
+
+    @Override
+    public void execute(Runnable runnable) {
+      currentTask.set(tasks++);
+      try {
+        runnable.run();
+      } finally {
+        currentTask.remove();
+      }
+    }
+  }
+
+  @Test
+  public void eachSingletonCreatedByItsOwnTask_afterItsDependencies() throws Exception {
+    created.clear();
+    TestComponent component = DaggerParallelSingletonInitializationTest_TestComponent.create();
+    DaggerParallelSingletonInitializationTest_TestComponent.initializeSingletons(
+            component, new NumberingExecutor())
+        .get();
+
+    assertThat(created).containsExactly("A@0", "B@1", "D@2", "C@3").inOrder();
+    component.c();
+    component.d();
+    assertThat(created).hasSize(4);
+  }
+
+  @Test
+  public void independentSingletonsCreatedConcurrently() throws Exception {
+    bothStarted = new CountDownLatch(2);
+    SlowComponent component = DaggerParallelSingletonInitializationTest_SlowComponent.create();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      DaggerParallelSingletonInitializationTest_SlowComponent.initializeSingletons(
+              component, executor)
+          .get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(bothStarted.getCount()).isEqualTo(0);
+  }
+
+  @Test
+  public void failure_skipsDependentsAndFailsFuture() {
+    created.clear();
+    FailingComponent component =
+        DaggerParallelSingletonInitializationTest_FailingComponent.create();
+    CompletableFuture<Void> future =
+        DaggerParallelSingletonInitializationTest_FailingComponent.initializeSingletons(
+            component, new NumberingExecutor());
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertThat(e).hasCauseThat().isInstanceOf(FailureException.class);
+    assertThat(created).isEmpty();
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.pooling;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.Module;
+import dagger.Provides;
+import dagger.pooling.Pooled;
+import dagger.pooling.Releaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class PooledTest {
+  @Pooled(maxSize = 2)
+  static final class Parser {
+    static final AtomicInteger created = new AtomicInteger();
+
+    @Inject
+    Parser() {
+      created.incrementAndGet();
+    }
+  }
+
+  static final class Buffer {
+    static final AtomicInteger created = new AtomicInteger();
+
+    Buffer() {
+      created.incrementAndGet();
+    }
+  }
+
+  static final class Unpooled {
+    @Inject
+    Unpooled() {}
+  }
+
+  static final class Handler {
+    final Parser parser;
+    final Buffer buffer;
+
+    @Inject
+    Handler(Parser parser, Buffer buffer) {
+      this.parser = parser;
+      this.buffer = buffer;
+    }
+  }
+
+  @Module
+  static final class BufferModule {
+    @Provides
+    @Pooled
+    static Buffer buffer() {
+      return new Buffer();
+    }
+  }
+
+  @Component(modules = BufferModule.class)
+  interface TestComponent {
+    Parser parser();
+
+    Provider<Parser> parserProvider();
+
+    Releaser<Parser> parserReleaser();
+
+    Provider<Releaser<Parser>> parserReleaserProvider();
+
+    Handler handler();
+
+    Releaser<Buffer> bufferReleaser();
+
+    Unpooled unpooled();
+
+    Releaser<Unpooled> unpooledReleaser();
+  }
+
+  private final TestComponent component = DaggerPooledTest_TestComponent.create();
+
+  @Test
+  public void releasedInstancesAreReused() {
+    Parser.created.set(0);
+    Parser parser = component.parser();
+    assertThat(component.parser()).isNotSameInstanceAs(parser);
+
+    component.parserReleaser().release(parser);
+    assertThat(component.parserProvider().get()).isSameInstanceAs(parser);
+    assertThat(Parser.created.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void releasersShareThePool() {
+    Parser parser = component.parser();
+    component.parserReleaserProvider().get().release(parser);
+    assertThat(component.parser()).isSameInstanceAs(parser);
+  }
+
+  @Test
+  public void dependenciesComeFromThePool() {
+    Buffer.created.set(0);
+    Handler handler = component.handler();
+    component.parserReleaser().release(handler.parser);
+    component.bufferReleaser().release(handler.buffer);
+
+    Handler next = component.handler();
+    assertThat(next.parser).isSameInstanceAs(handler.parser);
+    assertThat(next.buffer).isSameInstanceAs(handler.buffer);
+    assertThat(Buffer.created.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void unpooledBindingsIgnoreReleases() {
+    Unpooled unpooled = component.unpooled();
+    component.unpooledReleaser().release(unpooled);
+    assertThat(component.unpooled()).isNotSameInstanceAs(unpooled);
+  }
+}
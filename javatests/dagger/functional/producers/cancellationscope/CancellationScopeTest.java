@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.cancellationscope;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.BindsInstance;
+import dagger.producers.CancellationScope;
+import dagger.producers.CancellationScopeModule;
+import dagger.producers.Produced;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class CancellationScopeTest {
+  static final class SearchFailedException extends Exception {}
+
+  @ProducerModule
+  static final class SearchModule {
+    final CountDownLatch slowStarted = new CountDownLatch(1);
+    final CountDownLatch slowStopped = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    volatile boolean slowInterrupted;
+
+    @Produces
+    String slow() {
+      slowStarted.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+        return "slow";
+      } catch (InterruptedException e) {
+        slowInterrupted = true;
+        return "interrupted";
+      } finally {
+        slowStopped.countDown();
+      }
+    }
+
+    @Produces
+    Integer failing() throws Exception {
+      slowStarted.await(10, TimeUnit.SECONDS);
+      throw new SearchFailedException();
+    }
+
+    @Produces
+    Long cooperative(CancellationScope cancellation) throws InterruptedException {
+      slowStarted.countDown();
+      while (!cancellation.isCancelled()) {
+        Thread.sleep(1);
+      }
+      slowStopped.countDown();
+      return 0L;
+    }
+
+    @Produces
+    Double combined(String slow, Integer failing) {
+      return 0.0;
+    }
+
+    @Produces
+    Boolean failureHandled(Produced<Integer> failing) {
+      // The scope has already seen the failure by the time this runs, so only release slow() now.
+      release.countDown();
+      return true;
+    }
+
+    @Produces
+    ListenableFuture<Short> abandoned() throws InterruptedException {
+      slowStarted.await(10, TimeUnit.SECONDS);
+      return Futures.immediateCancelledFuture();
+    }
+
+    @Produces
+    Character abandonmentHandled(Produced<Short> abandoned) {
+      // As with failureHandled(), the scope has already seen the cancelled future.
+      release.countDown();
+      return 'a';
+    }
+
+    @Produces
+    Float afterAbandoned(String slow, Produced<Short> abandoned, Character abandonmentHandled) {
+      try {
+        abandoned.get();
+        return 0.0f;
+      } catch (ExecutionException e) {
+        return e.getCause() instanceof CancellationException ? 1.0f : 0.0f;
+      }
+    }
+
+    @Produces
+    List<String> recovered(String slow, Produced<Integer> failing, Boolean failureHandled) {
+      try {
+        return ImmutableList.of(slow, "found " + failing.get());
+      } catch (ExecutionException e) {
+        return ImmutableList.of(slow, "not found");
+      }
+    }
+  }
+
+  @ProductionComponent(modules = {CancellationScopeModule.class, SearchModule.class})
+  interface SearchComponent {
+    ListenableFuture<String> slow();
+
+    ListenableFuture<Long> cooperative();
+
+    ListenableFuture<Double> combined();
+
+    ListenableFuture<List<String>> recovered();
+
+    ListenableFuture<Float> afterAbandoned();
+
+    CancellationScope cancellationScope();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder cancellationScopeModule(CancellationScopeModule module);
+
+      Builder searchModule(SearchModule module);
+
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      SearchComponent build();
+    }
+  }
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final SearchModule searchModule = new SearchModule();
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private SearchComponent component(CancellationScopeModule module) {
+    return DaggerCancellationScopeTest_SearchComponent.builder()
+        .cancellationScopeModule(module)
+        .searchModule(searchModule)
+        .executor(executor)
+        .build();
+  }
+
+  @Test
+  public void cancelledComponent_interruptsRunningMethods() throws Exception {
+    SearchComponent component = component(CancellationScopeModule.interruptingRunningMethods());
+    ListenableFuture<String> slow = component.slow();
+    assertThat(searchModule.slowStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    slow.cancel(true);
+
+    assertThat(searchModule.slowStopped.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(searchModule.slowInterrupted).isTrue();
+    assertThat(component.cancellationScope().isCancelled()).isTrue();
+  }
+
+  @Test
+  public void failedSibling_withCancellingOnAnyFailure_interruptsRunningMethods() throws Exception {
+    SearchComponent component =
+        component(CancellationScopeModule.interruptingRunningMethods().cancellingOnAnyFailure());
+    ListenableFuture<Double> combined = component.combined();
+
+    ExecutionException failure =
+        assertThrows(ExecutionException.class, () -> combined.get(10, TimeUnit.SECONDS));
+
+    assertThat(failure).hasCauseThat().isInstanceOf(SearchFailedException.class);
+    assertThat(searchModule.slowStopped.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(searchModule.slowInterrupted).isTrue();
+    assertThat(component.cancellationScope().isCancelled()).isTrue();
+  }
+
+  @Test
+  public void failureHandledAsProduced_doesNotInterruptRunningMethods() throws Exception {
+    SearchComponent component = component(CancellationScopeModule.interruptingRunningMethods());
+    ListenableFuture<List<String>> recovered = component.recovered();
+
+    assertThat(recovered.get(10, TimeUnit.SECONDS)).containsExactly("slow", "not found").inOrder();
+    assertThat(searchModule.slowInterrupted).isFalse();
+    assertThat(component.cancellationScope().isCancelled()).isFalse();
+  }
+
+  @Test
+  public void withoutInterruption_runningMethodsCheckScope() throws Exception {
+    SearchComponent component = component(new CancellationScopeModule());
+    ListenableFuture<Long> cooperative = component.cooperative();
+    assertThat(searchModule.slowStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    cooperative.cancel(true);
+
+    assertThat(searchModule.slowStopped.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(component.cancellationScope().isCancelled()).isTrue();
+  }
+
+  @Test
+  public void withoutInterruption_doesNotInterrupt() throws Exception {
+    SearchComponent component = component(new CancellationScopeModule());
+    ListenableFuture<String> slow = component.slow();
+    assertThat(searchModule.slowStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    slow.cancel(true);
+    searchModule.release.countDown();
+
+    assertThat(searchModule.slowStopped.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(searchModule.slowInterrupted).isFalse();
+  }
+
+  @Test
+  public void methodReturningCancelledFuture_doesNotCancelScope() throws Exception {
+    SearchComponent component = component(CancellationScopeModule.interruptingRunningMethods());
+    ListenableFuture<Float> afterAbandoned = component.afterAbandoned();
+
+    assertThat(afterAbandoned.get(10, TimeUnit.SECONDS)).isEqualTo(1.0f);
+    assertThat(searchModule.slowInterrupted).isFalse();
+    assertThat(component.cancellationScope().isCancelled()).isFalse();
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.directexecution;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.BindsInstance;
+import dagger.Module;
+import dagger.Provides;
+import dagger.multibindings.IntoSet;
+import dagger.producers.DirectExecution;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class DirectExecutionTest {
+  /** An executor that queues tasks until the test runs them. */
+  static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable task) {
+      tasks.add(task);
+    }
+
+    void runAll() {
+      for (Runnable task = tasks.poll(); task != null; task = tasks.poll()) {
+        task.run();
+      }
+    }
+  }
+
+  @ProducerModule
+  static final class TestModule {
+    private final ListenableFuture<Integer> number;
+    volatile Thread directThread;
+
+    TestModule(ListenableFuture<Integer> number) {
+      this.number = number;
+    }
+
+    @Produces
+    ListenableFuture<Integer> number() {
+      return number;
+    }
+
+    @Produces
+    @DirectExecution
+    String direct(int number) {
+      directThread = Thread.currentThread();
+      return "direct " + number;
+    }
+
+    @Produces
+    long executed(int number) {
+      return number;
+    }
+  }
+
+  @Module
+  static final class MonitorModule {
+    static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Provides
+    @IntoSet
+    static ProductionComponentMonitor.Factory monitorFactory() {
+      return new ProductionComponentMonitor.Factory() {
+        @Override
+        public ProductionComponentMonitor create(Object component) {
+          return new ProductionComponentMonitor() {
+            @Override
+            public ProducerMonitor producerMonitorFor(ProducerToken token) {
+              return new RecordingProducerMonitor(token);
+            }
+          };
+        }
+      };
+    }
+
+    private static final class RecordingProducerMonitor extends ProducerMonitor {
+      private final String name;
+
+      RecordingProducerMonitor(ProducerToken token) {
+        String tokenName = token.toString();
+        this.name = tokenName.substring(tokenName.lastIndexOf('_') + 1);
+      }
+
+      @Override
+      public void ready() {
+        events.add(name + " ready");
+      }
+
+      @Override
+      public void methodStarting() {
+        events.add(name + " starting");
+      }
+    }
+  }
+
+  @ProductionComponent(modules = {TestModule.class, MonitorModule.class})
+  interface TestComponent {
+    ListenableFuture<String> direct();
+
+    ListenableFuture<Long> executed();
+
+    @ProductionComponent.Factory
+    interface Factory {
+      TestComponent create(
+          @BindsInstance @Production Executor executor, TestModule testModule);
+    }
+  }
+
+  private final QueueingExecutor executor = new QueueingExecutor();
+  private final SettableFuture<Integer> number = SettableFuture.create();
+  private final TestModule testModule = new TestModule(number);
+  private TestComponent component;
+
+  @Before
+  public void setUp() {
+    MonitorModule.events.clear();
+    component = DaggerDirectExecutionTest_TestComponent.factory().create(executor, testModule);
+  }
+
+  @Test
+  public void directExecution_runsOnCompletingThread() throws Exception {
+    ListenableFuture<String> direct = component.direct();
+    executor.runAll();
+    assertThat(direct.isDone()).isFalse();
+
+    Thread completingThread = new Thread(() -> number.set(42));
+    completingThread.start();
+    completingThread.join();
+
+    assertThat(executor.tasks).isEmpty();
+    assertThat(direct.isDone()).isTrue();
+    assertThat(direct.get()).isEqualTo("direct 42");
+    assertThat(testModule.directThread).isSameInstanceAs(completingThread);
+  }
+
+  @Test
+  public void directExecution_reportsReadyBeforeStarting() throws Exception {
+    ListenableFuture<String> direct = component.direct();
+    executor.runAll();
+    number.set(42);
+
+    assertThat(direct.get()).isEqualTo("direct 42");
+    assertThat(MonitorModule.events)
+        .containsAtLeast("DirectFactory ready", "DirectFactory starting")
+        .inOrder();
+  }
+
+  @Test
+  public void producesMethodWithoutDirectExecution_runsOnExecutor() throws Exception {
+    ListenableFuture<Long> executed = component.executed();
+    executor.runAll();
+    number.set(42);
+
+    assertThat(executed.isDone()).isFalse();
+    assertThat(executor.tasks).hasSize(1);
+    executor.runAll();
+    assertThat(executed.get()).isEqualTo(42L);
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.timeout;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import dagger.BindsInstance;
+import dagger.Provides;
+import dagger.multibindings.IntoSet;
+import dagger.producers.Produced;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.Production;
+import dagger.producers.ProductionComponent;
+import dagger.producers.ProductionDeadline;
+import dagger.producers.ProductionDeadlineModule;
+import dagger.producers.Timeout;
+import dagger.producers.monitoring.ProducerMonitor;
+import dagger.producers.monitoring.ProducerToken;
+import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class TimeoutTest {
+  @ProducerModule
+  static final class SearchModule {
+    final SettableFuture<String> slowResult = SettableFuture.create();
+    final SettableFuture<Double> unboundedResult = SettableFuture.create();
+    final List<Throwable> failures = new CopyOnWriteArrayList<>();
+    volatile boolean unboundedCalled;
+
+    @Produces
+    @Timeout(50)
+    ListenableFuture<String> slow() {
+      return slowResult;
+    }
+
+    @Produces
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    Integer fast() {
+      return 42;
+    }
+
+    @Produces
+    Boolean slowFailed(Produced<String> slow) {
+      try {
+        slow.get();
+        return false;
+      } catch (ExecutionException e) {
+        return e.getCause() instanceof TimeoutException;
+      }
+    }
+
+    @Produces
+    ListenableFuture<Double> unbounded() {
+      unboundedCalled = true;
+      return unboundedResult;
+    }
+
+    @Provides
+    @IntoSet
+    ProductionComponentMonitor.Factory failureRecorder() {
+      return new ProductionComponentMonitor.Factory() {
+        @Override
+        public ProductionComponentMonitor create(Object component) {
+          return new ProductionComponentMonitor() {
+            @Override
+            public ProducerMonitor producerMonitorFor(ProducerToken token) {
+              return new ProducerMonitor() {
+                @Override
+                public void failed(Throwable t) {
+                  failures.add(t);
+                }
+              };
+            }
+          };
+        }
+      };
+    }
+  }
+
+  @ProductionComponent(modules = SearchModule.class)
+  interface SearchComponent {
+    ListenableFuture<String> slow();
+
+    ListenableFuture<Integer> fast();
+
+    ListenableFuture<Boolean> slowFailed();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder searchModule(SearchModule module);
+
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      SearchComponent build();
+    }
+  }
+
+  @ProductionComponent(modules = {ProductionDeadlineModule.class, SearchModule.class})
+  interface DeadlineComponent {
+    ListenableFuture<Double> unbounded();
+
+    ListenableFuture<Integer> fast();
+
+    ProductionDeadline deadline();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder productionDeadlineModule(ProductionDeadlineModule module);
+
+      Builder searchModule(SearchModule module);
+
+      @BindsInstance
+      Builder executor(@Production Executor executor);
+
+      DeadlineComponent build();
+    }
+  }
+
+  private final SearchModule searchModule = new SearchModule();
+
+  private SearchComponent component() {
+    return DaggerTimeoutTest_SearchComponent.builder()
+        .searchModule(searchModule)
+        .executor(directExecutor())
+        .build();
+  }
+
+  private DeadlineComponent deadlineComponent(ProductionDeadline deadline) {
+    return DaggerTimeoutTest_DeadlineComponent.builder()
+        .productionDeadlineModule(new ProductionDeadlineModule(deadline))
+        .searchModule(searchModule)
+        .executor(directExecutor())
+        .build();
+  }
+
+  @Test
+  public void timeout_failsProducer() throws Exception {
+    ListenableFuture<String> slow = component().slow();
+
+    ExecutionException failure =
+        assertThrows(ExecutionException.class, () -> slow.get(10, TimeUnit.SECONDS));
+
+    assertThat(failure).hasCauseThat().isInstanceOf(TimeoutException.class);
+    assertCancelled(searchModule.slowResult);
+    assertThat(searchModule.failures).hasSize(1);
+    assertThat(searchModule.failures.get(0)).isInstanceOf(TimeoutException.class);
+  }
+
+  @Test
+  public void timeout_isProducedFailure() throws Exception {
+    assertThat(component().slowFailed().get(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void timeout_notReached() throws Exception {
+    assertThat(component().fast().get(10, TimeUnit.SECONDS)).isEqualTo(42);
+    assertThat(searchModule.failures).isEmpty();
+  }
+
+  @Test
+  public void deadline_failsProducersWithoutTimeout() throws Exception {
+    DeadlineComponent component =
+        deadlineComponent(ProductionDeadline.after(50, TimeUnit.MILLISECONDS));
+    ListenableFuture<Double> unbounded = component.unbounded();
+
+    ExecutionException failure =
+        assertThrows(ExecutionException.class, () -> unbounded.get(10, TimeUnit.SECONDS));
+
+    assertThat(failure).hasCauseThat().isInstanceOf(TimeoutException.class);
+    assertCancelled(searchModule.unboundedResult);
+    assertThat(searchModule.failures).hasSize(1);
+    assertThat(component.deadline().isExpired()).isTrue();
+  }
+
+  @Test
+  public void expiredDeadline_doesNotCallMethod() throws Exception {
+    DeadlineComponent component = deadlineComponent(ProductionDeadline.after(0, TimeUnit.SECONDS));
+    ListenableFuture<Double> unbounded = component.unbounded();
+
+    ExecutionException failure =
+        assertThrows(ExecutionException.class, () -> unbounded.get(10, TimeUnit.SECONDS));
+
+    assertThat(failure).hasCauseThat().isInstanceOf(TimeoutException.class);
+    assertThat(searchModule.unboundedCalled).isFalse();
+  }
+
+  @Test
+  public void deadline_notReached() throws Exception {
+    DeadlineComponent component = deadlineComponent(ProductionDeadline.after(10, TimeUnit.SECONDS));
+
+    assertThat(component.fast().get(10, TimeUnit.SECONDS)).isEqualTo(42);
+    assertThat(searchModule.failures).isEmpty();
+  }
+
+  /** The timed out future is cancelled after the producer fails, so wait for it. */
+  private static void assertCancelled(ListenableFuture<?> future) throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(1);
+    future.addListener(done::countDown, directExecutor());
+    assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(future.isCancelled()).isTrue();
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.producers.virtualthreads;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import dagger.producers.ProducerModule;
+import dagger.producers.Produces;
+import dagger.producers.ProductionComponent;
+import dagger.producers.VirtualThreadExecutorModule;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class VirtualThreadExecutorModuleTest {
+  /** Four blocking calls that each wait until all four are running, or until a timeout. */
+  @ProducerModule
+  static final class BlockingModule {
+    static final int CALLS = 4;
+
+    final CountDownLatch allRunning = new CountDownLatch(CALLS);
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+
+    @Produces
+    String call1() throws InterruptedException {
+      return call();
+    }
+
+    @Produces
+    Integer call2() throws InterruptedException {
+      return call().length();
+    }
+
+    @Produces
+    Long call3() throws InterruptedException {
+      return (long) call().length();
+    }
+
+    @Produces
+    Boolean call4() throws InterruptedException {
+      return call().isEmpty();
+    }
+
+    @Produces
+    List<Object> combined(String call1, Integer call2, Long call3, Boolean call4) {
+      return Arrays.asList(call1, call2, call3, call4);
+    }
+
+    private String call() throws InterruptedException {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        allRunning.countDown();
+        allRunning.await(200, TimeUnit.MILLISECONDS);
+        return Thread.currentThread().getName();
+      } finally {
+        running.decrementAndGet();
+      }
+    }
+  }
+
+  @ProductionComponent(modules = {VirtualThreadExecutorModule.class, BlockingModule.class})
+  interface TestComponent {
+    ListenableFuture<List<Object>> combined();
+
+    @ProductionComponent.Builder
+    interface Builder {
+      Builder virtualThreadExecutorModule(VirtualThreadExecutorModule module);
+
+      Builder blockingModule(BlockingModule module);
+
+      TestComponent build();
+    }
+  }
+
+  @Test
+  public void unbounded_runsBlockingMethodsConcurrently() throws Exception {
+    BlockingModule blockingModule = new BlockingModule();
+    TestComponent component =
+        DaggerVirtualThreadExecutorModuleTest_TestComponent.builder()
+            .blockingModule(blockingModule)
+            .build();
+
+    List<Object> results = component.combined().get(10, TimeUnit.SECONDS);
+
+    assertThat(blockingModule.maxRunning.get()).isEqualTo(BlockingModule.CALLS);
+    assertThat((String) results.get(0)).startsWith("dagger-production-");
+  }
+
+  @Test
+  public void withMaxConcurrency_limitsConcurrentMethods() throws Exception {
+    BlockingModule blockingModule = new BlockingModule();
+    TestComponent component =
+        DaggerVirtualThreadExecutorModuleTest_TestComponent.builder()
+            .virtualThreadExecutorModule(VirtualThreadExecutorModule.withMaxConcurrency(2))
+            .blockingModule(blockingModule)
+            .build();
+
+    assertThat(component.combined().get(10, TimeUnit.SECONDS)).hasSize(BlockingModule.CALLS);
+    assertThat(blockingModule.maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void withMaxConcurrency_notPositive_throws() {
+    assertThrows(
+        IllegalArgumentException.class, () -> VirtualThreadExecutorModule.withMaxConcurrency(0));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.scope.lockfree;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.internal.LockFreeDoubleCheck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class LockFreeDoubleCheckTest {
+  private static final AtomicInteger instanceCount = new AtomicInteger();
+
+  @Singleton
+  static final class Foo {
+    @Inject
+    Foo() {
+      instanceCount.incrementAndGet();
+    }
+  }
+
+  @Singleton
+  @Component
+  interface TestComponent {
+    Foo foo();
+
+    Provider<Foo> fooProvider();
+  }
+
+  @Test
+  public void scopedProvider_isLockFreeDoubleCheck() {
+    TestComponent component = DaggerLockFreeDoubleCheckTest_TestComponent.create();
+    assertThat(component.fooProvider()).isInstanceOf(LockFreeDoubleCheck.class);
+    assertThat(component.foo()).isSameInstanceAs(component.fooProvider().get());
+  }
+
+  @Test
+  public void concurrentRequests_createOneInstance() throws Exception {
+    int numThreads = 16;
+    TestComponent component = DaggerLockFreeDoubleCheckTest_TestComponent.create();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    List<Callable<Foo>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            latch.await();
+            return component.foo();
+          });
+    }
+
+    int instancesBefore = instanceCount.get();
+    List<Future<Foo>> futures = executor.invokeAll(tasks);
+    executor.shutdown();
+
+    Foo foo = component.foo();
+    for (Future<Foo> future : futures) {
+      assertThat(future.get()).isSameInstanceAs(foo);
+    }
+    assertThat(instanceCount.get() - instancesBefore).isEqualTo(1);
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.scope.slots;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Component;
+import dagger.Lazy;
+import dagger.Module;
+import dagger.Provides;
+import dagger.internal.DoubleCheck;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ScopedInstanceSlotsTest {
+  private static final AtomicInteger fooCount = new AtomicInteger();
+  private static final AtomicInteger barCount = new AtomicInteger();
+
+  @Singleton
+  static final class Foo {
+    @Inject
+    Foo() {
+      fooCount.incrementAndGet();
+    }
+  }
+
+  static final class Bar {
+    final Foo foo;
+
+    Bar(Foo foo) {
+      this.foo = foo;
+      barCount.incrementAndGet();
+    }
+  }
+
+  @Singleton
+  static final class Baz {
+    final Bar bar;
+    final Provider<Foo> fooProvider;
+
+    @Inject
+    Baz(Bar bar, Provider<Foo> fooProvider) {
+      this.bar = bar;
+      this.fooProvider = fooProvider;
+    }
+  }
+
+  @Module
+  interface TestModule {
+    @Provides
+    @Singleton
+    static Bar bar(Foo foo) {
+      return new Bar(foo);
+    }
+  }
+
+  @Singleton
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    Foo foo();
+
+    Provider<Foo> fooProvider();
+
+    Lazy<Foo> lazyFoo();
+
+    Bar bar();
+
+    Baz baz();
+  }
+
+  @Test
+  public void scopedProvider_isNotDoubleCheck() {
+    TestComponent component = DaggerScopedInstanceSlotsTest_TestComponent.create();
+    assertThat(component.fooProvider()).isNotInstanceOf(DoubleCheck.class);
+    assertThat(component.fooProvider().get()).isSameInstanceAs(component.foo());
+    assertThat(component.lazyFoo().get()).isSameInstanceAs(component.foo());
+  }
+
+  @Test
+  public void scopedBindings_createOneInstancePerComponent() {
+    int foosBefore = fooCount.get();
+    int barsBefore = barCount.get();
+    TestComponent component = DaggerScopedInstanceSlotsTest_TestComponent.create();
+    Baz baz = component.baz();
+
+    assertThat(component.baz()).isSameInstanceAs(baz);
+    assertThat(component.bar()).isSameInstanceAs(baz.bar);
+    assertThat(baz.bar.foo).isSameInstanceAs(component.foo());
+    assertThat(baz.fooProvider.get()).isSameInstanceAs(component.foo());
+    assertThat(fooCount.get() - foosBefore).isEqualTo(1);
+    assertThat(barCount.get() - barsBefore).isEqualTo(1);
+
+    TestComponent otherComponent = DaggerScopedInstanceSlotsTest_TestComponent.create();
+    assertThat(otherComponent.foo()).isNotSameInstanceAs(component.foo());
+  }
+
+  @Test
+  public void concurrentRequests_createOneInstance() throws Exception {
+    int numThreads = 16;
+    TestComponent component = DaggerScopedInstanceSlotsTest_TestComponent.create();
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    CountDownLatch latch = new CountDownLatch(numThreads);
+    List<Callable<Foo>> tasks = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      tasks.add(
+          () -> {
+            latch.countDown();
+            latch.await();
+            return component.foo();
+          });
+    }
+
+    int instancesBefore = fooCount.get();
+    List<Future<Foo>> futures = executor.invokeAll(tasks);
+    executor.shutdown();
+
+    Foo foo = component.foo();
+    for (Future<Foo> future : futures) {
+      assertThat(future.get()).isSameInstanceAs(foo);
+    }
+    assertThat(fooCount.get() - instancesBefore).isEqualTo(1);
+  }
+}
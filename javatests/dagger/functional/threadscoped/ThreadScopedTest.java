@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.functional.threadscoped;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dagger.Binds;
+import dagger.Component;
+import dagger.Module;
+import dagger.Subcomponent;
+import dagger.ThreadScoped;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ThreadScopedTest {
+  @ThreadScoped
+  static final class Digest {
+    @Inject
+    Digest() {}
+  }
+
+  interface Formatter {}
+
+  static final class FormatterImpl implements Formatter {
+    @Inject
+    FormatterImpl() {}
+  }
+
+  static final class Request {
+    final Digest digest;
+
+    @Inject
+    Request(Digest digest) {
+      this.digest = digest;
+    }
+  }
+
+  @Module
+  interface TestModule {
+    @Binds
+    @ThreadScoped
+    Formatter formatter(FormatterImpl impl);
+
+    @Binds
+    @Singleton
+    Object shared(Digest digest);
+  }
+
+  @Subcomponent
+  interface Child {
+    Digest digest();
+  }
+
+  @Singleton
+  @Component(modules = TestModule.class)
+  interface TestComponent {
+    Digest digest();
+
+    Provider<Digest> digestProvider();
+
+    Request request();
+
+    Formatter formatter();
+
+    Object shared();
+
+    Child child();
+  }
+
+  private final TestComponent component = DaggerThreadScopedTest_TestComponent.create();
+
+  @Test
+  public void sameInstanceOnSameThread() {
+    Digest digest = component.digest();
+    assertThat(component.digestProvider().get()).isSameInstanceAs(digest);
+    assertThat(component.request().digest).isSameInstanceAs(digest);
+    assertThat(component.child().digest()).isSameInstanceAs(digest);
+    assertThat(component.formatter()).isSameInstanceAs(component.formatter());
+  }
+
+  @Test
+  public void differentInstancesOnDifferentThreads() throws Exception {
+    Digest digest = component.digest();
+    Formatter formatter = component.formatter();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Digest> otherDigest = executor.submit(component::digest);
+      Future<Formatter> otherFormatter = executor.submit(component::formatter);
+      assertThat(otherDigest.get()).isNotSameInstanceAs(digest);
+      assertThat(executor.submit(component::digest).get()).isSameInstanceAs(otherDigest.get());
+      assertThat(otherFormatter.get()).isNotSameInstanceAs(formatter);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void singletonBindsSharesFirstInstance() throws Exception {
+    Object shared = component.shared();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertThat(executor.submit(component::shared).get()).isSameInstanceAs(shared);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void separateComponentsHaveSeparateInstances() {
+    assertThat(DaggerThreadScopedTest_TestComponent.create().digest())
+        .isNotSameInstanceAs(component.digest());
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import androidx.room3.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableMap;
+import dagger.testing.compile.CompilerTests;
+import java.util.Collection;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class ComponentFootprintReportTest {
+  @Parameters(name = "{0}")
+  public static Collection<Object[]> parameters() {
+    return CompilerMode.TEST_PARAMETERS;
+  }
+
+  private static final Source FOO =
+      CompilerTests.javaSource(
+          "test.Foo",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "import javax.inject.Singleton;",
+          "",
+          "@Singleton",
+          "final class Foo {",
+          "  @Inject Foo() {}",
+          "}");
+
+  private static final Source BAR =
+      CompilerTests.javaSource(
+          "test.Bar",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "",
+          "final class Bar {",
+          "  @Inject Bar(Foo foo) {}",
+          "}");
+
+  private final CompilerMode compilerMode;
+
+  public ComponentFootprintReportTest(CompilerMode compilerMode) {
+    this.compilerMode = compilerMode;
+  }
+
+  @Test
+  public void reportsFrameworkObjectsByBinding() throws Exception {
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import javax.inject.Provider;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "@Component",
+            "interface TestComponent {",
+            "  Provider<Foo> foo();",
+            "  Provider<Bar> bar();",
+            "}");
+    CompilerTests.daggerCompiler(FOO, BAR, component)
+        .withProcessingOptions(compilerOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedTextResourceFileWithPath("test/DaggerTestComponent_Footprint.json")
+                  .contains(
+                      compilerMode == CompilerMode.FAST_INIT_MODE
+                          ? lines(
+                              "{",
+                              "  \"component\": \"test.DaggerTestComponent\",",
+                              "  \"estimatedShallowBytes\": 96,",
+                              "  \"shards\": [",
+                              "    {\"class\": \"TestComponentImpl\", \"fields\": 3,"
+                                  + " \"objects\": [], \"estimatedShallowBytes\": 24}",
+                              "  ],",
+                              "  \"bindings\": [",
+                              "    {\"key\": \"test.Foo\", \"owner\": \"TestComponentImpl\","
+                                  + " \"field\": \"fooProvider\", \"objects\":"
+                                  + " [{\"type\": \"DoubleCheck\", \"estimatedShallowBytes\": 24},"
+                                  + " {\"type\": \"SwitchingProvider\","
+                                  + " \"estimatedShallowBytes\": 24}],"
+                                  + " \"estimatedShallowBytes\": 48},",
+                              "    {\"key\": \"test.Bar\", \"owner\": \"TestComponentImpl\","
+                                  + " \"field\": \"barProvider\", \"objects\":"
+                                  + " [{\"type\": \"SwitchingProvider\","
+                                  + " \"estimatedShallowBytes\": 24}],"
+                                  + " \"estimatedShallowBytes\": 24}",
+                              "  ]",
+                              "}")
+                          : lines(
+                              "{",
+                              "  \"component\": \"test.DaggerTestComponent\",",
+                              "  \"estimatedShallowBytes\": 64,",
+                              "  \"shards\": [",
+                              "    {\"class\": \"TestComponentImpl\", \"fields\": 3,"
+                                  + " \"objects\": [], \"estimatedShallowBytes\": 24}",
+                              "  ],",
+                              "  \"bindings\": [",
+                              "    {\"key\": \"test.Foo\", \"owner\": \"TestComponentImpl\","
+                                  + " \"field\": \"fooProvider\", \"objects\":"
+                                  + " [{\"type\": \"DoubleCheck\", \"estimatedShallowBytes\": 24},"
+                                  + " {\"type\": \"Foo_Factory\", \"estimatedShallowBytes\": 0}],"
+                                  + " \"estimatedShallowBytes\": 24},",
+                              "    {\"key\": \"test.Bar\", \"owner\": \"TestComponentImpl\","
+                                  + " \"field\": \"barProvider\", \"objects\":"
+                                  + " [{\"type\": \"Bar_Factory\", \"estimatedShallowBytes\": 16}],"
+                                  + " \"estimatedShallowBytes\": 16}",
+                              "  ]",
+                              "}"));
+            });
+  }
+
+  @Test
+  public void multiboundMap() throws Exception {
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.multibindings.IntoMap;",
+            "import dagger.multibindings.StringKey;",
+            "",
+            "@Module",
+            "final class TestModule {",
+            "  @Provides @IntoMap @StringKey(\"one\") static Integer one() { return 1; }",
+            "  @Provides @IntoMap @StringKey(\"two\") static Integer two() { return 2; }",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import java.util.Map;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component(modules = TestModule.class)",
+            "interface TestComponent {",
+            "  Provider<Map<String, Integer>> map();",
+            "}");
+    CompilerTests.daggerCompiler(module, component)
+        .withProcessingOptions(compilerOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedTextResourceFileWithPath("test/DaggerTestComponent_Footprint.json")
+                  .contains(
+                      "{\"key\": \"java.util.Map<java.lang.String,java.lang.Integer>\"");
+              subject
+                  .generatedTextResourceFileWithPath("test/DaggerTestComponent_Footprint.json")
+                  .contains(
+                      compilerMode == CompilerMode.FAST_INIT_MODE
+                          ? "\"objects\": [{\"type\": \"SwitchingProvider\","
+                              + " \"estimatedShallowBytes\": 24}],"
+                              + " \"estimatedShallowBytes\": 24}"
+                          // The map's keys, hash codes and values are each held in an array of 2.
+                          : "\"objects\": [{\"type\": \"MapFactory\","
+                              + " \"estimatedShallowBytes\": 16},"
+                              + " {\"type\": \"ImmutableArrayMap\","
+                              + " \"estimatedShallowBytes\": 104}],"
+                              + " \"estimatedShallowBytes\": 120}");
+            });
+  }
+
+  @Test
+  public void includesSubcomponents() throws Exception {
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import javax.inject.Provider;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "@Component",
+            "interface TestComponent {",
+            "  Provider<Foo> foo();",
+            "  Child child();",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "test.Child",
+            "package test;",
+            "",
+            "import dagger.Subcomponent;",
+            "import javax.inject.Provider;",
+            "",
+            "@Subcomponent",
+            "interface Child {",
+            "  Provider<Bar> bar();",
+            "}");
+    CompilerTests.daggerCompiler(FOO, BAR, component, child)
+        .withProcessingOptions(compilerOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject
+                  .generatedTextResourceFileWithPath("test/DaggerTestComponent_Footprint.json")
+                  .contains(
+                      "{\"class\": \"ChildImpl\", \"fields\": 3, \"objects\": [],"
+                          + " \"estimatedShallowBytes\": 24}");
+              subject
+                  .generatedTextResourceFileWithPath("test/DaggerTestComponent_Footprint.json")
+                  .contains(
+                      "{\"key\": \"test.Bar\", \"owner\": \"ChildImpl\","
+                          + " \"field\": \"barProvider\"");
+            });
+  }
+
+  private ImmutableMap<String, String> compilerOptions() {
+    return ImmutableMap.<String, String>builder()
+        .putAll(compilerMode.processorOptions())
+        .put("dagger.componentFootprintReport", "ENABLED")
+        .buildOrThrow();
+  }
+
+  private static String lines(String... lines) {
+    return String.join("\n", lines);
+  }
+}
@@ -16,6 +16,7 @@
 
 package dagger.internal.codegen;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.stream.Collectors.joining;
 
 import androidx.room3.compiler.processing.util.Source;
@@ -23,9 +24,12 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import dagger.testing.compile.CompilerTests;
 import dagger.testing.golden.GoldenFileRule;
+import java.io.File;
+import java.nio.file.Files;
 import java.util.Arrays;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
@@ -40,6 +44,7 @@ public class ComponentShardTest {
   }
 
   @Rule public GoldenFileRule goldenFileRule = new GoldenFileRule();
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   private final CompilerMode compilerMode;
 
@@ -153,6 +158,106 @@ public class ComponentShardTest {
             });
   }
 
+  @Test
+  public void testLazyShards() throws Exception {
+    ImmutableList.Builder<Source> sources = ImmutableList.builder();
+    sources.add(
+        createBinding("Binding1"),
+        createBinding("Binding2"),
+        CompilerTests.javaSource(
+            "dagger.internal.codegen.Binding3",
+            "package dagger.internal.codegen;",
+            "",
+            "class Binding3 {}"),
+        CompilerTests.javaSource(
+            "dagger.internal.codegen.Dependency",
+            "package dagger.internal.codegen;",
+            "",
+            "interface Dependency {",
+            "  Binding3 binding3();",
+            "}"),
+        CompilerTests.javaSource(
+            "dagger.internal.codegen.TestComponent",
+            "package dagger.internal.codegen;",
+            "",
+            "import dagger.Component;",
+            "import javax.inject.Provider;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "@Component(dependencies = Dependency.class)",
+            "interface TestComponent {",
+            "  Binding1 binding1();",
+            "  Binding2 binding2();",
+            "  Binding3 binding3();",
+            "  Provider<Binding1> providerBinding1();",
+            "  Provider<Binding2> providerBinding2();",
+            "  Provider<Binding3> providerBinding3();",
+            "}"));
+
+    CompilerTests.daggerCompiler(sources.build())
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerOptions())
+                .put("dagger.lazyComponentShards", "ENABLED")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(
+                  goldenFileRule.goldenSource("dagger/internal/codegen/DaggerTestComponent"));
+            });
+  }
+
+  @Test
+  public void testStartupProfile() throws Exception {
+    // Binding3 is listed in the profile, so it and its dependency, Binding1, are put in the
+    // component shard and in their own SwitchingProvider, and their entry points come first.
+    ImmutableList.Builder<Source> sources = ImmutableList.builder();
+    sources.add(
+        createBinding("Binding1"),
+        createBinding("Binding2"),
+        createBinding("Binding3", "Binding1 binding1"),
+        createBinding("Binding4"),
+        CompilerTests.javaSource(
+            "dagger.internal.codegen.TestComponent",
+            "package dagger.internal.codegen;",
+            "",
+            "import dagger.Component;",
+            "import javax.inject.Provider;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Singleton",
+            "@Component",
+            "interface TestComponent {",
+            "  Binding1 binding1();",
+            "  Binding2 binding2();",
+            "  Binding3 binding3();",
+            "  Binding4 binding4();",
+            "  Provider<Binding1> providerBinding1();",
+            "  Provider<Binding2> providerBinding2();",
+            "  Provider<Binding3> providerBinding3();",
+            "  Provider<Binding4> providerBinding4();",
+            "}"));
+    File profile = temporaryFolder.newFile("startup-profile.txt");
+    Files.write(
+        profile.toPath(),
+        "# Recorded by StartupProfileRecorder\ndagger.internal.codegen.Binding3\n".getBytes(UTF_8));
+
+    CompilerTests.daggerCompiler(sources.build())
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerOptions())
+                .put("dagger.startupProfile", profile.getAbsolutePath())
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(
+                  goldenFileRule.goldenSource("dagger/internal/codegen/DaggerTestComponent"));
+            });
+  }
+
   @Test
   public void testNewShardSubcomponentCreated() throws Exception {
     ImmutableList.Builder<Source> sources = ImmutableList.builder();
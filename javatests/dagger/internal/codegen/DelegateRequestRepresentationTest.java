@@ -175,6 +175,39 @@ public class DelegateRequestRepresentationTest {
             });
   }
 
+  @Test
+  public void toThreadLocalCheck() throws Exception {
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Binds;",
+            "import dagger.Module;",
+            "import dagger.ThreadScoped;",
+            "",
+            "@Module",
+            "interface TestModule {",
+            "  @Binds @ThreadScoped @Qualifier(RegularScoped.class)",
+            "  Object regular(RegularScoped delegate);",
+            "",
+            "  @Binds @ThreadScoped @Qualifier(ReusableScoped.class)",
+            "  Object reusable(ReusableScoped delegate);",
+            "",
+            "  @Binds @ThreadScoped @Qualifier(Unscoped.class)",
+            "  Object unscoped(Unscoped delegate);",
+            "}");
+
+    CompilerTests.daggerCompiler(
+            module, COMPONENT, QUALIFIER, REGULAR_SCOPED, REUSABLE_SCOPED, UNSCOPED)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
   @Test
   public void toUnscoped() throws Exception {
     Source module =
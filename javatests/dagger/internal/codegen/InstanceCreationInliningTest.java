@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import androidx.room3.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import dagger.testing.compile.CompilerTests;
+import dagger.testing.golden.GoldenFileRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class InstanceCreationInliningTest {
+  @Parameters(name = "{0}")
+  public static ImmutableList<Object[]> parameters() {
+    return CompilerMode.TEST_PARAMETERS;
+  }
+
+  @Rule public GoldenFileRule goldenFileRule = new GoldenFileRule();
+
+  private static final Source LEAF =
+      CompilerTests.javaSource(
+          "test.Leaf",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "",
+          "final class Leaf {",
+          "  @Inject Leaf() {}",
+          "}");
+
+  private static final Source BOTTOM =
+      CompilerTests.javaSource(
+          "test.Bottom",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "",
+          "final class Bottom {",
+          "  @Inject Bottom(Leaf leaf) {}",
+          "}");
+
+  private static final Source MIDDLE =
+      CompilerTests.javaSource(
+          "test.Middle",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "",
+          "final class Middle {",
+          "  @Inject Middle(Leaf leaf, Bottom bottom) {}",
+          "}");
+
+  private static final Source SHARED =
+      CompilerTests.javaSource(
+          "test.Shared",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "import javax.inject.Singleton;",
+          "",
+          "@Singleton",
+          "final class Shared {",
+          "  @Inject Shared(Leaf leaf) {}",
+          "}");
+
+  private static final Source ROOT =
+      CompilerTests.javaSource(
+          "test.Root",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "import javax.inject.Provider;",
+          "",
+          "final class Root {",
+          "  @Inject",
+          "  Root(",
+          "      Middle middle,",
+          "      Bottom bottom,",
+          "      Shared shared,",
+          "      Provider<Leaf> leafProvider,",
+          "      String name) {}",
+          "}");
+
+  private static final Source BIG =
+      CompilerTests.javaSource(
+          "test.Big",
+          "package test;",
+          "",
+          "import javax.inject.Inject;",
+          "",
+          "final class Big {",
+          "  @Inject Big(Root root1, Root root2, Root root3) {}",
+          "}");
+
+  private static final Source MODULE =
+      CompilerTests.javaSource(
+          "test.TestModule",
+          "package test;",
+          "",
+          "import dagger.Module;",
+          "import dagger.Provides;",
+          "",
+          "@Module",
+          "final class TestModule {",
+          "  @Provides",
+          "  String name(Leaf leaf) {",
+          "    return \"name\";",
+          "  }",
+          "}");
+
+  private static final Source COMPONENT =
+      CompilerTests.javaSource(
+          "test.TestComponent",
+          "package test;",
+          "",
+          "import dagger.Component;",
+          "import javax.inject.Singleton;",
+          "",
+          "@Singleton",
+          "@Component(modules = TestModule.class)",
+          "interface TestComponent {",
+          "  Root root();",
+          "",
+          "  Big big();",
+          "}");
+
+  private static final ImmutableList<Source> SOURCES =
+      ImmutableList.of(LEAF, BOTTOM, MIDDLE, SHARED, ROOT, BIG, MODULE, COMPONENT);
+
+  private final CompilerMode compilerMode;
+
+  public InstanceCreationInliningTest(CompilerMode compilerMode) {
+    this.compilerMode = compilerMode;
+  }
+
+  @Test
+  public void inlinesCreationWithinBudget() throws Exception {
+    CompilerTests.daggerCompiler(SOURCES)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.inlineInstanceCreationBudget", "40")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasWarningCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
+  @Test
+  public void invalidBudget() throws Exception {
+    CompilerTests.daggerCompiler(SOURCES)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.inlineInstanceCreationBudget", "-1")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining(
+                  "Processor option -Adagger.inlineInstanceCreationBudget must be a positive "
+                      + "integer, found: -1");
+            });
+  }
+}
@@ -675,6 +675,99 @@ public class MembersInjectionTest {
             });
   }
 
+  @Test
+  public void fusedMembersInjection() {
+    Source foo =
+        CompilerTests.javaSource(
+            "test.Foo",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "class Foo {",
+            "  @Inject Foo() {}",
+            "}");
+    Source parent =
+        CompilerTests.javaSource(
+            "other.Parent",
+            "package other;",
+            "",
+            "import javax.inject.Inject;",
+            "import javax.inject.Provider;",
+            "",
+            "public class Parent {",
+            "  @Inject public Provider<String> stringProvider;",
+            "  @Inject protected String protectedString;",
+            "",
+            "  @Inject",
+            "  public void init(String string) {}",
+            "}");
+    Source child =
+        CompilerTests.javaSource(
+            "test.Child",
+            "package test;",
+            "",
+            "import dagger.Lazy;",
+            "import javax.inject.Inject;",
+            "",
+            "class Child extends other.Parent {",
+            "  @Inject Foo foo;",
+            "  @Inject Lazy<String> lazyString;",
+            "",
+            "  @Inject",
+            "  void setFoo(Foo foo, String string) {}",
+            "",
+            "  @Inject",
+            "  void overloaded(String string) {}",
+            "",
+            "  @Inject",
+            "  void overloaded(Object object) {}",
+            "}");
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Binds;",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "",
+            "@Module",
+            "interface TestModule {",
+            "  @Provides",
+            "  static String string() {",
+            "    return \"string\";",
+            "  }",
+            "",
+            "  @Binds",
+            "  Object object(String string);",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component(modules = TestModule.class)",
+            "interface TestComponent {",
+            "  void inject(Child child);",
+            "}");
+
+    CompilerTests.daggerCompiler(foo, parent, child, module, component)
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.fusedMembersInjection", "enabled")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/Child_MembersInjector"));
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
   @Test public void privateNestedClassError() {
     Source file =
         CompilerTests.javaSource(
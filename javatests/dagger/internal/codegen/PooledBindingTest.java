@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.internal.codegen;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import androidx.room3.compiler.processing.util.Source;
+import com.google.common.collect.ImmutableList;
+import dagger.testing.compile.CompilerTests;
+import dagger.testing.golden.GoldenFileRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+@RunWith(Parameterized.class)
+public class PooledBindingTest {
+  @Parameters(name = "{0}")
+  public static ImmutableList<Object[]> parameters() {
+    return CompilerMode.TEST_PARAMETERS;
+  }
+
+  @Rule public GoldenFileRule goldenFileRule = new GoldenFileRule();
+
+  private static final Source PARSER =
+      CompilerTests.javaSource(
+          "test.Parser",
+          "package test;",
+          "",
+          "import dagger.pooling.Pooled;",
+          "import javax.inject.Inject;",
+          "",
+          "@Pooled(maxSize = 4)",
+          "final class Parser {",
+          "  @Inject Parser() {}",
+          "}");
+
+  private final CompilerMode compilerMode;
+
+  public PooledBindingTest(CompilerMode compilerMode) {
+    this.compilerMode = compilerMode;
+  }
+
+  @Test
+  public void pooledBindings() throws Exception {
+    Source buffer =
+        CompilerTests.javaSource(
+            "test.Buffer",
+            "package test;",
+            "",
+            "final class Buffer {}");
+    Source handler =
+        CompilerTests.javaSource(
+            "test.Handler",
+            "package test;",
+            "",
+            "import javax.inject.Inject;",
+            "",
+            "final class Handler {",
+            "  @Inject Handler(Parser parser, Buffer buffer) {}",
+            "}");
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.pooling.Pooled;",
+            "",
+            "@Module",
+            "final class TestModule {",
+            "  @Provides",
+            "  @Pooled",
+            "  static Buffer buffer() {",
+            "    return new Buffer();",
+            "  }",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import dagger.pooling.Releaser;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component(modules = TestModule.class)",
+            "interface TestComponent {",
+            "  Handler handler();",
+            "",
+            "  Provider<Parser> parsers();",
+            "",
+            "  Releaser<Parser> parserReleaser();",
+            "",
+            "  Releaser<Buffer> bufferReleaser();",
+            "}");
+
+    CompilerTests.daggerCompiler(PARSER, buffer, handler, module, component)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasWarningCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
+
+  // Releaser has no generated factory, so a Provider<Releaser<T>> must call its constructor
+  // directly rather than generating dagger.pooling.Releaser_Factory into every component.
+  @Test
+  public void releaserProvider_doesNotGenerateFactory() {
+    Source component =
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import dagger.pooling.Releaser;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component",
+            "interface TestComponent {",
+            "  Provider<Releaser<Parser>> parserReleasers();",
+            "}");
+
+    CompilerTests.daggerCompiler(PARSER, component)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasWarningCount(0);
+              subject.generatedSourceFileWithPath("test/DaggerTestComponent.java");
+              AssertionError error =
+                  assertThrows(
+                      AssertionError.class,
+                      () ->
+                          subject.generatedSourceFileWithPath(
+                              "dagger/pooling/Releaser_Factory.java"));
+              assertThat(error).hasMessageThat().contains("Didn't generate file");
+            });
+  }
+
+  @Test
+  public void scopedPooledType() {
+    Source scopedParser =
+        CompilerTests.javaSource(
+            "test.Parser",
+            "package test;",
+            "",
+            "import dagger.pooling.Pooled;",
+            "import javax.inject.Inject;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Pooled",
+            "@Singleton",
+            "final class Parser {",
+            "  @Inject Parser() {}",
+            "}");
+    CompilerTests.daggerCompiler(scopedParser)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining("A @Pooled type cannot be scoped")
+                  .onSource(scopedParser)
+                  .onLineContaining("@Pooled");
+            });
+  }
+
+  @Test
+  public void nonPositiveMaxSize() {
+    Source parser =
+        CompilerTests.javaSource(
+            "test.Parser",
+            "package test;",
+            "",
+            "import dagger.pooling.Pooled;",
+            "import javax.inject.Inject;",
+            "",
+            "@Pooled(maxSize = 0)",
+            "final class Parser {",
+            "  @Inject Parser() {}",
+            "}");
+    CompilerTests.daggerCompiler(parser)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining("@Pooled maxSize must be positive")
+                  .onSource(parser)
+                  .onLineContaining("@Pooled");
+            });
+  }
+
+  @Test
+  public void pooledBindsMethod() {
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Binds;",
+            "import dagger.Module;",
+            "import dagger.pooling.Pooled;",
+            "",
+            "@Module",
+            "interface TestModule {",
+            "  @Binds",
+            "  @Pooled",
+            "  Object bindParser(Parser parser);",
+            "}");
+    CompilerTests.daggerCompiler(PARSER, module)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining("@Binds methods cannot be @Pooled")
+                  .onSource(module)
+                  .onLineContaining("@Pooled");
+            });
+  }
+
+  @Test
+  public void scopedPooledProvidesMethod() {
+    Source module =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.pooling.Pooled;",
+            "import javax.inject.Singleton;",
+            "",
+            "@Module",
+            "final class TestModule {",
+            "  @Provides",
+            "  @Pooled",
+            "  @Singleton",
+            "  static Object provideObject() {",
+            "    return new Object();",
+            "  }",
+            "}");
+    CompilerTests.daggerCompiler(module)
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining("@Provides methods cannot be both scoped and @Pooled")
+                  .onSource(module)
+                  .onLineContaining("@Pooled");
+            });
+  }
+}
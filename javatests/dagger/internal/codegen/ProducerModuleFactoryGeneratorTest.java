@@ -23,6 +23,7 @@ import androidx.room3.compiler.processing.util.Source;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ListenableFuture;
+import dagger.producers.Timeout;
 import dagger.testing.compile.CompilerTests;
 import dagger.testing.compile.CompilerTests.DaggerCompiler;
 import dagger.testing.golden.GoldenFileRule;
@@ -447,6 +448,131 @@ public class ProducerModuleFactoryGeneratorTest {
             });
   }
 
+  @Test
+  public void producesMethodWithDirectExecution() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.producers.DirectExecution;",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces",
+            "  @DirectExecution",
+            "  static String produceString(int length) {",
+            "    return String.valueOf(length);",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(
+                  goldenFileRule.goldenSource("test/TestModule_ProduceStringFactory"));
+            });
+  }
+
+  @Test
+  public void providesMethodWithDirectExecution() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.producers.DirectExecution;",
+            "",
+            "@Module",
+            "final class TestModule {",
+            "  @Provides",
+            "  @DirectExecution",
+            "  static String provideString() {",
+            "    return \"\";",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject
+                  .hasErrorContaining("@Provides methods cannot be @DirectExecution")
+                  .onSource(moduleFile)
+                  .onLine(10);
+            });
+  }
+
+  @Test
+  public void producesMethodWithTimeout() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.producers.ProducerModule;",
+            "import dagger.producers.Produces;",
+            "import dagger.producers.Timeout;",
+            "import java.util.concurrent.TimeUnit;",
+            "",
+            "@ProducerModule",
+            "final class TestModule {",
+            "  @Produces",
+            "  @Timeout(value = 5, unit = TimeUnit.SECONDS)",
+            "  static String produceString(int length) {",
+            "    return String.valueOf(length);",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.generatedSource(
+                  goldenFileRule.goldenSource("test/TestModule_ProduceStringFactory"));
+            });
+  }
+
+  @Test
+  public void providesMethodWithTimeout() {
+    Source moduleFile =
+        CompilerTests.javaSource(
+            "test.TestModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.producers.Timeout;",
+            "",
+            "@Module",
+            "final class TestModule {",
+            "  @Provides",
+            "  @Timeout(100)",
+            "  static String provideString() {",
+            "    return \"\";",
+            "  }",
+            "}");
+    daggerCompiler(moduleFile)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject
+                  .hasErrorContaining("@Provides methods cannot be @Timeout")
+                  .onSource(moduleFile)
+                  .onLine(10);
+            });
+  }
+
+  @Test
+  public void producesMethodWithNonPositiveTimeout() {
+    assertThatProductionModuleMethod(
+            "@Produces @Timeout(0) static String produceString() { return null; }")
+        .importing(Timeout.class)
+        .hasError("@Timeout value must be positive");
+  }
+
   @Test
   public void producesMethodMultipleQualifiersOnMethod() {
     assertThatProductionModuleMethod(
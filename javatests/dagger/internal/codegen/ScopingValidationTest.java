@@ -940,4 +940,76 @@ public class ScopingValidationTest {
                   .onLine(6);
             });
   }
+
+  @Test
+  public void threadScopedNotAllowedOnComponent() {
+    Source someComponent =
+        CompilerTests.javaSource(
+            "test.SomeComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import dagger.ThreadScoped;",
+            "",
+            "@ThreadScoped",
+            "@Component",
+            "interface SomeComponent {}");
+    CompilerTests.daggerCompiler(someComponent)
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining(
+                      "@ThreadScoped cannot be applied to components or subcomponents")
+                  .onSource(someComponent)
+                  .onLine(6);
+            });
+  }
+
+  @Test
+  public void threadScopedBindingsAllowedInAnyComponent() {
+    Source threadScoped =
+        CompilerTests.javaSource(
+            "test.ThreadScopedType",
+            "package test;",
+            "",
+            "import dagger.ThreadScoped;",
+            "import javax.inject.Inject;",
+            "",
+            "@ThreadScoped",
+            "final class ThreadScopedType {",
+            "  @Inject ThreadScopedType() {}",
+            "}");
+    Source module =
+        CompilerTests.javaSource(
+            "test.ThreadScopedModule",
+            "package test;",
+            "",
+            "import dagger.Module;",
+            "import dagger.Provides;",
+            "import dagger.ThreadScoped;",
+            "",
+            "@Module",
+            "final class ThreadScopedModule {",
+            "  @Provides",
+            "  @ThreadScoped",
+            "  static String provideString() {",
+            "    return \"\";",
+            "  }",
+            "}");
+    Source component =
+        CompilerTests.javaSource(
+            "test.UnscopedComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "",
+            "@Component(modules = ThreadScopedModule.class)",
+            "interface UnscopedComponent {",
+            "  ThreadScopedType threadScopedType();",
+            "",
+            "  String string();",
+            "}");
+    CompilerTests.daggerCompiler(threadScoped, module, component)
+        .compile(subject -> subject.hasErrorCount(0));
+  }
 }
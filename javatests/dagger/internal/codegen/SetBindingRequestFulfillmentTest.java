@@ -100,6 +100,40 @@ public class SetBindingRequestFulfillmentTest {
         .hasSourceEquivalentTo(goldenFileRule.goldenFile("test.DaggerTestComponent"));
   }
 
+  @Test
+  public void individualContributionsOnly() throws Exception {
+    JavaFileObject setModuleFile = JavaFileObjects.forSourceLines("test.SetModule",
+        "package test;",
+        "",
+        "import dagger.Module;",
+        "import dagger.Provides;",
+        "import dagger.multibindings.IntoSet;",
+        "",
+        "@Module",
+        "final class SetModule {",
+        "  @Provides @IntoSet static String first() { return \"first\"; }",
+        "  @Provides @IntoSet static String second() { return \"second\"; }",
+        "  @Provides @IntoSet static String third() { return \"third\"; }",
+        "}");
+    JavaFileObject componentFile = JavaFileObjects.forSourceLines("test.TestComponent",
+        "package test;",
+        "",
+        "import dagger.Component;",
+        "import java.util.Set;",
+        "",
+        "@Component(modules = SetModule.class)",
+        "interface TestComponent {",
+        "  Set<String> strings();",
+        "}");
+
+    Compilation compilation =
+        daggerCompilerWithoutGuava().compile(setModuleFile, componentFile);
+    assertThat(compilation).succeeded();
+    assertThat(compilation)
+        .generatedSourceFile("test.DaggerTestComponent")
+        .hasSourceEquivalentTo(goldenFileRule.goldenFile("test.DaggerTestComponent"));
+  }
+
   @Test
   public void inaccessible() throws Exception {
     JavaFileObject inaccessible =
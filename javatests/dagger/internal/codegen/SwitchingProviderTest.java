@@ -18,6 +18,7 @@ package dagger.internal.codegen;
 
 import androidx.room3.compiler.processing.util.Source;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import dagger.testing.compile.CompilerTests;
 import dagger.testing.golden.GoldenFileRule;
 import org.junit.Rule;
@@ -43,39 +44,41 @@ public class SwitchingProviderTest {
 
   @Test
   public void switchingProviderTest() throws Exception {
-    ImmutableList.Builder<Source> sources = ImmutableList.builder();
-    StringBuilder entryPoints = new StringBuilder();
-    for (int i = 0; i <= 100; i++) {
-      String bindingName = "Binding" + i;
-      sources.add(
-          CompilerTests.javaSource(
-              "test." + bindingName,
-              "package test;",
-              "",
-              "import javax.inject.Inject;",
-              "",
-              "final class " + bindingName + " {",
-              "  @Inject",
-              "  " + bindingName + "() {}",
-              "}"));
-      entryPoints.append(String.format("  Provider<%1$s> get%1$sProvider();\n", bindingName));
-    }
+    CompilerTests.daggerCompiler(bindingsWithProviderEntryPoints(101))
+        .withProcessingOptions(compilerMode.processorOptions())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasWarningCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
 
-    sources.add(
-        CompilerTests.javaSource(
-            "test.TestComponent",
-            "package test;",
-            "",
-            "import dagger.Component;",
-            "import javax.inject.Provider;",
-            "",
-            "@Component",
-            "interface TestComponent {",
-            entryPoints.toString(),
-            "}"));
+  @Test
+  public void customCasesPerSwitch() throws Exception {
+    CompilerTests.daggerCompiler(bindingsWithProviderEntryPoints(5))
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.switchingProviderCasesPerSwitch", "2")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(0);
+              subject.hasWarningCount(0);
+              subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
+            });
+  }
 
-    CompilerTests.daggerCompiler(sources.build())
-        .withProcessingOptions(compilerMode.processorOptions())
+  @Test
+  public void flatDispatch() throws Exception {
+    CompilerTests.daggerCompiler(bindingsWithProviderEntryPoints(5))
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.switchingProviderCasesPerSwitch", "2")
+                .put("dagger.switchingProviderDispatch", "flat")
+                .buildOrThrow())
         .compile(
             subject -> {
               subject.hasErrorCount(0);
@@ -84,6 +87,23 @@ public class SwitchingProviderTest {
             });
   }
 
+  @Test
+  public void invalidCasesPerSwitch() throws Exception {
+    CompilerTests.daggerCompiler(bindingsWithProviderEntryPoints(1))
+        .withProcessingOptions(
+            ImmutableMap.<String, String>builder()
+                .putAll(compilerMode.processorOptions())
+                .put("dagger.switchingProviderCasesPerSwitch", "0")
+                .buildOrThrow())
+        .compile(
+            subject -> {
+              subject.hasErrorCount(1);
+              subject.hasErrorContaining(
+                  "Processor option -Adagger.switchingProviderCasesPerSwitch must be a positive "
+                      + "integer, found: 0");
+            });
+  }
+
   @Test
   public void unscopedBinds() throws Exception {
     Source module =
@@ -304,4 +324,42 @@ public class SwitchingProviderTest {
               subject.generatedSource(goldenFileRule.goldenSource("test/DaggerTestComponent"));
             });
   }
+
+  /**
+   * Returns {@code count} classes with {@code @Inject} constructors and a component with a {@code
+   * Provider} entry point for each.
+   */
+  private static ImmutableList<Source> bindingsWithProviderEntryPoints(int count) {
+    ImmutableList.Builder<Source> sources = ImmutableList.builder();
+    StringBuilder entryPoints = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      String bindingName = "Binding" + i;
+      sources.add(
+          CompilerTests.javaSource(
+              "test." + bindingName,
+              "package test;",
+              "",
+              "import javax.inject.Inject;",
+              "",
+              "final class " + bindingName + " {",
+              "  @Inject",
+              "  " + bindingName + "() {}",
+              "}"));
+      entryPoints.append(String.format("  Provider<%1$s> get%1$sProvider();\n", bindingName));
+    }
+
+    sources.add(
+        CompilerTests.javaSource(
+            "test.TestComponent",
+            "package test;",
+            "",
+            "import dagger.Component;",
+            "import javax.inject.Provider;",
+            "",
+            "@Component",
+            "interface TestComponent {",
+            entryPoints.toString(),
+            "}"));
+    return sources.build();
+  }
 }
@@ -21,6 +21,7 @@ import static org.junit.Assert.fail;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import dagger.producers.Producer;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -57,6 +58,57 @@ public class AbstractProducerTest {
     assertThat(producer.get().get()).isEqualTo(0);
   }
 
+  @Test
+  public void dependencyView_requestedWhilePending_cancelsWithoutCancellingNode() {
+    SettableFuture<Integer> delegate = SettableFuture.create();
+    DelegateProducer<Integer> producer = new DelegateProducer<>(delegate);
+    ListenableFuture<Integer> view = producer.newDependencyView().get();
+
+    assertThat(view).isNotSameInstanceAs(producer.get());
+    assertThat(view.cancel(true)).isTrue();
+    assertThat(producer.get().isCancelled()).isFalse();
+    assertThat(delegate.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void dependencyView_requestedAfterNodeIsDone_usesNodeFuture() throws Exception {
+    DelegateProducer<Integer> producer = new DelegateProducer<>(Futures.immediateFuture(1));
+    ListenableFuture<Integer> node = producer.get();
+
+    ListenableFuture<Integer> view = producer.newDependencyView().get();
+
+    assertThat(view).isSameInstanceAs(node);
+    assertThat(view.cancel(true)).isFalse();
+    assertThat(view.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void entryPointView_cancelled_notifiesListener() {
+    DelegateProducer<Integer> producer =
+        new DelegateProducer<>(SettableFuture.<Integer>create());
+    boolean[] cancelled = new boolean[1];
+    ListenableFuture<Integer> view =
+        producer.newEntryPointView(mayInterruptIfRunning -> cancelled[0] = true).get();
+
+    view.cancel(false);
+
+    assertThat(cancelled[0]).isTrue();
+    assertThat(producer.get().isCancelled()).isFalse();
+  }
+
+  @Test
+  public void cancel_cancelsNodeAndPendingDelegate() {
+    SettableFuture<Integer> delegate = SettableFuture.create();
+    DelegateProducer<Integer> producer = new DelegateProducer<>(delegate);
+    ListenableFuture<Integer> view = producer.newDependencyView().get();
+
+    producer.cancel(true);
+
+    assertThat(producer.get().isCancelled()).isTrue();
+    assertThat(delegate.isCancelled()).isTrue();
+    assertThat(view.isCancelled()).isTrue();
+  }
+
   static final class DelegateProducer<T> extends AbstractProducer<T> {
     private final ListenableFuture<T> delegate;
 
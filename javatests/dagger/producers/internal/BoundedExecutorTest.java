@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class BoundedExecutorTest {
+  /** An executor that queues the workers it is given until the test runs them. */
+  private static final class QueueingExecutor implements Executor {
+    final Queue<Runnable> workers = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable worker) {
+      workers.add(worker);
+    }
+  }
+
+  private final QueueingExecutor delegate = new QueueingExecutor();
+  private final List<Integer> ran = new ArrayList<>();
+
+  @Test
+  public void startsAtMostMaxConcurrencyWorkers() {
+    BoundedExecutor executor = new BoundedExecutor(delegate, 2);
+    for (int i = 0; i < 5; i++) {
+      int task = i;
+      executor.execute(() -> ran.add(task));
+    }
+
+    assertThat(delegate.workers).hasSize(2);
+    delegate.workers.remove().run();
+    assertThat(ran).containsExactly(0, 1, 2, 3, 4).inOrder();
+    delegate.workers.remove().run();
+    assertThat(ran).hasSize(5);
+  }
+
+  @Test
+  public void startsNewWorkerAfterWorkersFinish() {
+    BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+    executor.execute(() -> ran.add(0));
+    delegate.workers.remove().run();
+
+    executor.execute(() -> ran.add(1));
+
+    assertThat(delegate.workers).hasSize(1);
+    delegate.workers.remove().run();
+    assertThat(ran).containsExactly(0, 1).inOrder();
+  }
+
+  @Test
+  public void taskThrows_workerContinues() {
+    BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+    executor.execute(
+        () -> {
+          throw new IllegalStateException("expected");
+        });
+    executor.execute(() -> ran.add(1));
+
+    delegate.workers.remove().run();
+
+    assertThat(ran).containsExactly(1);
+    executor.execute(() -> ran.add(2));
+    assertThat(delegate.workers).hasSize(1);
+  }
+
+  @Test
+  public void taskThrowsError_releasesWorker() {
+    BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+    executor.execute(
+        () -> {
+          throw new AssertionError("expected");
+        });
+    executor.execute(() -> ran.add(1));
+
+    assertThrows(AssertionError.class, () -> delegate.workers.remove().run());
+
+    assertThat(ran).isEmpty();
+    executor.execute(() -> ran.add(2));
+    assertThat(delegate.workers).hasSize(1);
+    delegate.workers.remove().run();
+    assertThat(ran).containsExactly(1, 2).inOrder();
+  }
+
+  @Test
+  public void delegateRejects_throwsAndReleasesWorker() {
+    Executor rejecting =
+        task -> {
+          throw new RejectedExecutionException();
+        };
+    BoundedExecutor executor = new BoundedExecutor(rejecting, 1);
+
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran.add(0)));
+    assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran.add(1)));
+    assertThat(ran).isEmpty();
+  }
+
+  @Test
+  public void maxConcurrencyNotPositive_throws() {
+    assertThrows(IllegalArgumentException.class, () -> new BoundedExecutor(delegate, 0));
+  }
+}
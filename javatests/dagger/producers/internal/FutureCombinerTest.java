@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class FutureCombinerTest {
+  /** Combines its inputs into a list of their values, counting the calls to combine(). */
+  private static final class ListCombiner extends FutureCombiner<List<Object>> {
+    int combineCalls;
+
+    ListCombiner(List<? extends ListenableFuture<?>> inputs, boolean allMustSucceed) {
+      super(new ProducerFuture<List<Object>>(), inputs, allMustSucceed);
+    }
+
+    @Override
+    List<Object> combine() throws ExecutionException {
+      combineCalls++;
+      ImmutableList.Builder<Object> values = ImmutableList.builder();
+      for (ListenableFuture<?> input : inputs()) {
+        values.add(Futures.getDone(input));
+      }
+      return values.build();
+    }
+  }
+
+  @Test
+  public void noInputs_combinesImmediately() throws Exception {
+    ListCombiner combiner = new ListCombiner(ImmutableList.<ListenableFuture<?>>of(), true);
+
+    assertThat(Futures.getDone(combiner.start())).isEmpty();
+    assertThat(combiner.combineCalls).isEqualTo(1);
+  }
+
+  @Test
+  public void doneInputs_combinesImmediately() throws Exception {
+    ListCombiner combiner =
+        new ListCombiner(
+            ImmutableList.of(Futures.immediateFuture(1), Futures.immediateFuture("two")), true);
+
+    assertThat(Futures.getDone(combiner.start())).containsExactly(1, "two").inOrder();
+    assertThat(combiner.combineCalls).isEqualTo(1);
+  }
+
+  @Test
+  public void pendingInputs_combinesOnceAllAreDone() throws Exception {
+    SettableFuture<Integer> first = SettableFuture.create();
+    SettableFuture<Integer> second = SettableFuture.create();
+    ListCombiner combiner =
+        new ListCombiner(ImmutableList.of(first, Futures.immediateFuture(2), second), true);
+    ListenableFuture<List<Object>> future = combiner.start();
+
+    second.set(3);
+    assertThat(future.isDone()).isFalse();
+    first.set(1);
+
+    assertThat(Futures.getDone(future)).containsExactly(1, 2, 3).inOrder();
+    assertThat(combiner.combineCalls).isEqualTo(1);
+  }
+
+  @Test
+  public void allMustSucceed_failsAsSoonAsOneInputFails() {
+    SettableFuture<Integer> pending = SettableFuture.create();
+    SettableFuture<Integer> failing = SettableFuture.create();
+    ListCombiner combiner = new ListCombiner(ImmutableList.of(pending, failing), true);
+    ListenableFuture<List<Object>> future = combiner.start();
+    IllegalStateException failure = new IllegalStateException("expected");
+
+    failing.setException(failure);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> Futures.getDone(future));
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+    assertThat(pending.isCancelled()).isFalse();
+
+    pending.set(1);
+    assertThat(combiner.combineCalls).isEqualTo(0);
+  }
+
+  @Test
+  public void allMustSucceed_inputCancelled_cancels() {
+    SettableFuture<Integer> pending = SettableFuture.create();
+    ListCombiner combiner =
+        new ListCombiner(
+            ImmutableList.of(pending, Futures.<Integer>immediateCancelledFuture()), true);
+
+    assertThat(combiner.start().isCancelled()).isTrue();
+    assertThat(pending.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void notAllMustSucceed_waitsForAllInputs() throws Exception {
+    SettableFuture<Integer> pending = SettableFuture.create();
+    FutureCombiner<Integer> combiner =
+        new FutureCombiner<Integer>(
+            new ProducerFuture<Integer>(),
+            ImmutableList.of(
+                pending, Futures.<Integer>immediateFailedFuture(new IllegalStateException())),
+            false) {
+          @Override
+          Integer combine() {
+            return inputs().size();
+          }
+        };
+    ListenableFuture<Integer> future = combiner.start();
+    assertThat(future.isDone()).isFalse();
+
+    pending.set(1);
+
+    assertThat(Futures.getDone(future)).isEqualTo(2);
+  }
+
+  @Test
+  public void combineThrows_fails() {
+    SettableFuture<Integer> pending = SettableFuture.create();
+    NullPointerException failure = new NullPointerException("null element");
+    FutureCombiner<Integer> combiner =
+        new FutureCombiner<Integer>(
+            new ProducerFuture<Integer>(), ImmutableList.of(pending), true) {
+          @Override
+          Integer combine() {
+            throw failure;
+          }
+        };
+    ListenableFuture<Integer> future = combiner.start();
+
+    pending.set(null);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> Futures.getDone(future));
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+  }
+
+  @Test
+  public void cancelledBeforeInputsComplete_doesNotCombine() {
+    SettableFuture<Integer> pending = SettableFuture.create();
+    ListCombiner combiner = new ListCombiner(ImmutableList.of(pending), true);
+    ProducerFuture<List<Object>> future = combiner.start();
+
+    future.doCancel(false);
+    pending.set(1);
+
+    assertThat(future.isCancelled()).isTrue();
+    assertThat(combiner.combineCalls).isEqualTo(0);
+  }
+}
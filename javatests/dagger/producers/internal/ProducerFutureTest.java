@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 The Dagger Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dagger.producers.internal;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public final class ProducerFutureTest {
+  /** A pending future that records whether it was cancelled with interruption. */
+  private static final class PendingFuture<T> extends AbstractFuture<T> {
+    boolean interrupted() {
+      return wasInterrupted();
+    }
+  }
+
+  private final ProducerFuture<String> future = new ProducerFuture<>();
+
+  @Test
+  public void completeWith_doneInput_copiesValue() throws Exception {
+    future.completeWith(Futures.immediateFuture("value"));
+
+    assertThat(Futures.getDone(future)).isEqualTo("value");
+  }
+
+  @Test
+  public void completeWith_doneInput_copiesFailure() {
+    IllegalStateException failure = new IllegalStateException("expected");
+    future.completeWith(Futures.<String>immediateFailedFuture(failure));
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> Futures.getDone(future));
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+  }
+
+  @Test
+  public void completeWith_doneInput_copiesCancellation() {
+    future.completeWith(Futures.<String>immediateCancelledFuture());
+
+    assertThat(future.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void completeWith_pendingInput_completesWhenInputDoes() throws Exception {
+    SettableFuture<String> input = SettableFuture.create();
+    future.completeWith(input);
+    assertThat(future.isDone()).isFalse();
+
+    input.set("value");
+
+    assertThat(Futures.getDone(future)).isEqualTo("value");
+  }
+
+  @Test
+  public void completeWith_pendingInput_failsWhenInputFails() {
+    SettableFuture<String> input = SettableFuture.create();
+    future.completeWith(input);
+    IllegalStateException failure = new IllegalStateException("expected");
+
+    input.setException(failure);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> Futures.getDone(future));
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+  }
+
+  @Test
+  public void cancel_doesNotCancel() {
+    SettableFuture<String> input = SettableFuture.create();
+    future.completeWith(input);
+
+    assertThat(future.cancel(true)).isFalse();
+
+    assertThat(future.isDone()).isFalse();
+    assertThat(input.isCancelled()).isFalse();
+  }
+
+  @Test
+  public void doCancel_whilePending_cancelsInput() {
+    PendingFuture<String> input = new PendingFuture<>();
+    future.completeWith(input);
+
+    future.doCancel(true);
+
+    assertThat(future.isCancelled()).isTrue();
+    assertThat(input.isCancelled()).isTrue();
+    assertThat(input.interrupted()).isTrue();
+  }
+
+  @Test
+  public void doCancel_withoutInterruption_cancelsInputWithoutInterruption() {
+    PendingFuture<String> input = new PendingFuture<>();
+    future.completeWith(input);
+
+    future.doCancel(false);
+
+    assertThat(input.isCancelled()).isTrue();
+    assertThat(input.interrupted()).isFalse();
+  }
+
+  @Test
+  public void completeWith_afterDone_cancelsInput() {
+    future.doCancel(false);
+    SettableFuture<String> input = SettableFuture.create();
+
+    future.completeWith(input);
+
+    assertThat(input.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void failAfter_pendingInput_failsAndCancelsInput() throws Exception {
+    SettableFuture<String> input = SettableFuture.create();
+    CountDownLatch done = new CountDownLatch(1);
+    future.addListener(done::countDown, Runnable::run);
+    future.completeWith(input);
+
+    ProducerTimeouts.failAfter(future, MILLISECONDS.toNanos(1), "producer");
+
+    assertThat(done.await(10, SECONDS)).isTrue();
+    ExecutionException e = assertThrows(ExecutionException.class, () -> Futures.getDone(future));
+    assertThat(e).hasCauseThat().isInstanceOf(TimeoutException.class);
+    assertThat(input.isCancelled()).isTrue();
+  }
+
+  @Test
+  public void failAfter_completedFirst_keepsValue() throws Exception {
+    SettableFuture<String> input = SettableFuture.create();
+    future.completeWith(input);
+    ProducerTimeouts.failAfter(future, MILLISECONDS.toNanos(1), "producer");
+
+    input.set("value");
+    Thread.sleep(10);
+
+    assertThat(Futures.getDone(future)).isEqualTo("value");
+  }
+
+  @Test
+  public void failAfter_racingCompletion_completesOnce() throws Exception {
+    for (int i = 0; i < 1000; i++) {
+      ProducerFuture<String> future = new ProducerFuture<>();
+      SettableFuture<String> input = SettableFuture.create();
+      CountDownLatch done = new CountDownLatch(1);
+      future.addListener(done::countDown, Runnable::run);
+      future.completeWith(input);
+
+      ProducerTimeouts.failAfter(future, 1, "producer");
+      boolean inputWon = input.set("value");
+
+      assertThat(done.await(10, SECONDS)).isTrue();
+      try {
+        assertThat(Futures.getDone(future)).isEqualTo("value");
+        assertThat(inputWon).isTrue();
+      } catch (ExecutionException e) {
+        assertThat(e).hasCauseThat().isInstanceOf(TimeoutException.class);
+        // The input is either cancelled by the timeout or had already been set, too late.
+        assertThat(input.isDone()).isTrue();
+      }
+    }
+  }
+
+  @Test
+  public void doCancel_afterSet_hasNoEffect() throws Exception {
+    future.set("value");
+
+    future.doCancel(true);
+
+    assertThat(Futures.getDone(future)).isEqualTo("value");
+  }
+
+  @Test
+  public void doCancel_cancels() {
+    future.doCancel(false);
+
+    assertThrows(CancellationException.class, () -> Futures.getDone(future));
+  }
+}
@@ -21,8 +21,10 @@ import static org.junit.Assert.fail;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import dagger.producers.Producer;
 import dagger.producers.Producers;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -91,4 +93,25 @@ public class SetProducerTest {
       assertThat(e).hasCauseThat().isInstanceOf(NullPointerException.class);
     }
   }
+
+  @Test
+  public void pendingDelegateElementNpe() throws Exception {
+    SettableFuture<Collection<? extends Integer>> pending = SettableFuture.create();
+    Producer<Set<Integer>> producer =
+        SetProducer.<Integer>builder(0, 2)
+            .addCollectionProducer(Producers.<Set<Integer>>immediateProducer(ImmutableSet.of(1, 2)))
+            .addCollectionProducer(() -> pending)
+            .build();
+    ListenableFuture<Set<Integer>> future = producer.get();
+    assertThat(future.isDone()).isFalse();
+
+    pending.set(Collections.<Integer>singleton(null));
+
+    try {
+      future.get();
+      fail();
+    } catch (ExecutionException e) {
+      assertThat(e).hasCauseThat().isInstanceOf(NullPointerException.class);
+    }
+  }
 }
@@ -25,9 +25,12 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import dagger.producers.internal.CancellationListener;
 import dagger.producers.monitoring.ProducerMonitor;
 import dagger.producers.monitoring.ProducerToken;
 import dagger.producers.monitoring.ProductionComponentMonitor;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -467,6 +470,55 @@ public final class MonitorsTest {
     verifyNoMoreInteractions(mockProducerMonitorA, mockProducerMonitorB, mockProducerMonitorC);
   }
 
+  @Test
+  public void componentCancelled_reachesCancellationListeners() {
+    CancellationListeningMonitor listeningMonitor = new CancellationListeningMonitor();
+    when(mockProductionComponentMonitorFactoryA.create(any(Object.class)))
+        .thenReturn(listeningMonitor);
+    when(mockProductionComponentMonitorFactoryB.create(any(Object.class)))
+        .thenReturn(mockProductionComponentMonitorB);
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(
+                mockProductionComponentMonitorFactoryA, mockProductionComponentMonitorFactoryB));
+
+    Monitors.componentCancelled(factory.create(new Object()), true);
+
+    assertThat(listeningMonitor.cancellations).containsExactly(true);
+  }
+
+  @Test
+  public void componentCancelled_throwingListener() {
+    when(mockProductionComponentMonitorFactory.create(any(Object.class)))
+        .thenReturn(
+            new CancellationListeningMonitor() {
+              @Override
+              public void onProducerFutureCancelled(boolean mayInterruptIfRunning) {
+                throw new RuntimeException("monkey");
+              }
+            });
+    ProductionComponentMonitor.Factory factory =
+        Monitors.delegatingProductionComponentMonitorFactory(
+            ImmutableList.of(mockProductionComponentMonitorFactory));
+
+    Monitors.componentCancelled(factory.create(new Object()), false);
+  }
+
+  private static class CancellationListeningMonitor extends ProductionComponentMonitor
+      implements CancellationListener {
+    final List<Boolean> cancellations = new ArrayList<>();
+
+    @Override
+    public ProducerMonitor producerMonitorFor(ProducerToken token) {
+      return ProducerMonitor.noOp();
+    }
+
+    @Override
+    public void onProducerFutureCancelled(boolean mayInterruptIfRunning) {
+      cancellations.add(mayInterruptIfRunning);
+    }
+  }
+
   private void setUpNormalSingleMonitor() {
     when(mockProductionComponentMonitorFactory.create(any(Object.class)))
         .thenReturn(mockProductionComponentMonitor);
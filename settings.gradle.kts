@@ -28,6 +28,8 @@ fun includeProject(name: String, path: String) {
 
 includeProject(":dagger", "dagger-runtime")
 
+includeProject(":dagger-runtime-benchmarks", "dagger-runtime-benchmarks")
+
 includeProject(":dagger-android", "dagger-android")
 
 includeProject(":dagger-android-support", "dagger-android-support")